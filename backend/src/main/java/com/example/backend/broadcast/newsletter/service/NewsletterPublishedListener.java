@@ -1,11 +1,9 @@
 package com.example.backend.broadcast.newsletter.service;
 
 import com.example.backend.broadcast.newsletter.dto.event.NewsletterPublishedEvent;
-import com.example.backend.member.service.MemberService;
 import com.example.backend.notification.dto.request.NotificationDTO;
 import com.example.backend.notification.entity.NotificationType;
-import com.example.backend.notification.service.NotificationService;
-import com.example.backend.notification.service.NotificationSettingService;
+import com.example.backend.notification.service.NotificationBroadcastService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -13,36 +11,25 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.List;
-
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class NewsletterPublishedListener {
 
-    private final NotificationService notificationService;
-    private final NotificationSettingService notificationSettingService;
-    private final MemberService memberService;
+    private final NotificationBroadcastService notificationBroadcastService;
 
     @Async // 메인스레드와 분리되어 백그라운드에서 알림이 발송된다.
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handle(NewsletterPublishedEvent event) {
 
-        // 모든 활동중인 회원들 List<Long> 으로 가져오기
-        List<Long> activeMemberIds = memberService.findAllNonAdminMemberIds();
-
-        // 뉴스레터 알림 켜져있는 회원들만 다시 List<Long>으로 가져오기
-        List<Long> targetMemberIds = notificationSettingService.getTargetMemberIds(activeMemberIds, NotificationType.NEWS_LETTER);
+        NotificationDTO notificationDTO = NotificationDTO.create(
+                null,
+                NotificationType.NEWS_LETTER,
+                "새 공지가 등록되었습니다.",
+                event.getTitle(),
+                event.getNewsletterId());
 
-        // 그 회원들로 iter
-        for (Long memberId : targetMemberIds) {
-            NotificationDTO notificationDTO = NotificationDTO.create(
-                    memberId,
-                    NotificationType.NEWS_LETTER,
-                    "새 공지가 등록되었습니다.",
-                    event.getTitle(),
-                    event.getNewsletterId());
-            notificationService.createNotification(notificationDTO);
-        }
+        // 뉴스레터 알림 켜져있는 회원들에게 회원 ID 순으로 chunk 단위 발송 (중단 시 이어서 발송)
+        notificationBroadcastService.broadcast("NEWSLETTER:" + event.getNewsletterId(), NotificationType.NEWS_LETTER, notificationDTO);
     }
 }
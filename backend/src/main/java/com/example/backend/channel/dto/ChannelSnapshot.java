@@ -0,0 +1,29 @@
+package com.example.backend.channel.dto;
+
+import com.example.backend.channel.entity.Channel;
+import com.example.backend.channel.entity.ChannelCategory;
+
+/**
+ * 채널 캐시 값
+ * 자주 바뀌는 구독자 수는 포함하지 않는다.
+ */
+public record ChannelSnapshot(
+        Long id,
+        Long creatorId,
+        String title,
+        String thumbnailUrl,
+        ChannelCategory category,
+        boolean active
+) {
+
+    public static ChannelSnapshot from(Channel channel) {
+        return new ChannelSnapshot(
+                channel.getId(),
+                channel.getCreatorId(),
+                channel.getTitle(),
+                channel.getThumbnailUrl(),
+                channel.getCategory(),
+                channel.isActive()
+        );
+    }
+}
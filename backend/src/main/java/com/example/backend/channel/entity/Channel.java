@@ -5,7 +5,12 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "channels")
+@Table(name = "channels",
+        indexes = {
+                // 인기순(구독자 수) 채널 목록: 활성 채널을 subscriber_count 역순으로 바로 읽음
+                @Index(name = "idx_channels_active_subscriber", columnList = "is_active, subscriber_count, created_at"),
+                @Index(name = "idx_channels_category_active_subscriber", columnList = "category, is_active, subscriber_count, created_at")
+        })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder(access = AccessLevel.PRIVATE)
@@ -32,7 +37,8 @@ public class Channel extends AuditableEntity {
     @Column(nullable = false)
     private ChannelCategory category;
 
-    @Column(nullable = false)
+    // 구독/취소/만료 시 ChannelRepository의 원자적 UPDATE로만 증감 (엔티티 변경 감지로 쓰지 않아 동시 증감 결과를 덮어쓰지 않음)
+    @Column(nullable = false, updatable = false)
     private int subscriberCount;
 
     @Column(nullable = false)
@@ -70,14 +76,4 @@ public class Channel extends AuditableEntity {
     public void deactivate() {
         this.isActive = false;
     }
-
-    public void increaseSubscriber() {
-        this.subscriberCount++;
-    }
-
-    public void decreaseSubscriber() {
-        if (this.subscriberCount > 0) {
-            this.subscriberCount--;
-        }
-    }
 }
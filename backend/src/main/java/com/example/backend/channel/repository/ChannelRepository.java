@@ -2,10 +2,10 @@ package com.example.backend.channel.repository;
 
 import com.example.backend.channel.entity.Channel;
 import com.example.backend.channel.entity.ChannelCategory;
-import com.example.backend.subscription.entity.SubscriptionStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -24,20 +24,37 @@ public interface ChannelRepository extends JpaRepository<Channel, Long> {
             Pageable pageable
     );
 
+    // 구독자 수 증가 (구독 시작)
+    @Modifying
+    @Query("update Channel c set c.subscriberCount = c.subscriberCount + 1 where c.id = :channelId")
+    int increaseSubscriberCount(@Param("channelId") Long channelId);
+
+    // 구독자 수 감소 (구독 취소/만료), 0 미만으로 내려가지 않도록 보정
+    @Modifying
     @Query("""
-        select c from Channel c
-        left join Subscription s
-            on s.channelId = c.id and s.status = :status
-        where c.isActive = true
-          and (:category is null or c.category = :category)
-        group by c.id
-        order by count(s.id) desc, c.createdAt desc
+        update Channel c
+        set c.subscriberCount = case when c.subscriberCount > :amount then c.subscriberCount - :amount else 0 end
+        where c.id = :channelId
     """)
-    Page<Channel> findActiveChannelsOrderBySubscriberCount(
-            @Param("category") ChannelCategory category,
-            @Param("status") SubscriptionStatus status,
-            Pageable pageable
-    );
+    int decreaseSubscriberCount(@Param("channelId") Long channelId, @Param("amount") int amount);
+
+    /**
+     * 구독자 수 재계산
+     * ACTIVE 구독 건수와 어긋난 채널만 갱신하고, 갱신된 채널 수를 반환한다.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE channels c
+        LEFT JOIN (
+            SELECT s.channel_id, COUNT(*) AS cnt
+            FROM subscriptions s
+            WHERE s.status = 'ACTIVE'
+            GROUP BY s.channel_id
+        ) active ON active.channel_id = c.id
+        SET c.subscriber_count = COALESCE(active.cnt, 0)
+        WHERE c.subscriber_count <> COALESCE(active.cnt, 0)
+        """, nativeQuery = true)
+    int reconcileSubscriberCounts();
 
     Optional<Channel> findOneByCreatorId(Long creatorId);
 }
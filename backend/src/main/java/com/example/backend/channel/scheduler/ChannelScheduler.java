@@ -0,0 +1,38 @@
+package com.example.backend.channel.scheduler;
+
+import com.example.backend.channel.service.ChannelService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채널 스케줄러
+ * 구독/취소/만료 시 증감되는 구독자 수를 ACTIVE 구독 건수 기준으로 주기적으로 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChannelScheduler {
+
+    private final ChannelService channelService;
+
+    /**
+     * 구독자 수 보정
+     * 기동 직후 한 번 실행되어 기존 채널의 구독자 수를 채우고, 이후 1시간마다 어긋난 채널만 갱신
+     */
+    @Scheduled(
+            initialDelayString = "${channel.subscriber-count.reconcile-initial-delay-ms:10000}",
+            fixedDelayString = "${channel.subscriber-count.reconcile-interval-ms:3600000}"
+    )
+    public void reconcileSubscriberCounts() {
+        try {
+            int updated = channelService.reconcileSubscriberCounts();
+            if (updated > 0) {
+                log.info("채널 구독자 수 보정 완료 - {}개 채널", updated);
+            }
+        } catch (Exception e) {
+            log.error("채널 구독자 수 보정 중 오류 발생", e);
+        }
+    }
+}
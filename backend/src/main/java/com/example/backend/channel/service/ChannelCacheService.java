@@ -0,0 +1,41 @@
+package com.example.backend.channel.service;
+
+import com.example.backend.channel.dto.ChannelSnapshot;
+import com.example.backend.channel.entity.Channel;
+import com.example.backend.channel.repository.ChannelRepository;
+import com.example.backend.global.cache.CacheRegion;
+import com.example.backend.global.cache.CacheRegionManager;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 채널 조회 캐시 (channelId / creatorId 기준)
+ * 채널 수정, 썸네일 변경, 비활성화 시 evict로 무효화한다.
+ */
+@Service
+public class ChannelCacheService {
+
+    private final ChannelRepository channelRepository;
+    private final CacheRegion<ChannelSnapshot> channels;
+    private final CacheRegion<ChannelSnapshot> channelsByCreator;
+
+    public ChannelCacheService(ChannelRepository channelRepository, CacheRegionManager cacheRegionManager) {
+        this.channelRepository = channelRepository;
+        this.channels = cacheRegionManager.register("channel", ChannelSnapshot.class);
+        this.channelsByCreator = cacheRegionManager.register("channel-by-creator", ChannelSnapshot.class);
+    }
+
+    public Optional<ChannelSnapshot> findById(Long channelId) {
+        return channels.get(channelId, id -> channelRepository.findById(id).map(ChannelSnapshot::from));
+    }
+
+    public Optional<ChannelSnapshot> findByCreatorId(Long creatorId) {
+        return channelsByCreator.get(creatorId, id -> channelRepository.findOneByCreatorId(id).map(ChannelSnapshot::from));
+    }
+
+    public void evict(Channel channel) {
+        channels.evict(channel.getId());
+        channelsByCreator.evict(channel.getCreatorId());
+    }
+}
@@ -114,4 +114,14 @@ public interface ChannelService {
      * @return 채널 목록 페이지
      */
     Page<ChannelListResponse> getChannelList(ChannelCategory category, Pageable pageable);
+
+    /**
+     * 구독자 수 재계산
+     *
+     * - 구독/취소/만료 시 증감되는 channels.subscriber_count를 ACTIVE 구독 건수와 맞춤
+     * - 누락된 증감이나 수동 데이터 변경으로 생긴 오차를 주기적으로 바로잡기 위해 사용
+     *
+     * @return 보정된 채널 수
+     */
+    int reconcileSubscriberCounts();
 }
@@ -8,8 +8,8 @@ import com.example.backend.channel.entity.Channel;
 import com.example.backend.channel.entity.ChannelCategory;
 import com.example.backend.channel.repository.ChannelRepository;
 import com.example.backend.channel.validator.ChannelValidator;
-import com.example.backend.creator.entity.Creator;
-import com.example.backend.creator.repository.CreatorRepository;
+import com.example.backend.creator.dto.CreatorSnapshot;
+import com.example.backend.creator.service.CreatorCacheService;
 import com.example.backend.global.exception.BusinessException;
 import com.example.backend.global.exception.ErrorCode;
 import com.example.backend.subscription.entity.SubscriptionStatus;
@@ -18,6 +18,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -37,7 +38,8 @@ public class ChannelServiceImpl implements ChannelService {
     private final ChannelRepository channelRepository;
     private final ChannelValidator channelValidator;
     private final SubscriptionRepository subscriptionRepository;
-    private final CreatorRepository creatorRepository;
+    private final ChannelCacheService channelCacheService;
+    private final CreatorCacheService creatorCacheService;
 
     //채널 생성
     @Override
@@ -89,6 +91,7 @@ public class ChannelServiceImpl implements ChannelService {
                 request.getThumbnailUrl(),
                 request.getCategory()
         );
+        channelCacheService.evict(channel);
     }
 
     @Override
@@ -135,6 +138,7 @@ public class ChannelServiceImpl implements ChannelService {
                 .path(storedUrl)
                 .toUriString();
         channel.updateThumbnail(resolvedUrl);
+        channelCacheService.evict(channel);
         return resolvedUrl;
     }
 
@@ -155,6 +159,7 @@ public class ChannelServiceImpl implements ChannelService {
         }
 
         channel.deactivate();
+        channelCacheService.evict(channel);
     }
 
     //내 채널 조회
@@ -191,20 +196,16 @@ public class ChannelServiceImpl implements ChannelService {
                         SubscriptionStatus.ACTIVE
                 );
 
-        int subscriberCount = subscriptionRepository
-                .findByChannelIdAndStatus(channelId, SubscriptionStatus.ACTIVE)
-                .size();
-
-        Creator creator = creatorRepository.findById(channel.getCreatorId())
+        CreatorSnapshot creator = creatorCacheService.findById(channel.getCreatorId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.CREATOR_NOT_FOUND));
 
         return new ChannelDetailResponse(
-                creator.getId(),
-                creator.getMember().getNickname(),
+                creator.id(),
+                creator.nickname(),
                 channel.getTitle(),
                 channel.getDescription(),
                 channel.getThumbnailUrl(),
-                subscriberCount,
+                channel.getSubscriberCount(),
                 subscribed
         );
     }
@@ -231,20 +232,16 @@ public class ChannelServiceImpl implements ChannelService {
                         SubscriptionStatus.ACTIVE
                 );
 
-        int subscriberCount = subscriptionRepository
-                .findByChannelIdAndStatus(channel.getId(), SubscriptionStatus.ACTIVE)
-                .size();
-
-        Creator creator = creatorRepository.findById(channel.getCreatorId())
+        CreatorSnapshot creator = creatorCacheService.findById(channel.getCreatorId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.CREATOR_NOT_FOUND));
 
         return new ChannelDetailResponse(
-                creator.getId(),
-                creator.getMember().getNickname(),
+                creator.id(),
+                creator.nickname(),
                 channel.getTitle(),
                 channel.getDescription(),
                 channel.getThumbnailUrl(),
-                subscriberCount,
+                channel.getSubscriberCount(),
                 subscribed
         );
     }
@@ -269,22 +266,20 @@ public class ChannelServiceImpl implements ChannelService {
             throw new BusinessException(ErrorCode.INVALID_REQUEST);
         }
 
-        Page<Channel> channels;
-        boolean isPopularSort = pageable.getSort().getOrderFor("subscriberCount") != null;
-
-        if (isPopularSort) {
-            Pageable noSortPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
-            channels = channelRepository.findActiveChannelsOrderBySubscriberCount(
-                    category,
-                    SubscriptionStatus.ACTIVE,
-                    noSortPageable
+        // 인기순은 구독자 수가 같으면 최신 채널 우선 (channels 인덱스 순서와 동일)
+        Pageable resolvedPageable = pageable;
+        if (pageable.getSort().getOrderFor("subscriberCount") != null) {
+            resolvedPageable = PageRequest.of(
+                    pageable.getPageNumber(),
+                    pageable.getPageSize(),
+                    Sort.by(Sort.Direction.DESC, "subscriberCount", "createdAt")
             );
-        } else if (category == null) {
-            channels = channelRepository.findByIsActiveTrue(pageable);
-        } else {
-            channels = channelRepository.findByCategoryAndIsActiveTrue(category, pageable);
         }
 
+        Page<Channel> channels = (category == null)
+                ? channelRepository.findByIsActiveTrue(resolvedPageable)
+                : channelRepository.findByCategoryAndIsActiveTrue(category, resolvedPageable);
+
         return channels.map(channel ->
                 new ChannelListResponse(
                         channel.getId(),
@@ -296,4 +291,10 @@ public class ChannelServiceImpl implements ChannelService {
                 )
         );
     }
+
+    // 구독자 수 재계산
+    @Override
+    public int reconcileSubscriberCounts() {
+        return channelRepository.reconcileSubscriberCounts();
+    }
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package com.example.backend.channel.validator;
 
-import com.example.backend.channel.entity.Channel;
-import com.example.backend.channel.repository.ChannelRepository;
+import com.example.backend.channel.dto.ChannelSnapshot;
+import com.example.backend.channel.service.ChannelCacheService;
 import com.example.backend.global.exception.BusinessException;
 import com.example.backend.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -11,11 +11,11 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ChannelValidatorImpl implements ChannelValidator {
 
-    private final ChannelRepository channelRepository;
+    private final ChannelCacheService channelCacheService;
 
     @Override
     public void validateChannel(Long channelId) {
-        channelRepository.findById(channelId)
+        channelCacheService.findById(channelId)
                 .orElseThrow(() ->
                         new BusinessException(ErrorCode.CHANNEL_NOT_FOUND)
                 );
@@ -23,24 +23,24 @@ public class ChannelValidatorImpl implements ChannelValidator {
 
     @Override
     public void validateActive(Long channelId) {
-        Channel channel = channelRepository.findById(channelId)
+        ChannelSnapshot channel = channelCacheService.findById(channelId)
                 .orElseThrow(() ->
                         new BusinessException(ErrorCode.CHANNEL_NOT_FOUND)
                 );
 
-        if (!channel.isActive()) {
+        if (!channel.active()) {
             throw new BusinessException(ErrorCode.CHANNEL_INACTIVE);
         }
     }
 
     @Override
     public void validateOwner(Long creatorId, Long channelId) {
-        Channel channel = channelRepository.findById(channelId)
+        ChannelSnapshot channel = channelCacheService.findById(channelId)
                 .orElseThrow(() ->
                         new BusinessException(ErrorCode.CHANNEL_NOT_FOUND)
                 );
 
-        if (!channel.getCreatorId().equals(creatorId)) {
+        if (!channel.creatorId().equals(creatorId)) {
             throw new BusinessException(ErrorCode.CHANNEL_OWNER_MISMATCH);
         }
     }
@@ -1,10 +1,12 @@
 package com.example.backend.content.controller;
 
 import com.example.backend.content.dto.ContentCreateRequestDTO;
+import com.example.backend.content.dto.ContentFeedResponseDTO;
 import com.example.backend.content.dto.ContentListResponseDTO;
 import com.example.backend.content.dto.ContentResponseDTO;
 import com.example.backend.content.dto.ContentUpdateRequestDTO;
 import com.example.backend.content.entity.AccessType;
+import com.example.backend.content.entity.ContentFeedSort;
 import com.example.backend.content.entity.ContentType;
 import com.example.backend.content.service.ContentService;
 import com.example.backend.global.security.CustomUserDetails;
@@ -176,6 +178,32 @@ public class ContentController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 콘텐츠 피드 조회 (커서 기반 무한 스크롤)
+     * GET /api/contents/feed
+     * 권한: 비회원, 일반유저, 크리에이터, 관리자
+     * query 파라미터: channelId, contentType, accessType, sort(LATEST, VIEW_COUNT, LIKE_COUNT), cursor, size
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<ContentFeedResponseDTO> getContentFeed(
+            @RequestParam(required = false) Long channelId,
+            @RequestParam(required = false) ContentType contentType,
+            @RequestParam(required = false) AccessType accessType,
+            @RequestParam(defaultValue = "LATEST") ContentFeedSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        ContentFeedResponseDTO response = contentService.getContentFeed(
+                channelId,
+                contentType,
+                accessType,
+                sort,
+                cursor,
+                Math.min(Math.max(size, 1), 100)
+        );
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 채널의 대표 콘텐츠 3개 조회 (조회수 높은 순)
      * GET /api/contents/channels/{channelId}/featured
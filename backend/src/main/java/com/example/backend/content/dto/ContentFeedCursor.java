@@ -0,0 +1,51 @@
+package com.example.backend.content.dto;
+
+import com.example.backend.content.entity.Content;
+import com.example.backend.content.entity.ContentFeedSort;
+import com.example.backend.global.exception.BusinessException;
+import com.example.backend.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 콘텐츠 피드 커서 (마지막으로 내려준 콘텐츠의 정렬 키 + id)
+ * LATEST: publishedAt, VIEW_COUNT: viewCount, LIKE_COUNT: likeCount
+ * 클라이언트에는 Base64(URL-safe) 문자열로 전달한다.
+ */
+public record ContentFeedCursor(
+        LocalDateTime publishedAt,
+        Long count,
+        Long id
+) {
+
+    public static ContentFeedCursor from(Content content, ContentFeedSort sort) {
+        return switch (sort) {
+            case LATEST -> new ContentFeedCursor(content.getPublishedAt(), null, content.getId());
+            case VIEW_COUNT -> new ContentFeedCursor(null, content.getViewCount(), content.getId());
+            case LIKE_COUNT -> new ContentFeedCursor(null, content.getLikeCount(), content.getId());
+        };
+    }
+
+    public static ContentFeedCursor decode(String cursor, ContentFeedSort sort) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('_');
+            String value = decoded.substring(0, separator);
+            Long id = Long.valueOf(decoded.substring(separator + 1));
+
+            return sort == ContentFeedSort.LATEST
+                    ? new ContentFeedCursor(LocalDateTime.parse(value), null, id)
+                    : new ContentFeedCursor(null, Long.valueOf(value), id);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    public String encode() {
+        String value = publishedAt != null ? publishedAt.toString() : String.valueOf(count);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((value + "_" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
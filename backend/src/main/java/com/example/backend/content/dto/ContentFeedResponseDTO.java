@@ -0,0 +1,15 @@
+package com.example.backend.content.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ContentFeedResponseDTO {
+
+    private List<ContentListResponseDTO> contents;
+    private String nextCursor;  // 다음 페이지 요청 시 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
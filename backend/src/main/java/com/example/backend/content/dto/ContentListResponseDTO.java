@@ -23,8 +23,13 @@ public class ContentListResponseDTO {
     private Long likeCount;
     private LocalDateTime publishedAt;
     private LocalDateTime createdAt;
+    private Boolean hasAccess;  // 회원 기준 목록에서만 채워짐 (그 외 null)
 
     public static ContentListResponseDTO from(Content content) {
+        return from(content, null);
+    }
+
+    public static ContentListResponseDTO from(Content content, Boolean hasAccess) {
         return ContentListResponseDTO.builder()
                 .contentId(content.getId())
                 .channelId(content.getChannel().getId())
@@ -37,6 +42,7 @@ public class ContentListResponseDTO {
                 .likeCount(content.getLikeCount())
                 .publishedAt(content.getPublishedAt())
                 .createdAt(content.getCreatedAt())
+                .hasAccess(hasAccess)
                 .build();
     }
 }
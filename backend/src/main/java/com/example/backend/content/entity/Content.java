@@ -9,7 +9,20 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "contents")
+@Table(
+        name = "contents",
+        indexes = {
+                // 목록/피드: 게시 여부 필터 + (publishedAt, id) keyset
+                @Index(name = "idx_contents_feed", columnList = "is_deleted, is_published, published_at, id"),
+                @Index(name = "idx_contents_channel_feed", columnList = "channel_id, is_deleted, is_published, published_at, id"),
+                @Index(name = "idx_contents_type_feed", columnList = "content_type, is_deleted, is_published, published_at"),
+                @Index(name = "idx_contents_access_feed", columnList = "access_type, is_deleted, is_published, published_at"),
+                // 조회수/좋아요순 피드 (채널 대표 콘텐츠 포함)
+                @Index(name = "idx_contents_channel_view", columnList = "channel_id, is_deleted, view_count, id"),
+                @Index(name = "idx_contents_view", columnList = "is_deleted, view_count, id"),
+                @Index(name = "idx_contents_like", columnList = "is_deleted, like_count, id")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,10 @@
+package com.example.backend.content.entity;
+
+/**
+ * 콘텐츠 피드 정렬 기준 (모두 내림차순, 동률은 id 내림차순)
+ */
+public enum ContentFeedSort {
+    LATEST,
+    VIEW_COUNT,
+    LIKE_COUNT
+}
@@ -37,6 +37,10 @@ public class ContentView {
     @Column(name = "last_viewed_at", nullable = false)
     private LocalDateTime lastViewedAt;
 
+    // 일괄 저장 시 호출마다 부여하는 값 (드라이버가 행별 저장 건수를 알려주지 않을 때 이번 호출이 저장한 행을 구분)
+    @Column(name = "insert_token")
+    private Long insertToken;
+
     public void updateLastViewedAt(LocalDateTime viewedAt) {
         this.lastViewedAt = viewedAt;
     }
@@ -1,62 +1,25 @@
 package com.example.backend.content.repository;
 
-import com.example.backend.content.entity.AccessType;
 import com.example.backend.content.entity.Content;
-import com.example.backend.content.entity.ContentType;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ContentRepository extends JpaRepository<Content, Long> {
+// 목록/피드는 ContentSpecifications 조건으로 JpaSpecificationExecutor를 통해 조회
+public interface ContentRepository extends JpaRepository<Content, Long>, JpaSpecificationExecutor<Content> {
     
     // 삭제되지 않은 콘텐츠 조회
     @Query("SELECT c FROM Content c JOIN FETCH c.channel WHERE c.id = :id AND c.isDeleted = false")
     Optional<Content> findByIdAndIsDeletedFalse(@Param("id") Long id);
     
-    // 삭제되지 않은 콘텐츠 목록 조회
-    @Query("SELECT c FROM Content c JOIN FETCH c.channel WHERE c.isDeleted = false")
-    Page<Content> findByIsDeletedFalse(Pageable pageable);
-    
-    // 콘텐츠 타입으로 필터링
-    @Query("SELECT c FROM Content c JOIN FETCH c.channel WHERE c.contentType = :contentType AND c.isDeleted = false")
-    Page<Content> findByContentTypeAndIsDeletedFalse(@Param("contentType") ContentType contentType, Pageable pageable);
-    
-    // 접근 타입으로 필터링
-    @Query("SELECT c FROM Content c JOIN FETCH c.channel WHERE c.accessType = :accessType AND c.isDeleted = false")
-    Page<Content> findByAccessTypeAndIsDeletedFalse(@Param("accessType") AccessType accessType, Pageable pageable);
-    
-    // 콘텐츠 타입과 접근 타입으로 필터링
-    @Query("SELECT c FROM Content c JOIN FETCH c.channel WHERE c.contentType = :contentType AND c.accessType = :accessType AND c.isDeleted = false")
-    Page<Content> findByContentTypeAndAccessTypeAndIsDeletedFalse(
-            @Param("contentType") ContentType contentType, 
-            @Param("accessType") AccessType accessType, 
-            Pageable pageable
-    );
-    
-    // 채널별 목록 조회 (channel.id 사용)
-    @Query("SELECT c FROM Content c JOIN FETCH c.channel WHERE c.channel.id = :channelId AND c.isDeleted = false")
-    Page<Content> findByChannelIdAndIsDeletedFalse(@Param("channelId") Long channelId, Pageable pageable);
-    
-    @Query("SELECT c FROM Content c JOIN FETCH c.channel WHERE c.channel.id = :channelId AND c.contentType = :contentType AND c.isDeleted = false")
-    Page<Content> findByChannelIdAndContentTypeAndIsDeletedFalse(@Param("channelId") Long channelId, @Param("contentType") ContentType contentType, Pageable pageable);
-    
-    @Query("SELECT c FROM Content c JOIN FETCH c.channel WHERE c.channel.id = :channelId AND c.accessType = :accessType AND c.isDeleted = false")
-    Page<Content> findByChannelIdAndAccessTypeAndIsDeletedFalse(@Param("channelId") Long channelId, @Param("accessType") AccessType accessType, Pageable pageable);
-    
-    @Query("SELECT c FROM Content c JOIN FETCH c.channel WHERE c.channel.id = :channelId AND c.contentType = :contentType AND c.accessType = :accessType AND c.isDeleted = false")
-    Page<Content> findByChannelIdAndContentTypeAndAccessTypeAndIsDeletedFalse(@Param("channelId") Long channelId, @Param("contentType") ContentType contentType, @Param("accessType") AccessType accessType, Pageable pageable);
-    
-    // 채널별 대표 콘텐츠 조회 (조회수 높은 순)
-    @Query("SELECT c FROM Content c JOIN FETCH c.channel WHERE c.channel.id = :channelId AND c.isDeleted = false ORDER BY c.viewCount DESC")
-    Page<Content> findTop3ByChannelIdAndIsDeletedFalseOrderByViewCountDesc(@Param("channelId") Long channelId, Pageable pageable);
-    
     // 총 콘텐츠 수 (삭제되지 않은 것만)
     long countByIsDeletedFalse();
     
@@ -77,8 +40,36 @@ public interface ContentRepository extends JpaRepository<Content, Long> {
     @Query("SELECT COUNT(c) FROM Content c WHERE c.channel.id = :channelId AND c.publishedAt BETWEEN :startDate AND :endDate AND c.isDeleted = false")
     long countByChannelIdAndPublishedAtBetweenAndIsDeletedFalse(@Param("channelId") Long channelId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
     
-    // 예약 발행 대기 중인 콘텐츠 조회 (publishedAt이 null이 아니고 현재 시점 이하이며, 아직 발행되지 않은 것)
-    @Query("SELECT c FROM Content c JOIN FETCH c.channel WHERE c.publishedAt IS NOT NULL AND c.publishedAt <= :now AND c.isPublished = false AND c.isDeleted = false")
-    List<Content> findScheduledContentsToPublish(@Param("now") LocalDateTime now);
-    
+    // 예약 발행 대기 중인 콘텐츠 조회 (발행 시각이 until 이전이고 아직 발행되지 않은 것, 발행 시각순)
+    @Query("""
+        SELECT c.id AS contentId, ch.creatorId AS creatorId, c.publishedAt AS publishedAt
+        FROM Content c JOIN c.channel ch
+        WHERE c.publishedAt <= :until
+        AND c.isPublished = false
+        AND c.isDeleted = false
+        ORDER BY c.publishedAt ASC
+    """)
+    List<ScheduledPublication> findScheduledPublications(@Param("until") LocalDateTime until, Pageable pageable);
+
+    // 지연 큐에서 꺼낸 콘텐츠 중 실제 발행 대상 (발행 시각 도래, 미발행, 미삭제)
+    // 발행할 콘텐츠 행을 잠그고, 다른 노드가 잠근 행은 건너뜀 (같은 콘텐츠를 두 노드가 함께 발행하지 않도록)
+    @Query(value = """
+        SELECT c.id AS contentId, ch.creator_id AS creatorId, c.published_at AS publishedAt
+        FROM contents c JOIN channels ch ON ch.id = c.channel_id
+        WHERE c.id IN (:ids)
+        AND c.published_at <= :now
+        AND c.is_published = false
+        AND c.is_deleted = false
+        FOR UPDATE OF c SKIP LOCKED
+    """, nativeQuery = true)
+    List<ScheduledPublication> findScheduledPublicationsByIdsForUpdate(
+            @Param("ids") Collection<Long> ids,
+            @Param("now") LocalDateTime now
+    );
+
+    // 예약 발행 상태 일괄 변경 (이미 발행된 콘텐츠는 건너뜀)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Content c SET c.isPublished = true WHERE c.id IN :ids AND c.isPublished = false")
+    int markPublished(@Param("ids") Collection<Long> ids);
+
 }
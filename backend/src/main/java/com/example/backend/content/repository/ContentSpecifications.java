@@ -0,0 +1,95 @@
+package com.example.backend.content.repository;
+
+import com.example.backend.content.dto.ContentFeedCursor;
+import com.example.backend.content.entity.AccessType;
+import com.example.backend.content.entity.Content;
+import com.example.backend.content.entity.ContentFeedSort;
+import com.example.backend.content.entity.ContentType;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 콘텐츠 목록/피드 동적 조회 조건
+ * 삭제 여부와 게시 여부(isPublished, publishedAt <= now)를 SQL에서 거르고, 필터가 없으면 조건을 생략한다.
+ */
+public final class ContentSpecifications {
+
+    private ContentSpecifications() {
+    }
+
+    /**
+     * 게시된 콘텐츠 목록 조건 (channelId, contentType, accessType은 null이면 무시)
+     */
+    public static Specification<Content> publishedContents(
+            Long channelId,
+            ContentType contentType,
+            AccessType accessType,
+            LocalDateTime now
+    ) {
+        List<Specification<Content>> specs = new ArrayList<>();
+        specs.add(fetchChannel());
+        specs.add((root, query, cb) -> cb.and(
+                cb.isFalse(root.get("isDeleted")),
+                cb.isTrue(root.get("isPublished")),
+                cb.lessThanOrEqualTo(root.get("publishedAt"), now)
+        ));
+        if (channelId != null) {
+            specs.add((root, query, cb) -> cb.equal(root.get("channel").get("id"), channelId));
+        }
+        if (contentType != null) {
+            specs.add((root, query, cb) -> cb.equal(root.get("contentType"), contentType));
+        }
+        if (accessType != null) {
+            specs.add((root, query, cb) -> cb.equal(root.get("accessType"), accessType));
+        }
+        return Specification.allOf(specs);
+    }
+
+    /**
+     * 커서 이후 조건 (정렬 키 내림차순 + id 내림차순 기준의 keyset)
+     */
+    public static Specification<Content> after(ContentFeedCursor cursor, ContentFeedSort sort) {
+        return (root, query, cb) -> {
+            if (sort == ContentFeedSort.LATEST) {
+                return cb.or(
+                        cb.lessThan(root.get("publishedAt"), cursor.publishedAt()),
+                        cb.and(
+                                cb.equal(root.get("publishedAt"), cursor.publishedAt()),
+                                cb.lessThan(root.get("id"), cursor.id())
+                        )
+                );
+            }
+            String countField = sort == ContentFeedSort.VIEW_COUNT ? "viewCount" : "likeCount";
+            return cb.or(
+                    cb.lessThan(root.get(countField), cursor.count()),
+                    cb.and(
+                            cb.equal(root.get(countField), cursor.count()),
+                            cb.lessThan(root.get("id"), cursor.id())
+                    )
+            );
+        };
+    }
+
+    public static Sort sortOf(ContentFeedSort sort) {
+        String field = switch (sort) {
+            case LATEST -> "publishedAt";
+            case VIEW_COUNT -> "viewCount";
+            case LIKE_COUNT -> "likeCount";
+        };
+        return Sort.by(Sort.Direction.DESC, field).and(Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    // 목록 조회 시 채널을 함께 로딩 (COUNT 쿼리에는 fetch join을 붙이지 않음)
+    private static Specification<Content> fetchChannel() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("channel");
+            }
+            return null;
+        };
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.backend.content.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 콘텐츠 조회 기록 일괄 반영 (JDBC 배치)
+ * ContentViewService의 조회 버퍼를 flush할 때 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContentViewBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조회 기록 신규 저장 (이미 있으면 무시)
+     * @return 이번 호출로 새로 저장된 조회 기록
+     */
+    public List<PendingView> insertIgnore(List<PendingView> views) {
+        long insertToken = ThreadLocalRandom.current().nextLong();
+        int[] results = jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO content_view (member_id, content_id, created_at, last_viewed_at, insert_token) VALUES (?, ?, ?, ?, ?)",
+                views,
+                views.size(),
+                (ps, view) -> {
+                    Timestamp viewedAt = Timestamp.valueOf(view.viewedAt());
+                    ps.setLong(1, view.memberId());
+                    ps.setLong(2, view.contentId());
+                    ps.setTimestamp(3, viewedAt);
+                    ps.setTimestamp(4, viewedAt);
+                    ps.setLong(5, insertToken);
+                }
+        )[0];
+
+        List<PendingView> inserted = new ArrayList<>();
+        List<PendingView> unknown = new ArrayList<>();
+        for (int i = 0; i < views.size(); i++) {
+            if (results[i] > 0) {
+                inserted.add(views.get(i));
+            } else if (results[i] == Statement.SUCCESS_NO_INFO) {
+                unknown.add(views.get(i));
+            }
+        }
+        if (!unknown.isEmpty()) {
+            inserted.addAll(findInserted(unknown, insertToken));
+        }
+        return inserted;
+    }
+
+    /**
+     * 드라이버가 행별 건수를 알려주지 않은 경우(SUCCESS_NO_INFO, 배치 재작성) 다시 조회해 신규 저장 여부 판단
+     * 저장된 insert_token이 이번 호출의 값과 같으면 이번 호출이 저장한 행이다. (같은 시각에 다른 노드가 저장한 행과 구분)
+     */
+    private List<PendingView> findInserted(List<PendingView> views, long insertToken) {
+        Object[] args = new Object[views.size() * 2 + 1];
+        for (int i = 0; i < views.size(); i++) {
+            args[i * 2] = views.get(i).memberId();
+            args[i * 2 + 1] = views.get(i).contentId();
+        }
+        args[args.length - 1] = insertToken;
+
+        Set<String> insertedKeys = new HashSet<>();
+        jdbcTemplate.query(
+                "SELECT member_id, content_id FROM content_view WHERE (member_id, content_id) IN ("
+                        + String.join(", ", Collections.nCopies(views.size(), "(?, ?)")) + ") AND insert_token = ?",
+                (RowCallbackHandler) rs -> insertedKeys.add(rs.getLong("member_id") + ":" + rs.getLong("content_id")),
+                args
+        );
+
+        return views.stream()
+                .filter(view -> insertedKeys.contains(view.memberId() + ":" + view.contentId()))
+                .toList();
+    }
+
+    /**
+     * 기존 조회 기록의 마지막 조회 시각 갱신 (더 최근 시각으로만 갱신)
+     */
+    public void updateLastViewedAt(List<PendingView> views) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE content_view SET last_viewed_at = GREATEST(last_viewed_at, ?) WHERE member_id = ? AND content_id = ?",
+                views,
+                views.size(),
+                (ps, view) -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(view.viewedAt()));
+                    ps.setLong(2, view.memberId());
+                    ps.setLong(3, view.contentId());
+                }
+        );
+    }
+
+    /**
+     * 콘텐츠별 조회수 증가분 반영
+     */
+    public void increaseViewCounts(Map<Long, Long> viewCountDeltas) {
+        List<Map.Entry<Long, Long>> deltas = List.copyOf(viewCountDeltas.entrySet());
+        jdbcTemplate.batchUpdate(
+                "UPDATE contents SET view_count = view_count + ? WHERE id = ?",
+                deltas,
+                deltas.size(),
+                (ps, delta) -> {
+                    ps.setLong(1, delta.getValue());
+                    ps.setLong(2, delta.getKey());
+                }
+        );
+    }
+
+    /**
+     * 반영 대기 중인 조회 1건 (회원, 콘텐츠별로 가장 최근 조회 시각)
+     */
+    public record PendingView(Long memberId, Long contentId, LocalDateTime viewedAt) {
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,9 @@ public interface ContentViewRepository extends JpaRepository<ContentView, Long>
 
     boolean existsByMemberIdAndContentId(Long memberId, Long contentId);
 
+    // 조회 버퍼 flush 시 기존 조회 기록 확인용
+    List<ContentView> findByMemberIdInAndContentIdIn(Collection<Long> memberIds, Collection<Long> contentIds);
+
     // 최근 본 콘텐츠 조회 (lastViewedAt 기준 내림차순)
     @Query("SELECT cv FROM ContentView cv WHERE cv.memberId = :memberId ORDER BY cv.lastViewedAt DESC")
     Page<ContentView> findByMemberIdOrderByLastViewedAtDesc(@Param("memberId") Long memberId, Pageable pageable);
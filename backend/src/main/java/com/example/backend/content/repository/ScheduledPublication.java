@@ -0,0 +1,15 @@
+package com.example.backend.content.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 발행 대상 콘텐츠 (ContentRepository.findScheduledPublications* 결과)
+ */
+public interface ScheduledPublication {
+
+    Long getContentId();
+
+    Long getCreatorId();
+
+    LocalDateTime getPublishedAt();
+}
@@ -1,14 +1,21 @@
 package com.example.backend.content.scheduler;
 
+import com.example.backend.content.repository.ScheduledPublication;
+import com.example.backend.content.service.ContentPublicationQueue;
 import com.example.backend.content.service.ContentService;
+import com.example.backend.content.service.ContentViewService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
- * 콘텐츠 예약 발행 스케줄러
- * 주기적으로 예약 발행 시간이 된 콘텐츠를 확인하고 처리
+ * 콘텐츠 스케줄러
+ * 예약 발행 지연 큐를 1초 단위로 처리하고, 조회 기록 버퍼를 DB에 반영
  */
 @Slf4j
 @Component
@@ -16,19 +23,80 @@ import org.springframework.stereotype.Component;
 public class ContentScheduler {
 
     private final ContentService contentService;
+    private final ContentViewService contentViewService;
+    private final ContentPublicationQueue contentPublicationQueue;
+
+    @Value("${content.publication.reconcile-window-minutes:10}")
+    private long reconcileWindowMinutes;
+
+    @Value("${content.publication.batch-size:500}")
+    private int reconcileBatchSize;
 
     /**
      * 예약 발행 처리
-     * 매 분마다 실행 (cron: 초 분 시 일 월 요일)
+     * 1초마다 지연 큐의 타이밍 휠에서 만기된 콘텐츠를 꺼내 (다른 노드와 중복 없이) 일괄 발행
      */
-    @Scheduled(cron = "0 * * * * *") // 매 분마다 실행
-    public void processScheduledPublications() {
+    @Scheduled(fixedRateString = "${content.publication.tick-ms:1000}")
+    public void publishDueContents() {
         try {
-            log.info("예약 발행 처리 시작");
-            contentService.processScheduledPublications();
-            log.info("예약 발행 처리 완료");
+            List<Long> contentIds = contentPublicationQueue.pollDue();
+            if (!contentIds.isEmpty()) {
+                int published = contentService.publishScheduledContents(contentIds);
+                log.info("예약 발행 처리 완료 - {}건", published);
+            }
         } catch (Exception e) {
             log.error("예약 발행 처리 중 오류 발생", e);
         }
     }
+
+    /**
+     * 예약 발행 큐 적재
+     * 20초마다 Redis 큐에서 곧 만기될 예약(다른 노드에서 등록된 것 포함)을 이 노드의 타이밍 휠로 가져옴
+     */
+    @Scheduled(fixedDelayString = "${content.publication.refill-interval-ms:20000}")
+    public void refillPublicationQueue() {
+        try {
+            contentPublicationQueue.refill();
+        } catch (Exception e) {
+            log.warn("예약 발행 큐 적재 실패 - error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 예약 발행 정합성 보정
+     * 5분마다 DB 기준 발행 대기 예약을 지연 큐에 다시 등록 (등록 실패/선점 후 처리 실패 항목 복구)
+     * Redis를 사용할 수 없으면 발행 시각이 지난 예약을 DB 기준으로 바로 발행
+     */
+    @Scheduled(fixedDelayString = "${content.publication.reconcile-interval-ms:300000}")
+    public void reconcileScheduledPublications() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<ScheduledPublication> pending = contentService.findPendingPublications(
+                    now.plusMinutes(reconcileWindowMinutes), reconcileBatchSize);
+
+            if (!contentPublicationQueue.enqueueAll(pending)) {
+                List<Long> dueIds = pending.stream()
+                        .filter(publication -> !publication.getPublishedAt().isAfter(now))
+                        .map(ScheduledPublication::getContentId)
+                        .toList();
+                int published = contentService.publishScheduledContents(dueIds);
+                log.warn("지연 큐를 사용할 수 없어 예약 발행을 직접 처리 - {}건", published);
+            }
+        } catch (Exception e) {
+            log.error("예약 발행 정합성 보정 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 조회 기록 반영
+     * 이전 실행 종료 후 5초마다 버퍼에 쌓인 조회 기록/조회수를 배치 UPDATE로 반영
+     */
+    @Scheduled(fixedDelayString = "${content.view.flush-interval-ms:5000}")
+    public void flushContentViews() {
+        try {
+            contentViewService.flushPendingViews();
+        } catch (Exception e) {
+            log.error("조회 기록 반영 중 오류 발생", e);
+        }
+    }
 }
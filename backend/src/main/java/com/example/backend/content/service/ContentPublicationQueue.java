@@ -0,0 +1,189 @@
+package com.example.backend.content.service;
+
+import com.example.backend.content.repository.ScheduledPublication;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 발행 지연 큐
+ * - Redis sorted set(score = 발행 시각 ms)이 모든 노드가 공유하는 원본 큐
+ * - 각 노드는 가까운 시일(horizon) 안에 만기되는 항목을 로컬 타이밍 휠에 적재해 1초 단위로 꺼낸다.
+ * - 만기된 항목은 Lua 스크립트로 ZREM에 성공한 노드만 가져가므로 여러 노드에서도 한 번만 발행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentPublicationQueue {
+
+    private static final String QUEUE_KEY = "content:publish:schedule";
+
+    // 점수가 만기(<= now)인 항목만 제거하고 제거에 성공한 ID를 반환 (발행 시각이 뒤로 바뀐 항목은 건너뜀)
+    private static final DefaultRedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local claimed = {}
+            for i = 2, #ARGV do
+                local score = redis.call('ZSCORE', KEYS[1], ARGV[i])
+                if score and tonumber(score) <= tonumber(ARGV[1]) then
+                    redis.call('ZREM', KEYS[1], ARGV[i])
+                    table.insert(claimed, ARGV[i])
+                end
+            end
+            return claimed
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${content.publication.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${content.publication.horizon-seconds:60}")
+    private long horizonSeconds;
+
+    @Value("${content.publication.batch-size:500}")
+    private int batchSize;
+
+    private volatile PublicationTimingWheel wheel;
+
+    /**
+     * 예약 발행 등록 (트랜잭션 안이면 커밋 후 등록)
+     * 같은 콘텐츠를 다시 등록하면 발행 시각이 갱신된다.
+     */
+    public void enqueue(Long contentId, LocalDateTime publishedAt) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    schedule(contentId, publishedAt);
+                }
+            });
+            return;
+        }
+        schedule(contentId, publishedAt);
+    }
+
+    /**
+     * DB 기준 예약 목록 재등록 (정합성 보정용)
+     * @return Redis 등록 성공 여부
+     */
+    public boolean enqueueAll(Collection<ScheduledPublication> items) {
+        if (items.isEmpty()) {
+            return true;
+        }
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples = items.stream()
+                    .map(item -> ZSetOperations.TypedTuple.of(
+                            String.valueOf(item.getContentId()), (double) toMillis(item.getPublishedAt())))
+                    .collect(Collectors.toSet());
+            stringRedisTemplate.opsForZSet().add(QUEUE_KEY, tuples);
+        } catch (Exception e) {
+            log.warn("예약 발행 큐 재등록 실패 - {}건, error={}", items.size(), e.getMessage());
+            return false;
+        }
+
+        long horizonEnd = System.currentTimeMillis() + horizonSeconds * 1000;
+        items.forEach(item -> addToWheel(item.getContentId(), toMillis(item.getPublishedAt()), horizonEnd));
+        return true;
+    }
+
+    /**
+     * Redis 큐에서 horizon 안에 만기되는 항목을 로컬 타이밍 휠에 적재
+     * 다른 노드에서 등록한 예약도 이 시점에 이 노드의 휠로 들어온다.
+     */
+    public void refill() {
+        long now = System.currentTimeMillis();
+        long horizonEnd = now + horizonSeconds * 1000;
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet()
+                .rangeByScoreWithScores(QUEUE_KEY, Double.NEGATIVE_INFINITY, horizonEnd, 0, batchSize);
+        if (tuples == null) {
+            return;
+        }
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() != null && tuple.getScore() != null) {
+                addToWheel(Long.valueOf(tuple.getValue()), tuple.getScore().longValue(), horizonEnd);
+            }
+        }
+    }
+
+    /**
+     * 만기된 예약을 꺼내 이 노드가 선점한 콘텐츠 ID만 반환
+     */
+    public List<Long> pollDue() {
+        long now = System.currentTimeMillis();
+        List<Long> expired = wheel(now).advance(now);
+        if (expired.isEmpty()) {
+            return List.of();
+        }
+
+        Object[] args = new Object[expired.size() + 1];
+        args[0] = String.valueOf(now);
+        for (int i = 0; i < expired.size(); i++) {
+            args[i + 1] = String.valueOf(expired.get(i));
+        }
+
+        try {
+            List<?> claimed = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(QUEUE_KEY), args);
+            if (claimed == null) {
+                return List.of();
+            }
+            return claimed.stream()
+                    .map(id -> Long.valueOf(String.valueOf(id)))
+                    .toList();
+        } catch (Exception e) {
+            // Redis 장애 시 잠시 후 다시 시도 (선점하지 못한 항목은 발행하지 않음)
+            log.warn("예약 발행 선점 실패 - {}건 재시도 예정, error={}", expired.size(), e.getMessage());
+            expired.forEach(contentId -> wheel(now).add(contentId, now + 5000));
+            return List.of();
+        }
+    }
+
+    private void schedule(Long contentId, LocalDateTime publishedAt) {
+        long dueMillis = toMillis(publishedAt);
+        try {
+            stringRedisTemplate.opsForZSet().add(QUEUE_KEY, String.valueOf(contentId), dueMillis);
+        } catch (Exception e) {
+            // 정합성 보정 작업에서 DB 기준으로 다시 등록됨
+            log.warn("예약 발행 등록 실패 - contentId={}, error={}", contentId, e.getMessage());
+            return;
+        }
+        addToWheel(contentId, dueMillis, System.currentTimeMillis() + horizonSeconds * 1000);
+    }
+
+    private void addToWheel(Long contentId, long dueMillis, long horizonEnd) {
+        if (dueMillis <= horizonEnd) {
+            wheel(System.currentTimeMillis()).add(contentId, dueMillis);
+        }
+    }
+
+    private PublicationTimingWheel wheel(long now) {
+        PublicationTimingWheel current = wheel;
+        if (current == null) {
+            synchronized (this) {
+                if (wheel == null) {
+                    // horizon보다 넉넉한 크기로 만들어 대부분의 항목이 한 바퀴 안에 들어오도록 함
+                    int slotCount = (int) Math.max(64, (horizonSeconds * 1000 / tickMillis) * 2);
+                    wheel = new PublicationTimingWheel(tickMillis, slotCount, now);
+                }
+                current = wheel;
+            }
+        }
+        return current;
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
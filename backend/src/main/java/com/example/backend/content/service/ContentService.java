@@ -1,35 +1,44 @@
 package com.example.backend.content.service;
 
+import com.example.backend.channel.dto.ChannelSnapshot;
 import com.example.backend.channel.entity.Channel;
 import com.example.backend.channel.repository.ChannelRepository;
+import com.example.backend.channel.service.ChannelCacheService;
 import com.example.backend.content.dto.ContentCreateRequestDTO;
+import com.example.backend.content.dto.ContentFeedCursor;
+import com.example.backend.content.dto.ContentFeedResponseDTO;
 import com.example.backend.content.dto.ContentListResponseDTO;
 import com.example.backend.content.dto.ContentResponseDTO;
 import com.example.backend.content.dto.ContentUpdateRequestDTO;
 import com.example.backend.content.dto.event.ContentPublishedEvent;
 import com.example.backend.content.entity.AccessType;
 import com.example.backend.content.entity.Content;
+import com.example.backend.content.entity.ContentFeedSort;
 import com.example.backend.content.entity.ContentType;
 import com.example.backend.content.entity.ContentView;
 import com.example.backend.content.repository.ContentLikeRepository;
 import com.example.backend.content.repository.ContentRepository;
+import com.example.backend.content.repository.ContentSpecifications;
 import com.example.backend.content.repository.ContentViewRepository;
-import com.example.backend.order.entity.OrderStatus;
-import com.example.backend.order.entity.OrderType;
-import com.example.backend.order.repository.OrderRepository;
-import com.example.backend.subscription.entity.SubscriptionStatus;
-import com.example.backend.subscription.repository.SubscriptionRepository;
-import jakarta.transaction.Transactional;
+import com.example.backend.content.repository.ScheduledPublication;
+import com.example.backend.entitlement.service.EntitlementService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -40,8 +49,10 @@ public class ContentService {
     private final ContentLikeRepository contentLikeRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final ContentViewRepository contentViewRepository;
-    private final SubscriptionRepository subscriptionRepository;
-    private final OrderRepository orderRepository;
+    private final EntitlementService entitlementService;
+    private final ContentViewService contentViewService;
+    private final ContentPublicationQueue contentPublicationQueue;
+    private final ChannelCacheService channelCacheService;
 
     /**
      * 콘텐츠 등록 (임시저장 / 즉시 발행 / 예약 발행)
@@ -72,10 +83,12 @@ public class ContentService {
 
         Content savedContent = contentRepository.save(content);
 
-        // 즉시 발행인 경우 알림 이벤트 발행
+        // 즉시 발행인 경우 알림 이벤트 발행, 예약 발행인 경우 지연 큐에 등록
         if (savedContent.isPublished()) {
             applicationEventPublisher.publishEvent(
                     ContentPublishedEvent.create(savedContent.getId(), channel.getCreatorId()));
+        } else if (publishedAt != null) {
+            contentPublicationQueue.enqueue(savedContent.getId(), publishedAt);
         }
 
         return ContentResponseDTO.from(savedContent);
@@ -147,7 +160,10 @@ public class ContentService {
                 request.getPrice(),
                 publishedAt);
 
-        return ContentResponseDTO.from(contentRepository.save(content));
+        Content savedContent = contentRepository.save(content);
+        contentPublicationQueue.enqueue(savedContent.getId(), publishedAt);
+
+        return ContentResponseDTO.from(savedContent);
     }
 
     /**
@@ -197,6 +213,11 @@ public class ContentService {
                 request.getPublishedAt()
         );
 
+        // 미발행 콘텐츠의 발행 시각이 바뀌면 지연 큐의 예약 시각도 갱신
+        if (request.getPublishedAt() != null && !content.isPublished()) {
+            contentPublicationQueue.enqueue(content.getId(), content.getPublishedAt());
+        }
+
         return ContentResponseDTO.from(contentRepository.save(content));
     }
 
@@ -211,8 +232,9 @@ public class ContentService {
 
     /**
      * 콘텐츠 상세 조회 (접근 권한 검증 포함, 최초 조회 시 view_count 증가)
+     * 조회 기록과 조회수는 ContentViewService 버퍼를 거쳐 주기적으로 반영되므로 이 메서드는 읽기 전용이다.
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public ContentResponseDTO getContentById(Long contentId, String userRole, Long userId) {
         Content content = findContent(contentId);
 
@@ -221,39 +243,9 @@ public class ContentService {
             throw new IllegalArgumentException("아직 게시되지 않은 콘텐츠입니다.");
         }
 
-        // 접근 권한 검증
-        // SUBSCRIBER_ONLY, SINGLE_PURCHASE, PARTIAL 타입은 페이지 접근은 허용하되
-        // 실제 콘텐츠 접근은 hasAccess로 제어
-        // validateAccess는 예외를 던질 수 있지만, 페이지 접근은 허용하기 위해 예외를 무시함
-        try {
-            validateAccess(content, userRole, userId);
-        } catch (IllegalArgumentException e) {
-            // SUBSCRIBER_ONLY, SINGLE_PURCHASE, PARTIAL 타입은 페이지 접근은 허용
-            // 예외를 무시하고 계속 진행 (hasAccess로 접근 권한 제어)
-            // 예외가 발생해도 페이지는 접근 가능하도록 함
-        } catch (Exception e) {
-            // 다른 예외도 무시하고 계속 진행 (페이지 접근 허용)
-            // 예외가 발생해도 페이지는 접근 가능하도록 함
-        }
-
-        // 조회수 증가 (로그인한 사용자의 최초 조회 시만)
+        // 조회 기록 (로그인한 사용자만, 최초 조회 시 조회수 증가 / 재조회 시 lastViewedAt 갱신은 flush 시 반영)
         if (userId != null) {
-            // 로그인한 사용자의 경우: 조회 기록 확인
-            boolean hasViewed = contentViewRepository.existsByMemberIdAndContentId(userId, contentId);
-            if (!hasViewed) {
-                // 최초 조회인 경우 조회 기록 저장 및 조회수 증가
-                ContentView contentView = ContentView.create(userId, contentId);
-                contentViewRepository.save(contentView);
-                content.increaseViewCount();
-                contentRepository.save(content);
-            } else {
-                // 이미 조회한 경우 조회 기록의 lastViewedAt만 업데이트
-                contentViewRepository.findByMemberIdAndContentId(userId, contentId)
-                        .ifPresent(view -> {
-                            view.updateLastViewedAt(LocalDateTime.now());
-                            contentViewRepository.save(view);
-                        });
-            }
+            contentViewService.recordView(userId, contentId);
         }
         // 비로그인 사용자의 경우: 조회수 증가하지 않음
 
@@ -263,122 +255,77 @@ public class ContentService {
                 : false;
 
         // 접근 권한 여부 확인 (구매/구독 완료 여부)
-        // 콘텐츠가 속한 채널의 구독 내역과 그 콘텐츠 단건 구매 내역을 확인하여 접근 권한 부여
-        Boolean hasAccess = false;
-        if (content.getAccessType() == AccessType.FREE) {
-            hasAccess = true; // 무료 콘텐츠는 항상 접근 가능
-        } else if (userId != null) {
-            // 크리에이터는 자신의 콘텐츠에 항상 접근 가능
-            if ("CREATOR".equals(userRole) || "ROLE_CREATOR".equals(userRole)) {
-                if (content.getChannel().getCreatorId().equals(userId)) {
-                    hasAccess = true; // 크리에이터가 자신의 콘텐츠인 경우 항상 접근 가능
-                }
-            }
-            
-            // 크리에이터가 아닌 경우 또는 타인의 콘텐츠인 경우 구매/구독 내역 확인
-            if (!hasAccess) {
-                Long channelId = content.getChannel().getId();
-                
-                // 1. 채널 구독 내역 확인
-                boolean hasActiveSubscription = subscriptionRepository.existsByMemberIdAndChannelIdAndStatus(
-                        userId, channelId, SubscriptionStatus.ACTIVE);
-                
-                // 2. 콘텐츠 단건 구매 내역 확인
-                boolean hasPurchasedContent = orderRepository.existsByMemberIdAndContentIdAndOrderTypeAndStatus(
-                        userId, contentId, OrderType.CONTENT, OrderStatus.PAID);
-                
-                // 접근 타입에 따라 접근 권한 결정
-                if (content.getAccessType() == AccessType.SUBSCRIBER_ONLY) {
-                    // 구독자만 접근 가능: 채널 구독 내역 확인
-                    hasAccess = hasActiveSubscription;
-                } else if (content.getAccessType() == AccessType.SINGLE_PURCHASE) {
-                    // 단건 구매 콘텐츠: 구매 내역 또는 구독 내역 확인 (구독자도 접근 가능)
-                    hasAccess = hasPurchasedContent || hasActiveSubscription;
-                } else if (content.getAccessType() == AccessType.PARTIAL) {
-                    // 미리보기 콘텐츠: 구매 내역 또는 구독 내역 확인 (구독자도 접근 가능)
-                    hasAccess = hasPurchasedContent || hasActiveSubscription;
-                }
-            }
-        }
+        // SUBSCRIBER_ONLY, SINGLE_PURCHASE, PARTIAL 타입도 페이지 접근은 허용하고 실제 콘텐츠 접근은 hasAccess로 제어
+        // 관리자는 모든 콘텐츠 접근 가능
+        Boolean hasAccess = isAdmin(userRole) || entitlementService.canAccess(userId, content);
 
         return ContentResponseDTO.from(content, isLiked, hasAccess);
     }
 
     /**
      * 콘텐츠 목록 조회 (정렬/필터 기반)
+     * 게시 여부까지 SQL에서 걸러내므로 페이지 크기와 전체 건수가 정확하다.
      */
+    @Transactional(readOnly = true)
     public Page<ContentListResponseDTO> getContentList(
             Long channelId,
             ContentType contentType,
             AccessType accessType,
             Pageable pageable
     ) {
-        Page<Content> contents;
-        LocalDateTime now = LocalDateTime.now();
+        Specification<Content> spec = ContentSpecifications.publishedContents(
+                channelId, contentType, accessType, LocalDateTime.now());
+
+        return contentRepository.findAll(spec, pageable).map(ContentListResponseDTO::from);
+    }
+
+    /**
+     * 콘텐츠 피드 조회 (커서 기반)
+     * (정렬 키, id) keyset으로 다음 페이지를 조회하므로 페이지가 깊어져도 OFFSET 스캔이 없다.
+     * size + 1건을 조회하여 다음 페이지 존재 여부를 판단한다 (COUNT 쿼리 없음).
+     */
+    @Transactional(readOnly = true)
+    public ContentFeedResponseDTO getContentFeed(
+            Long channelId,
+            ContentType contentType,
+            AccessType accessType,
+            ContentFeedSort sort,
+            String cursor,
+            int size
+    ) {
+        Specification<Content> spec = ContentSpecifications.publishedContents(
+                channelId, contentType, accessType, LocalDateTime.now());
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(ContentSpecifications.after(ContentFeedCursor.decode(cursor, sort), sort));
+        }
 
-        // 필터링 조건에 따라 적절한 메서드 호출
-        if (channelId != null) {
-            // 채널별 조회
-            if (contentType != null && accessType != null) {
-                contents = contentRepository.findByChannelIdAndContentTypeAndAccessTypeAndIsDeletedFalse(
-                        channelId, contentType, accessType, pageable);
-            } else if (contentType != null) {
-                contents = contentRepository.findByChannelIdAndContentTypeAndIsDeletedFalse(channelId, contentType, pageable);
-            } else if (accessType != null) {
-                contents = contentRepository.findByChannelIdAndAccessTypeAndIsDeletedFalse(channelId, accessType, pageable);
-            } else {
-                contents = contentRepository.findByChannelIdAndIsDeletedFalse(channelId, pageable);
-            }
-        } else {
-            // 전체 조회
-            if (contentType != null && accessType != null) {
-                contents = contentRepository.findByContentTypeAndAccessTypeAndIsDeletedFalse(
-                        contentType, accessType, pageable);
-            } else if (contentType != null) {
-                contents = contentRepository.findByContentTypeAndIsDeletedFalse(contentType, pageable);
-            } else if (accessType != null) {
-                contents = contentRepository.findByAccessTypeAndIsDeletedFalse(accessType, pageable);
-            } else {
-                contents = contentRepository.findByIsDeletedFalse(pageable);
-            }
+        List<Content> contents = findFeed(spec, sort, size + 1);
+        boolean hasNext = contents.size() > size;
+        if (hasNext) {
+            contents = contents.subList(0, size);
         }
 
-        // 서비스에서 게시된 콘텐츠만 필터링 (publishedAt이 null이 아니고 현재 시점 이전인 것만)
-        List<Content> publishedContents = contents.getContent().stream()
-                .filter(content -> content.getPublishedAt() != null && 
-                                  (content.getPublishedAt().isBefore(now) || content.getPublishedAt().isEqual(now)))
-                .toList();
+        String nextCursor = hasNext
+                ? ContentFeedCursor.from(contents.get(contents.size() - 1), sort).encode()
+                : null;
 
-        // 필터링된 결과를 Page로 변환
-        Page<Content> publishedPage = new org.springframework.data.domain.PageImpl<>(
-                publishedContents, 
-                pageable, 
-                publishedContents.size()
+        return new ContentFeedResponseDTO(
+                contents.stream().map(ContentListResponseDTO::from).toList(),
+                nextCursor,
+                hasNext
         );
-
-        return publishedPage.map(ContentListResponseDTO::from);
     }
 
     /**
      * 채널의 대표 콘텐츠 3개 조회 (조회수 높은 순)
      * 게시된 콘텐츠 중에서 조회수가 높은 상위 3개를 반환
      */
+    @Transactional(readOnly = true)
     public List<ContentListResponseDTO> getFeaturedContentsByChannelId(Long channelId) {
-        LocalDateTime now = LocalDateTime.now();
-        
-        // 채널별 조회수 높은 순으로 3개 조회
-        Page<Content> contentPage = contentRepository.findTop3ByChannelIdAndIsDeletedFalseOrderByViewCountDesc(
-                channelId, org.springframework.data.domain.PageRequest.of(0, 3));
-        List<Content> contents = contentPage.getContent();
-        
-        // 게시된 콘텐츠만 필터링
-        List<Content> publishedContents = contents.stream()
-                .filter(content -> content.getPublishedAt() != null && 
-                                  (content.getPublishedAt().isBefore(now) || content.getPublishedAt().isEqual(now)))
-                .limit(3)
-                .toList();
-        
-        return publishedContents.stream()
+        Specification<Content> spec = ContentSpecifications.publishedContents(
+                channelId, null, null, LocalDateTime.now());
+
+        return findFeed(spec, ContentFeedSort.VIEW_COUNT, 3).stream()
                 .map(ContentListResponseDTO::from)
                 .toList();
     }
@@ -388,15 +335,15 @@ public class ContentService {
      * 한 크리에이터당 하나의 채널만 존재
      */
     public long getTotalContentCountByCreatorId(Long creatorId) {
-        // creatorId로 채널 조회 (ChannelRepository의 기존 메서드 사용)
-        Optional<Channel> channel = channelRepository.findOneByCreatorId(creatorId);
+        // creatorId로 채널 조회 (채널 조회 캐시 사용)
+        Optional<ChannelSnapshot> channel = channelCacheService.findByCreatorId(creatorId);
         
         if (channel.isEmpty()) {
             return 0;
         }
         
         // 한 크리에이터당 하나의 채널만 존재하므로 첫 번째 채널 사용
-        Long channelId = channel.get().getId();
+        Long channelId = channel.get().id();
         
         return contentRepository.countByChannelIdAndIsDeletedFalse(channelId);
     }
@@ -406,15 +353,15 @@ public class ContentService {
      * 한 크리에이터당 하나의 채널만 존재
      */
     public long getTotalViewCountByCreatorId(Long creatorId) {
-        // creatorId로 채널 조회 (ChannelRepository의 기존 메서드 사용)
-        Optional<Channel> channel = channelRepository.findOneByCreatorId(creatorId);
+        // creatorId로 채널 조회 (채널 조회 캐시 사용)
+        Optional<ChannelSnapshot> channel = channelCacheService.findByCreatorId(creatorId);
         
         if (channel.isEmpty()) {
             return 0;
         }
         
         // 한 크리에이터당 하나의 채널만 존재하므로 첫 번째 채널 사용
-        Long channelId = channel.get().getId();
+        Long channelId = channel.get().id();
         
         return contentRepository.getTotalViewCountByChannelId(channelId);
     }
@@ -427,15 +374,15 @@ public class ContentService {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime fiveDaysAgo = now.minusDays(5);
         
-        // creatorId로 채널 조회 (ChannelRepository의 기존 메서드 사용)
-        Optional<Channel> channel = channelRepository.findOneByCreatorId(creatorId);
+        // creatorId로 채널 조회 (채널 조회 캐시 사용)
+        Optional<ChannelSnapshot> channel = channelCacheService.findByCreatorId(creatorId);
         
         if (channel.isEmpty()) {
             return 0;
         }
         
         // 한 크리에이터당 하나의 채널만 존재하므로 첫 번째 채널 사용
-        Long channelId = channel.get().getId();
+        Long channelId = channel.get().id();
         
         return contentRepository.countByChannelIdAndPublishedAtBetweenAndIsDeletedFalse(
                 channelId, fiveDaysAgo, now);
@@ -449,67 +396,15 @@ public class ContentService {
                 .orElseThrow(() -> new IllegalArgumentException("콘텐츠가 존재하지 않습니다."));
     }
 
-    /**
-     * 접근 권한 검증
-     * FREE: 모든 사용자 접근 가능
-     * SUBSCRIBER_ONLY: 구독자만 접근 가능 (구독 도메인 완성 후 구현)
-     * SINGLE_PURCHASE: 구매한 사용자만 접근 가능 (구매 도메인 완성 후 구현)
-     * PARTIAL: 미리보기 제공, 전체는 구매 필요
-     */
-    private void validateAccess(Content content, String userRole, Long userId) {
-        AccessType accessType = content.getAccessType();
-
-        // FREE 콘텐츠는 모든 사용자 접근 가능
-        if (accessType == AccessType.FREE) {
-            return;
-        }
-
-        // 비회원은 FREE 콘텐츠만 접근 가능
-        if (userRole == null) {
-            throw new IllegalArgumentException("접근 권한이 없습니다. 회원가입 후 이용해주세요.");
-        }
-
-        // 관리자는 모든 콘텐츠 접근 가능
-        if ("ADMIN".equals(userRole) || "ROLE_ADMIN".equals(userRole)) {
-            return;
-        }
-
-        // 크리에이터는 자신의 콘텐츠에 접근 가능
-        if ("CREATOR".equals(userRole) || "ROLE_CREATOR".equals(userRole)) {
-            if (content.getChannel().getCreatorId().equals(userId)) {
-                return;
-            }
-            throw new IllegalArgumentException("자신의 콘텐츠만 접근할 수 있습니다.");
-        }
+    private List<Content> findFeed(Specification<Content> spec, ContentFeedSort sort, int limit) {
+        return contentRepository.findBy(spec, query -> query
+                .sortBy(ContentSpecifications.sortOf(sort))
+                .limit(limit)
+                .all());
+    }
 
-        // 일반 유저는 구매한 콘텐츠 또는 구독한 채널의 콘텐츠에 접근 가능
-        if ("USER".equals(userRole) || "ROLE_USER".equals(userRole)) {
-            Long channelId = content.getChannel().getId();
-
-            if (accessType == AccessType.SUBSCRIBER_ONLY) {
-                // 구독자만 접근 가능: 해당 채널에 대한 활성 구독이 있는지 확인
-                boolean hasActiveSubscription = subscriptionRepository.existsByMemberIdAndChannelIdAndStatus(
-                        userId, channelId, SubscriptionStatus.ACTIVE);
-                if (!hasActiveSubscription) {
-                    throw new IllegalArgumentException("이 콘텐츠는 구독자만 접근할 수 있습니다.");
-                }
-            } else if (accessType == AccessType.SINGLE_PURCHASE) {
-                // 구매한 사용자만 접근 가능: 해당 콘텐츠를 구매했는지 확인
-                boolean hasPurchased = orderRepository.existsByMemberIdAndContentIdAndOrderTypeAndStatus(
-                        userId, content.getId(), OrderType.CONTENT, OrderStatus.PAID);
-                if (!hasPurchased) {
-                    throw new IllegalArgumentException("이 콘텐츠를 구매해야 접근할 수 있습니다.");
-                }
-            } else if (accessType == AccessType.PARTIAL) {
-                // PARTIAL: 구매했으면 전체 접근 가능, 아니면 미리보기만 제공
-                // 구매 여부 확인 (구매했으면 접근 허용, 아니면 미리보기만 제공하므로 예외 발생하지 않음)
-                // 실제 미리보기 처리는 getContentById에서 처리
-                boolean hasPurchased = orderRepository.existsByMemberIdAndContentIdAndOrderTypeAndStatus(
-                        userId, content.getId(), OrderType.CONTENT, OrderStatus.PAID);
-                // 구매하지 않았어도 미리보기는 제공하므로 예외를 발생시키지 않음
-                // 전체 콘텐츠 접근 여부는 별도로 확인 필요 (현재는 접근 허용)
-            }
-        }
+    private boolean isAdmin(String userRole) {
+        return "ADMIN".equals(userRole) || "ROLE_ADMIN".equals(userRole);
     }
 
     /**
@@ -544,8 +439,8 @@ public class ContentService {
         // ContentView 조회 (lastViewedAt 기준 내림차순)
         Page<ContentView> contentViews = contentViewRepository.findByMemberIdOrderByLastViewedAtDesc(memberId, pageable);
 
-        // ContentView의 contentId로 Content 조회 및 DTO 변환
-        List<ContentListResponseDTO> contentList = contentViews.getContent().stream()
+        // ContentView의 contentId로 Content 조회
+        List<Content> contents = contentViews.getContent().stream()
                 .map(contentView -> {
                     try {
                         // 삭제되지 않은 콘텐츠만 조회
@@ -556,7 +451,7 @@ public class ContentService {
                         }
                         // 게시된 콘텐츠만 반환
                         if (content.isPublished()) {
-                            return ContentListResponseDTO.from(content);
+                            return content;
                         }
                         return null;
                     } catch (Exception e) {
@@ -567,6 +462,12 @@ public class ContentService {
                 .filter(content -> content != null) // null 제거 (삭제되었거나 게시되지 않은 콘텐츠)
                 .toList();
 
+        // 접근 권한은 회원 권한을 한 번만 조회하여 일괄 판단
+        Map<Long, Boolean> accessMap = entitlementService.canAccess(memberId, contents);
+        List<ContentListResponseDTO> contentList = contents.stream()
+                .map(content -> ContentListResponseDTO.from(content, accessMap.get(content.getId())))
+                .toList();
+
         // 필터링된 결과를 Page로 변환
         return new org.springframework.data.domain.PageImpl<>(
                 contentList,
@@ -577,23 +478,36 @@ public class ContentService {
 
     /**
      * 예약 발행 처리
-     * publishedAt이 현재 시점 이전인 예약 발행 대기 중인 콘텐츠를 발행 처리
+     * 지연 큐에서 선점한 콘텐츠를 한 번의 UPDATE로 발행 상태로 바꾸고 알림 이벤트를 발행 (알림은 커밋 후 발송)
+     * 대상 행을 잠근 뒤 변경하므로, 여러 노드가 같은 ID로 호출해도 알림 이벤트는 실제로 발행 상태를 바꾼 호출에서만 나간다.
+     * @return 발행된 콘텐츠 수
      */
-    public void processScheduledPublications() {
-        LocalDateTime now = LocalDateTime.now();
-        List<Content> scheduledContents = contentRepository.findScheduledContentsToPublish(now);
-
-        // 예약 발행된 콘텐츠 처리
-        for (Content content : scheduledContents) {
-            // 아직 발행되지 않은 콘텐츠만 발행 처리
-            if (!content.isPublished()) {
-                content.publish();
-                contentRepository.save(content);
-                // 알림 이벤트 발행
-                applicationEventPublisher.publishEvent(
-                        ContentPublishedEvent.create(content.getId(), content.getChannel().getCreatorId())
-                );
-            }
+    public int publishScheduledContents(Collection<Long> contentIds) {
+        if (contentIds.isEmpty()) {
+            return 0;
+        }
+
+        // 잠근 행만 발행 대상 (다른 호출이 잠근 행, 이미 발행된 행은 제외됨)
+        List<ScheduledPublication> targets = contentRepository.findScheduledPublicationsByIdsForUpdate(
+                contentIds, LocalDateTime.now());
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        contentRepository.markPublished(targets.stream().map(ScheduledPublication::getContentId).toList());
+
+        for (ScheduledPublication target : targets) {
+            applicationEventPublisher.publishEvent(
+                    ContentPublishedEvent.create(target.getContentId(), target.getCreatorId()));
         }
+        return targets.size();
+    }
+
+    /**
+     * 발행 대기 중인 예약 목록 조회 (지연 큐 정합성 보정용)
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduledPublication> findPendingPublications(LocalDateTime until, int limit) {
+        return contentRepository.findScheduledPublications(until, PageRequest.of(0, limit));
     }
 }
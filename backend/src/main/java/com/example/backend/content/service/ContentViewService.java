@@ -1,33 +1,59 @@
 package com.example.backend.content.service;
 
 import com.example.backend.content.entity.ContentView;
+import com.example.backend.content.repository.ContentViewBulkRepository;
+import com.example.backend.content.repository.ContentViewBulkRepository.PendingView;
 import com.example.backend.content.repository.ContentViewRepository;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 콘텐츠 조회 기록 (write-behind)
+ * 조회 요청은 메모리 버퍼에만 기록하고, 스케줄러가 주기적으로 모아서
+ * 조회 기록(content_view) 저장/갱신과 조회수(view_count) 증가를 배치 UPDATE로 반영한다.
+ * 같은 회원이 같은 콘텐츠를 여러 번 조회하면 버퍼에서 가장 최근 시각 하나로 합쳐진다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class ContentViewService {
 
     private final ContentViewRepository contentViewRepository;
+    private final ContentViewBulkRepository contentViewBulkRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // (회원 ID, 콘텐츠 ID) → 마지막 조회 시각
+    private final Map<ViewKey, LocalDateTime> pendingViews = new ConcurrentHashMap<>();
+
+    @Value("${content.view.flush-batch-size:500}")
+    private int flushBatchSize;
 
     /**
-     * 콘텐츠 조회 처리
-     * - 최초 조회: row 생성
-     * - 재조회: lastViewedAt 갱신
+     * 콘텐츠 조회 기록 (DB에 바로 쓰지 않고 버퍼에 적재)
+     * - 최초 조회: flush 시 row 생성 및 조회수 증가
+     * - 재조회: flush 시 lastViewedAt 갱신
      */
     public void recordView(Long memberId, Long contentId) {
-        ContentView view = contentViewRepository
-                .findByMemberIdAndContentId(memberId, contentId)
-                .orElseGet(() -> ContentView.create(memberId, contentId));
-
-        view.updateLastViewedAt(LocalDateTime.now());
+        recordView(memberId, contentId, LocalDateTime.now());
+    }
 
-        contentViewRepository.save(view);
+    private void recordView(Long memberId, Long contentId, LocalDateTime viewedAt) {
+        pendingViews.merge(new ViewKey(memberId, contentId), viewedAt,
+                (previous, current) -> current.isAfter(previous) ? current : previous);
     }
 
     /**
@@ -35,9 +61,96 @@ public class ContentViewService {
      */
     @Transactional(readOnly = true)
     public LocalDateTime getLastViewedAt(Long memberId, Long contentId) {
+        LocalDateTime pending = pendingViews.get(new ViewKey(memberId, contentId));
+        if (pending != null) {
+            return pending;
+        }
         return contentViewRepository
                 .findByMemberIdAndContentId(memberId, contentId)
                 .map(ContentView::getLastViewedAt)
                 .orElse(null);
     }
+
+    /**
+     * 버퍼에 쌓인 조회 기록을 DB에 반영
+     * @return 반영한 조회 기록 수
+     */
+    @Transactional
+    public int flushPendingViews() {
+        List<PendingView> views = new ArrayList<>();
+        for (ViewKey key : pendingViews.keySet()) {
+            LocalDateTime viewedAt = pendingViews.remove(key);
+            if (viewedAt != null) {
+                views.add(new PendingView(key.memberId(), key.contentId(), viewedAt));
+            }
+        }
+        if (views.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            for (int from = 0; from < views.size(); from += flushBatchSize) {
+                flushBatch(views.subList(from, Math.min(from + flushBatchSize, views.size())));
+            }
+        } catch (RuntimeException e) {
+            // 트랜잭션이 롤백되므로 다음 flush에서 다시 반영하도록 버퍼에 되돌린다
+            views.forEach(view -> recordView(view.memberId(), view.contentId(), view.viewedAt()));
+            throw e;
+        }
+
+        log.info("콘텐츠 조회 기록 반영 완료 - {}건", views.size());
+        return views.size();
+    }
+
+    private void flushBatch(List<PendingView> views) {
+        Set<Long> memberIds = new HashSet<>();
+        Set<Long> contentIds = new HashSet<>();
+        views.forEach(view -> {
+            memberIds.add(view.memberId());
+            contentIds.add(view.contentId());
+        });
+
+        // 이미 조회 기록이 있는 (회원, 콘텐츠) 조합
+        Set<ViewKey> existingKeys = new HashSet<>();
+        contentViewRepository.findByMemberIdInAndContentIdIn(memberIds, contentIds)
+                .forEach(view -> existingKeys.add(new ViewKey(view.getMemberId(), view.getContentId())));
+
+        List<PendingView> newViews = new ArrayList<>();
+        List<PendingView> repeatViews = new ArrayList<>();
+        for (PendingView view : views) {
+            if (existingKeys.contains(new ViewKey(view.memberId(), view.contentId()))) {
+                repeatViews.add(view);
+            } else {
+                newViews.add(view);
+            }
+        }
+
+        if (!repeatViews.isEmpty()) {
+            contentViewBulkRepository.updateLastViewedAt(repeatViews);
+        }
+
+        if (!newViews.isEmpty()) {
+            // 최초 조회만 조회수에 반영 (다른 노드가 먼저 저장한 기록은 제외)
+            Map<Long, Long> viewCountDeltas = new HashMap<>();
+            for (PendingView inserted : contentViewBulkRepository.insertIgnore(newViews)) {
+                viewCountDeltas.merge(inserted.contentId(), 1L, Long::sum);
+            }
+            if (!viewCountDeltas.isEmpty()) {
+                contentViewBulkRepository.increaseViewCounts(viewCountDeltas);
+            }
+        }
+    }
+
+    // 종료 시 남은 조회 기록 반영 (자기 호출은 프록시를 거치지 않으므로 트랜잭션을 직접 시작)
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> flushPendingViews());
+        } catch (Exception e) {
+            log.error("종료 시 콘텐츠 조회 기록 반영 실패", e);
+        }
+    }
+
+    private record ViewKey(Long memberId, Long contentId) {
+    }
 }
@@ -0,0 +1,75 @@
+package com.example.backend.content.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 예약 발행용 해시드 타이밍 휠 (ContentPublicationQueue 내부용)
+ * tick 단위 슬롯 배열에 콘텐츠 ID를 넣어 두고, 시간이 흐른 슬롯만 확인하여 만기된 ID를 꺼낸다.
+ * 휠 한 바퀴보다 먼 항목은 슬롯에 남아 있다가 해당 바퀴에서 꺼내진다.
+ */
+class PublicationTimingWheel {
+
+    private final long tickMillis;
+    private final List<Set<Long>> slots;
+
+    // 콘텐츠 ID → 만기 시각(ms). 같은 ID를 다시 넣으면 만기 시각만 갱신되고 이전 슬롯의 항목은 무시된다.
+    private final Map<Long, Long> dueAt = new HashMap<>();
+
+    private long currentTick;
+
+    PublicationTimingWheel(long tickMillis, int slotCount, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new HashSet<>());
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    synchronized void add(Long contentId, long dueMillis) {
+        dueAt.put(contentId, dueMillis);
+        long tick = Math.max(dueMillis / tickMillis, currentTick);
+        slots.get((int) (tick % slots.size())).add(contentId);
+    }
+
+    /**
+     * 현재 시각까지 지난 슬롯을 돌며 만기된 콘텐츠 ID를 꺼낸다.
+     */
+    synchronized List<Long> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        if (targetTick < currentTick) {
+            return List.of();
+        }
+
+        List<Long> expired = new ArrayList<>();
+        // 오래 멈춰 있었더라도 휠 한 바퀴만 돌면 모든 슬롯을 확인한 것
+        long steps = Math.min(targetTick - currentTick + 1, slots.size());
+        for (long i = 0; i < steps; i++) {
+            Iterator<Long> iterator = slots.get((int) ((currentTick + i) % slots.size())).iterator();
+            while (iterator.hasNext()) {
+                Long contentId = iterator.next();
+                Long due = dueAt.get(contentId);
+                if (due == null) {
+                    iterator.remove();
+                } else if (due <= nowMillis) {
+                    iterator.remove();
+                    dueAt.remove(contentId);
+                    expired.add(contentId);
+                }
+            }
+        }
+        // 현재 tick은 아직 끝나지 않았으므로 다음 호출에서 다시 확인 (같은 tick 안에서 뒤늦게 만기되는 항목)
+        currentTick = targetTick;
+        return expired;
+    }
+
+    synchronized int size() {
+        return dueAt.size();
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.backend.contentreview.dto.response;
 
 import com.example.backend.contentreview.entity.ContentReview;
-import com.example.backend.contentreview.repository.ContentReviewLikeRepository;
 import com.example.backend.member.entity.Member;
 import lombok.Getter;
 
@@ -30,32 +29,17 @@ public class ContentReviewResponseDto {
                 : contentReview.getMember().getNickname();
         this.rating = contentReview.getRating();
         this.comment = contentReview.getComment();
-        this.likeCount = 0L;
+        this.likeCount = contentReview.getLikeCount();
         this.isLiked = false;
         this.createdAt = contentReview.getCreatedAt();
         this.updatedAt = contentReview.getUpdatedAt();
     }
 
-    public ContentReviewResponseDto(ContentReview contentReview, Long memberId, ContentReviewLikeRepository likeRepository) {
-        this.id = contentReview.getId();
-        this.contentId = contentReview.getContent().getId();
-        this.memberId = contentReview.getMember().getId();
-        // 탈퇴한 사용자는 "탈퇴한 사용자"로 표시
-        this.nickname = contentReview.getMember().isDeleted() 
-                ? "탈퇴한 사용자" 
-                : contentReview.getMember().getNickname();
-        this.rating = contentReview.getRating();
-        this.comment = contentReview.getComment();
-        this.likeCount = likeRepository.countByReviewId(contentReview.getId());
-        this.isLiked = memberId != null && likeRepository.existsByReviewIdAndMemberId(contentReview.getId(), memberId);
-        this.createdAt = contentReview.getCreatedAt();
-        this.updatedAt = contentReview.getUpdatedAt();
-    }
-
     /**
-     * Member를 직접 받는 생성자 (탈퇴한 사용자 포함 조회용)
+     * Member와 추천 여부를 직접 받는 생성자 (탈퇴한 사용자 포함 조회용)
+     * 작성자/추천 여부는 ContentReviewDtoAssembler가 목록 단위로 일괄 조회하여 전달한다.
      */
-    public ContentReviewResponseDto(ContentReview contentReview, Long memberId, ContentReviewLikeRepository likeRepository, Member member) {
+    public ContentReviewResponseDto(ContentReview contentReview, Member member, boolean isLiked) {
         this.id = contentReview.getId();
         this.contentId = contentReview.getContent().getId();
         this.memberId = member.getId();
@@ -65,9 +49,9 @@ public class ContentReviewResponseDto {
                 : member.getNickname();
         this.rating = contentReview.getRating();
         this.comment = contentReview.getComment();
-        this.likeCount = likeRepository.countByReviewId(contentReview.getId());
-        this.isLiked = memberId != null && likeRepository.existsByReviewIdAndMemberId(contentReview.getId(), memberId);
+        this.likeCount = contentReview.getLikeCount();
+        this.isLiked = isLiked;
         this.createdAt = contentReview.getCreatedAt();
         this.updatedAt = contentReview.getUpdatedAt();
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,6 @@
 package com.example.backend.contentreview.dto.response;
 
 import com.example.backend.contentreview.entity.ContentReview;
-import com.example.backend.contentreview.repository.ContentReviewLikeRepository;
 import com.example.backend.member.entity.Member;
 import lombok.Getter;
 
@@ -24,9 +23,7 @@ public class TopReviewWithContentResponseDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    public TopReviewWithContentResponseDto(
-            ContentReview review,
-            ContentReviewLikeRepository likeRepository) {
+    public TopReviewWithContentResponseDto(ContentReview review) {
         this.reviewId = review.getId();
         this.contentId = review.getContent().getId();
         this.contentTitle = review.getContent().getTitle();
@@ -38,7 +35,7 @@ public class TopReviewWithContentResponseDto {
                 : review.getMember().getNickname();
         this.rating = review.getRating();
         this.comment = review.getComment();
-        this.likeCount = likeRepository.countByReviewId(review.getId());
+        this.likeCount = review.getLikeCount();
         this.createdAt = review.getCreatedAt();
         this.updatedAt = review.getUpdatedAt();
     }
@@ -46,10 +43,7 @@ public class TopReviewWithContentResponseDto {
     /**
      * Member를 직접 받는 생성자 (탈퇴한 사용자 포함 조회용)
      */
-    public TopReviewWithContentResponseDto(
-            ContentReview review,
-            ContentReviewLikeRepository likeRepository,
-            Member member) {
+    public TopReviewWithContentResponseDto(ContentReview review, Member member) {
         this.reviewId = review.getId();
         this.contentId = review.getContent().getId();
         this.contentTitle = review.getContent().getTitle();
@@ -61,7 +55,7 @@ public class TopReviewWithContentResponseDto {
                 : member.getNickname();
         this.rating = review.getRating();
         this.comment = review.getComment();
-        this.likeCount = likeRepository.countByReviewId(review.getId());
+        this.likeCount = review.getLikeCount();
         this.createdAt = review.getCreatedAt();
         this.updatedAt = review.getUpdatedAt();
     }
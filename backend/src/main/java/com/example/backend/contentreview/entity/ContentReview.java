@@ -11,7 +11,11 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder(access = AccessLevel.PRIVATE)
-@Table(name = "content_reviews")
+@Table(
+        name = "content_reviews",
+        // 콘텐츠별 추천 수 순 리뷰 목록 / 최고 리뷰 선정
+        indexes = @Index(name = "idx_content_review_content_like", columnList = "content_id, is_deleted, like_count, created_at")
+)
 public class ContentReview extends AuditableEntity {
 
     @Id
@@ -35,6 +39,14 @@ public class ContentReview extends AuditableEntity {
     @Column(nullable = false)
     private boolean isDeleted = false;
 
+    /**
+     * 추천 수 (toggleReviewLike에서 원자적 UPDATE로 증감)
+     * 엔티티 변경 감지로는 쓰지 않아, 리뷰 수정/삭제 시 읽어 둔 값이 동시 증감 결과를 덮어쓰지 않는다.
+     */
+    @Column(name = "like_count", nullable = false, updatable = false)
+    @Builder.Default
+    private long likeCount = 0L;
+
     public static ContentReview create(Content content, Member member, int rating, String comment) {
         return ContentReview.builder()
                 .content(content)
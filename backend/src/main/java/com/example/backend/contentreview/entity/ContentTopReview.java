@@ -0,0 +1,35 @@
+package com.example.backend.contentreview.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 콘텐츠별 최고 추천 리뷰 (랭킹용 집계 테이블)
+ * 리뷰 작성/삭제/추천 토글 시 해당 콘텐츠 행만 갱신하며, /api/reviews/top은 이 테이블을 추천 수 순으로 limit만큼 읽는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder(access = AccessLevel.PRIVATE)
+@Table(
+        name = "content_top_reviews",
+        indexes = @Index(name = "idx_content_top_review_rank", columnList = "like_count, review_created_at")
+)
+public class ContentTopReview {
+
+    @Id
+    @Column(name = "content_id")
+    private Long contentId;
+
+    @Column(name = "review_id", nullable = false)
+    private Long reviewId;
+
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
+    @Column(name = "review_created_at", nullable = false)
+    private LocalDateTime reviewCreatedAt;
+}
@@ -2,6 +2,11 @@ package com.example.backend.contentreview.repository;
 
 import com.example.backend.contentreview.entity.ContentReviewLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ContentReviewLikeRepository extends JpaRepository<ContentReviewLike, Long> {
     /**
@@ -11,11 +16,13 @@ public interface ContentReviewLikeRepository extends JpaRepository<ContentReview
 
     /**
      * 특정 리뷰에 특정 회원의 추천 삭제
+     * @return 삭제된 추천 수
      */
-    void deleteByReviewIdAndMemberId(Long reviewId, Long memberId);
+    long deleteByReviewIdAndMemberId(Long reviewId, Long memberId);
 
     /**
-     * 특정 리뷰의 추천 수 조회
+     * 리뷰 목록 중 특정 회원이 추천한 리뷰 ID 조회 (목록 화면 일괄 조회용)
      */
-    long countByReviewId(Long reviewId);
+    @Query("SELECT l.reviewId FROM ContentReviewLike l WHERE l.memberId = :memberId AND l.reviewId IN :reviewIds")
+    List<Long> findLikedReviewIds(@Param("memberId") Long memberId, @Param("reviewIds") Collection<Long> reviewIds);
 }
@@ -3,9 +3,11 @@ package com.example.backend.contentreview.repository;
 import com.example.backend.contentreview.entity.ContentReview;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ContentReviewRepository extends JpaRepository<ContentReview, Long> {
@@ -21,7 +23,7 @@ public interface ContentReviewRepository extends JpaRepository<ContentReview, Lo
            "JOIN FETCH r.content c " +
            "JOIN FETCH c.channel " +
            "WHERE r.content.id = :contentId AND r.isDeleted = false " +
-           "ORDER BY (SELECT COUNT(l) FROM ContentReviewLike l WHERE l.reviewId = r.id) DESC, r.createdAt DESC")
+           "ORDER BY r.likeCount DESC, r.createdAt DESC")
     List<ContentReview> findByContentIdAndIsDeletedFalseOrderByLikeCountDesc(@Param("contentId") Long contentId);
 
     /**
@@ -32,14 +34,48 @@ public interface ContentReviewRepository extends JpaRepository<ContentReview, Lo
     List<ContentReview> findByContentIdAndIsDeletedFalse(Long contentId);
 
     /**
-     * 모든 리뷰 조회 (삭제되지 않은 리뷰만, Content와 Channel 포함)
-     * 콘텐츠별 최고 추천 리뷰 선택을 위해 사용
+     * 리뷰 ID 목록으로 조회 (Content와 Channel 포함)
      */
     @Query("SELECT r FROM ContentReview r " +
            "JOIN FETCH r.content c " +
            "JOIN FETCH c.channel " +
-           "WHERE r.isDeleted = false")
-    List<ContentReview> findAllWithContentAndChannel();
+           "WHERE r.id IN :ids")
+    List<ContentReview> findAllWithContentAndChannelByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 콘텐츠의 리뷰 순위 조회 (추천 수 순, 같으면 최신순) - 최고 리뷰 갱신용
+     */
+    @Query("SELECT r.id AS reviewId, r.likeCount AS likeCount, r.createdAt AS createdAt " +
+           "FROM ContentReview r " +
+           "WHERE r.content.id = :contentId AND r.isDeleted = false " +
+           "ORDER BY r.likeCount DESC, r.createdAt DESC")
+    List<ReviewRank> findBestReviewsByContentId(@Param("contentId") Long contentId, Pageable pageable);
+
+    /**
+     * 추천 수 증가
+     */
+    @Modifying
+    @Query("UPDATE ContentReview r SET r.likeCount = r.likeCount + 1 WHERE r.id = :reviewId")
+    int increaseLikeCount(@Param("reviewId") Long reviewId);
+
+    /**
+     * 추천 수 감소 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE ContentReview r SET r.likeCount = r.likeCount - 1 WHERE r.id = :reviewId AND r.likeCount > 0")
+    int decreaseLikeCount(@Param("reviewId") Long reviewId);
+
+    /**
+     * like_count 컬럼 추가 이전 리뷰의 추천 수 보정 (추천이 있는데 0으로 남아 있는 리뷰만)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE content_reviews r
+        SET r.like_count = (SELECT COUNT(*) FROM content_review_likes l WHERE l.review_id = r.id)
+        WHERE r.like_count = 0
+        AND EXISTS (SELECT 1 FROM content_review_likes l WHERE l.review_id = r.id)
+        """, nativeQuery = true)
+    int backfillLikeCounts();
 
     /**
      * 특정 채널의 최근 리뷰 조회 (삭제되지 않은 리뷰만, 최신순 정렬)
@@ -0,0 +1,113 @@
+package com.example.backend.contentreview.repository;
+
+import com.example.backend.contentreview.entity.ContentTopReview;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ContentTopReviewRepository extends JpaRepository<ContentTopReview, Long> {
+
+    /**
+     * 추천 수가 많은 순(같으면 최신순)으로 콘텐츠별 최고 리뷰 ID 조회
+     */
+    @Query("SELECT t.reviewId FROM ContentTopReview t ORDER BY t.likeCount DESC, t.reviewCreatedAt DESC")
+    List<Long> findTopReviewIds(Pageable pageable);
+
+    /**
+     * 콘텐츠의 최고 리뷰 갱신 (행이 없으면 추가)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO content_top_reviews (content_id, review_id, like_count, review_created_at)
+        VALUES (:contentId, :reviewId, :likeCount, :reviewCreatedAt)
+        ON DUPLICATE KEY UPDATE
+            review_id = VALUES(review_id),
+            like_count = VALUES(like_count),
+            review_created_at = VALUES(review_created_at)
+        """, nativeQuery = true)
+    void upsert(
+            @Param("contentId") Long contentId,
+            @Param("reviewId") Long reviewId,
+            @Param("likeCount") long likeCount,
+            @Param("reviewCreatedAt") LocalDateTime reviewCreatedAt
+    );
+
+    /**
+     * 콘텐츠의 최고 리뷰 갱신 (추천 증가 시)
+     * 저장된 리뷰보다 순위가 같거나 높을 때만 교체하므로, 먼저 읽은 오래된 결과가 나중에 써지더라도 순위를 낮추지 않는다.
+     * @return 갱신 건수 (0이면 행이 없거나 저장된 리뷰의 순위가 더 높음)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE content_top_reviews
+        SET review_id = :reviewId, like_count = :likeCount, review_created_at = :reviewCreatedAt
+        WHERE content_id = :contentId
+          AND (like_count < :likeCount
+               OR (like_count = :likeCount AND review_created_at <= :reviewCreatedAt))
+        """, nativeQuery = true)
+    int updateIfRanksHigher(
+            @Param("contentId") Long contentId,
+            @Param("reviewId") Long reviewId,
+            @Param("likeCount") long likeCount,
+            @Param("reviewCreatedAt") LocalDateTime reviewCreatedAt
+    );
+
+    /**
+     * 콘텐츠의 최고 리뷰 추가 (이미 있으면 무시)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO content_top_reviews (content_id, review_id, like_count, review_created_at)
+        VALUES (:contentId, :reviewId, :likeCount, :reviewCreatedAt)
+        """, nativeQuery = true)
+    void insertIgnore(
+            @Param("contentId") Long contentId,
+            @Param("reviewId") Long reviewId,
+            @Param("likeCount") long likeCount,
+            @Param("reviewCreatedAt") LocalDateTime reviewCreatedAt
+    );
+
+    @Modifying
+    @Query("DELETE FROM ContentTopReview t WHERE t.contentId = :contentId")
+    void deleteByContentId(@Param("contentId") Long contentId);
+
+    /**
+     * 랭킹 테이블 구축/보정 (콘텐츠별 추천 수 1위, 같으면 최신 리뷰)
+     * 이미 있는 행은 리뷰 테이블 기준 값으로 덮어쓴다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO content_top_reviews (content_id, review_id, like_count, review_created_at)
+        SELECT ranked.content_id, ranked.id, ranked.like_count, ranked.created_at
+        FROM (
+            SELECT r.content_id, r.id, r.like_count, r.created_at,
+                   ROW_NUMBER() OVER (PARTITION BY r.content_id ORDER BY r.like_count DESC, r.created_at DESC) AS rn
+            FROM content_reviews r
+            WHERE r.is_deleted = false
+        ) ranked
+        WHERE ranked.rn = 1
+        ON DUPLICATE KEY UPDATE
+            review_id = VALUES(review_id),
+            like_count = VALUES(like_count),
+            review_created_at = VALUES(review_created_at)
+        """, nativeQuery = true)
+    int rebuild();
+
+    /**
+     * 삭제되지 않은 리뷰가 없는 콘텐츠의 랭킹 행 삭제
+     */
+    @Modifying
+    @Query(value = """
+        DELETE t FROM content_top_reviews t
+        WHERE NOT EXISTS (
+            SELECT 1 FROM content_reviews r
+            WHERE r.content_id = t.content_id AND r.is_deleted = false
+        )
+        """, nativeQuery = true)
+    int deleteOrphans();
+}
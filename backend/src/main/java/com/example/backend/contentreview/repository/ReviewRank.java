@@ -0,0 +1,15 @@
+package com.example.backend.contentreview.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 콘텐츠 내 리뷰 순위 정보 (ContentReviewRepository.findBestReviewsByContentId 결과)
+ */
+public interface ReviewRank {
+
+    Long getReviewId();
+
+    Long getLikeCount();
+
+    LocalDateTime getCreatedAt();
+}
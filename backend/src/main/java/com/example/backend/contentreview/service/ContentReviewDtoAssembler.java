@@ -0,0 +1,71 @@
+package com.example.backend.contentreview.service;
+
+import com.example.backend.contentreview.dto.response.ContentReviewResponseDto;
+import com.example.backend.contentreview.dto.response.TopReviewWithContentResponseDto;
+import com.example.backend.contentreview.entity.ContentReview;
+import com.example.backend.contentreview.repository.ContentReviewLikeRepository;
+import com.example.backend.member.entity.Member;
+import com.example.backend.member.service.MemberService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 리뷰 응답 DTO 일괄 조립
+ * 목록의 작성자(탈퇴 회원 포함)와 로그인 회원의 추천 여부를 각각 IN 쿼리 한 번으로 조회한 뒤 DTO를 만든다.
+ * 추천 수는 ContentReview.likeCount 컬럼을 그대로 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentReviewDtoAssembler {
+
+    private final MemberService memberService;
+    private final ContentReviewLikeRepository contentReviewLikeRepository;
+
+    public ContentReviewResponseDto toDto(ContentReview review, Long viewerId) {
+        return toDtos(List.of(review), viewerId).get(0);
+    }
+
+    /**
+     * @param viewerId 현재 로그인한 회원 ID (null이면 추천 여부는 모두 false)
+     */
+    public List<ContentReviewResponseDto> toDtos(List<ContentReview> reviews, Long viewerId) {
+        if (reviews.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Member> authors = findAuthors(reviews);
+        Set<Long> likedReviewIds = viewerId == null
+                ? Set.of()
+                : new HashSet<>(contentReviewLikeRepository.findLikedReviewIds(
+                        viewerId, reviews.stream().map(ContentReview::getId).toList()));
+
+        return reviews.stream()
+                .map(review -> new ContentReviewResponseDto(
+                        review,
+                        authors.get(review.getMember().getId()),
+                        likedReviewIds.contains(review.getId())))
+                .toList();
+    }
+
+    public List<TopReviewWithContentResponseDto> toTopReviewDtos(List<ContentReview> reviews) {
+        if (reviews.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Member> authors = findAuthors(reviews);
+        return reviews.stream()
+                .map(review -> new TopReviewWithContentResponseDto(review, authors.get(review.getMember().getId())))
+                .toList();
+    }
+
+    // 탈퇴 회원 포함 작성자 일괄 조회 (review.getMember()는 @SQLRestriction 때문에 탈퇴 회원을 읽지 못하므로 ID만 사용)
+    private Map<Long, Member> findAuthors(List<ContentReview> reviews) {
+        return memberService.findMembersIncludingDeleted(
+                reviews.stream().map(review -> review.getMember().getId()).distinct().toList());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.backend.contentreview.service;
+
+import com.example.backend.contentreview.repository.ContentReviewRepository;
+import com.example.backend.contentreview.repository.ContentTopReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리뷰 추천 수 / 최고 리뷰 랭킹 보정
+ * like_count 컬럼 추가 이전 리뷰의 추천 수를 채우고, 랭킹 테이블이 비어 있으면 전체 리뷰 기준으로 한 번 구축한다.
+ * 이후에는 리뷰 작성/삭제/추천 토글 시 콘텐츠 단위로 갱신되므로 여러 번 실행되어도 안전하다.
+ * 동시 갱신 경합으로 어긋난 랭킹은 매일 리뷰 테이블 기준으로 다시 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentReviewRankingBackfillService {
+
+    private final ContentReviewRepository contentReviewRepository;
+    private final ContentTopReviewRepository contentTopReviewRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int updated = contentReviewRepository.backfillLikeCounts();
+        if (updated > 0) {
+            log.info("리뷰 추천 수 컬럼 보정 완료 - {}건", updated);
+        }
+
+        if (contentTopReviewRepository.count() == 0) {
+            int inserted = contentTopReviewRepository.rebuild();
+            log.info("콘텐츠별 최고 리뷰 랭킹 구축 완료 - {}건", inserted);
+        }
+    }
+
+    // 매일 04:30:00에 콘텐츠별 최고 리뷰 랭킹 보정
+    @Scheduled(cron = "${review.ranking.reconcile-cron:0 30 4 * * ?}")
+    @Transactional
+    public void reconcile() {
+        int upserted = contentTopReviewRepository.rebuild();
+        int deleted = contentTopReviewRepository.deleteOrphans();
+        log.info("콘텐츠별 최고 리뷰 랭킹 보정 완료 - 갱신 {}건, 삭제 {}건", upserted, deleted);
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.backend.contentreview.service;
 
-import com.example.backend.content.entity.AccessType;
 import com.example.backend.content.entity.Content;
 import com.example.backend.content.repository.ContentRepository;
 import com.example.backend.contentreview.entity.ContentReview;
@@ -10,15 +9,14 @@ import com.example.backend.contentreview.dto.response.ContentReviewResponseDto;
 import com.example.backend.contentreview.dto.response.TopReviewWithContentResponseDto;
 import com.example.backend.contentreview.repository.ContentReviewRepository;
 import com.example.backend.contentreview.repository.ContentReviewLikeRepository;
+import com.example.backend.contentreview.repository.ContentTopReviewRepository;
+import com.example.backend.contentreview.repository.ReviewRank;
 import com.example.backend.contentreviewcomment.repository.ContentReviewCommentRepository;
+import com.example.backend.entitlement.service.EntitlementService;
 import com.example.backend.global.exception.BusinessException;
 import com.example.backend.global.exception.ErrorCode;
 import com.example.backend.member.entity.Member;
 import com.example.backend.member.service.MemberService;
-import com.example.backend.order.entity.OrderStatus;
-import com.example.backend.order.entity.OrderType;
-import com.example.backend.order.repository.OrderRepository;
-import com.example.backend.subscription.service.SubscriptionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,9 +25,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -38,12 +37,13 @@ import java.util.stream.Collectors;
 public class ContentReviewService {
 
     private final ContentReviewRepository contentReviewRepository;
+    private final ContentTopReviewRepository contentTopReviewRepository;
     private final ContentReviewLikeRepository contentReviewLikeRepository;
+    private final ContentReviewDtoAssembler contentReviewDtoAssembler;
     private final ContentReviewCommentRepository contentReviewCommentRepository;
     private final MemberService memberService;
     private final ContentRepository contentRepository;
-    private final OrderRepository orderRepository;
-    private final SubscriptionService subscriptionService;
+    private final EntitlementService entitlementService;
 
     @Transactional
     public ContentReviewResponseDto createReview(Long contentId, Long memberId, ContentReviewRequestDto request) {
@@ -64,8 +64,9 @@ public class ContentReviewService {
         ContentReview contentReview = ContentReview.create(content, member, request.getRating(), request.getComment());
 
         ContentReview savedReview = contentReviewRepository.save(contentReview);
-        // Member는 이미 findMemberIncludingDeleted로 조회했으므로 그대로 사용
-        return new ContentReviewResponseDto(savedReview, memberId, contentReviewLikeRepository, member);
+        refreshTopReview(contentId, true);
+        // Member는 이미 findMemberIncludingDeleted로 조회했으므로 그대로 사용 (새 리뷰는 추천 없음)
+        return new ContentReviewResponseDto(savedReview, member, false);
     }
 
     @Transactional
@@ -73,9 +74,7 @@ public class ContentReviewService {
         ContentReview contentReview = findContentReviewById(reviewId);
 
         contentReview.update(request.getRating(), request.getComment());
-        // Member를 탈퇴한 사용자 포함하여 조회
-        Member member = memberService.findMemberIncludingDeleted(contentReview.getMember().getId());
-        return new ContentReviewResponseDto(contentReview, null, contentReviewLikeRepository, member);
+        return contentReviewDtoAssembler.toDto(contentReview, null);
     }
 
     @Transactional
@@ -88,30 +87,20 @@ public class ContentReviewService {
         }
         
         contentReview.changeDeleteStatus();
+        refreshTopReview(contentReview.getContent().getId(), false);
     }
 
     public ContentReviewResponseDto getReview(Long reviewId, Long memberId) {
         ContentReview contentReview = findContentReviewById(reviewId);
-        // Member를 탈퇴한 사용자 포함하여 조회
-        Member member = memberService.findMemberIncludingDeleted(contentReview.getMember().getId());
-        return new ContentReviewResponseDto(contentReview, memberId, contentReviewLikeRepository, member);
+        return contentReviewDtoAssembler.toDto(contentReview, memberId);
     }
 
     public List<ContentReviewResponseDto> getReviewsByContent(Long contentId, Long memberId) {
         // 추천 수가 많은 순으로 정렬된 리뷰 조회
         List<ContentReview> reviews = contentReviewRepository.findByContentIdAndIsDeletedFalseOrderByLikeCountDesc(contentId);
         
-        // 각 리뷰의 Member를 탈퇴한 사용자 포함하여 조회
-        return reviews.stream()
-                .map(review -> {
-                    // Member를 탈퇴한 사용자 포함하여 조회
-                    Member member = memberService.findMemberIncludingDeleted(review.getMember().getId());
-                    // Member를 수동으로 설정 (리뷰 엔티티의 member 필드 업데이트)
-                    // 리뷰 엔티티는 불변 객체이므로, DTO 생성 시 member를 직접 전달하는 방식으로 변경 필요
-                    // 대신 DTO 생성자에서 member를 별도로 조회하도록 수정
-                    return new ContentReviewResponseDto(review, memberId, contentReviewLikeRepository, member);
-                })
-                .collect(Collectors.toList());
+        // 작성자/추천 여부를 일괄 조회하여 DTO 조립
+        return contentReviewDtoAssembler.toDtos(reviews, memberId);
     }
 
     /**
@@ -127,16 +116,23 @@ public class ContentReviewService {
         // 이미 추천했는지 확인
         boolean isLiked = contentReviewLikeRepository.existsByReviewIdAndMemberId(reviewId, memberId);
 
+        boolean liked;
         if (isLiked) {
-            // 추천 취소
-            contentReviewLikeRepository.deleteByReviewIdAndMemberId(reviewId, memberId);
-            return false;
+            // 추천 취소 (실제로 삭제된 경우에만 추천 수 감소)
+            if (contentReviewLikeRepository.deleteByReviewIdAndMemberId(reviewId, memberId) > 0) {
+                contentReviewRepository.decreaseLikeCount(reviewId);
+            }
+            liked = false;
         } else {
             // 추천 추가
             ContentReviewLike reviewLike = ContentReviewLike.create(reviewId, memberId);
             contentReviewLikeRepository.save(reviewLike);
-            return true;
+            contentReviewRepository.increaseLikeCount(reviewId);
+            liked = true;
         }
+
+        refreshTopReview(review.getContent().getId(), liked);
+        return liked;
     }
 
     public boolean contentReviewDupCheck(Long contentId, Long memberId) {
@@ -159,14 +155,8 @@ public class ContentReviewService {
         List<ContentReview> reviews = contentReviewRepository.findByChannelIdAndIsDeletedFalseOrderByCreatedAtDesc(
                 channelId, PageRequest.of(0, 5));
         
-        // 각 리뷰의 Member를 탈퇴한 사용자 포함하여 조회
-        return reviews.stream()
-                .map(review -> {
-                    // Member를 탈퇴한 사용자 포함하여 조회
-                    Member member = memberService.findMemberIncludingDeleted(review.getMember().getId());
-                    return new ContentReviewResponseDto(review, memberId, contentReviewLikeRepository, member);
-                })
-                .collect(Collectors.toList());
+        // 작성자/추천 여부를 일괄 조회하여 DTO 조립
+        return contentReviewDtoAssembler.toDtos(reviews, memberId);
     }
 
     /**
@@ -175,77 +165,55 @@ public class ContentReviewService {
      * @return 각 콘텐츠별 추천 수가 가장 많은 리뷰 목록
      */
     public List<TopReviewWithContentResponseDto> getTopReviewsByLikeCount(int limit) {
-        // 모든 리뷰를 가져와서 콘텐츠별로 그룹화
-        List<ContentReview> allReviews = contentReviewRepository.findAllWithContentAndChannel();
-        
-        // 콘텐츠별로 그룹화하고, 각 콘텐츠에서 추천 수가 가장 많은 리뷰 하나씩 선택
-        Map<Long, ContentReview> topReviewPerContent = allReviews.stream()
-                .collect(Collectors.groupingBy(
-                        review -> review.getContent().getId(),
-                        Collectors.collectingAndThen(
-                                Collectors.toList(),
-                                reviews -> reviews.stream()
-                                        .max(Comparator.comparingLong((ContentReview review) -> 
-                                                contentReviewLikeRepository.countByReviewId(review.getId())
-                                        ).thenComparing(ContentReview::getCreatedAt, Comparator.reverseOrder()))
-                                        .orElse(null)
-                        )
-                ))
-                .entrySet().stream()
-                .filter(entry -> entry.getValue() != null)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-        
-        // 추천 수 기준으로 정렬하고 limit만큼 선택
-        List<ContentReview> topReviews = topReviewPerContent.values().stream()
-                .sorted(Comparator.comparingLong((ContentReview review) -> 
-                        contentReviewLikeRepository.countByReviewId(review.getId())
-                ).reversed()
-                .thenComparing(ContentReview::getCreatedAt, Comparator.reverseOrder()))
-                .limit(limit)
-                .collect(Collectors.toList());
-        
-        // 각 리뷰의 Member를 탈퇴한 사용자 포함하여 조회
-        return topReviews.stream()
-                .map(review -> {
-                    // Member를 탈퇴한 사용자 포함하여 조회
-                    Member member = memberService.findMemberIncludingDeleted(review.getMember().getId());
-                    return new TopReviewWithContentResponseDto(review, contentReviewLikeRepository, member);
-                })
-                .collect(Collectors.toList());
+        // 콘텐츠별 최고 리뷰 랭킹에서 상위 limit개만 조회
+        List<Long> reviewIds = contentTopReviewRepository.findTopReviewIds(PageRequest.of(0, limit));
+        if (reviewIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ContentReview> reviewMap = contentReviewRepository.findAllWithContentAndChannelByIdIn(reviewIds).stream()
+                .collect(Collectors.toMap(ContentReview::getId, Function.identity()));
+
+        // 랭킹 순서 유지
+        List<ContentReview> topReviews = reviewIds.stream()
+                .map(reviewMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return contentReviewDtoAssembler.toTopReviewDtos(topReviews);
     }
 
     /**
-     * 콘텐츠 접근 권한 확인 (구매/구독 여부)
-     * 리뷰 작성 권한이 있는지 확인합니다.
+     * 콘텐츠의 최고 추천 리뷰 랭킹 갱신
+     * 추천 수 순 인덱스로 1건만 읽어 content_top_reviews의 해당 콘텐츠 행을 교체한다.
+     * 순위가 오르는 변경(리뷰 작성, 추천)은 저장된 리뷰보다 순위가 같거나 높을 때만 교체해
+     * 동시에 갱신한 다른 요청의 더 높은 결과를 오래된 값으로 덮어쓰지 않는다.
+     * 순위가 내려가는 변경(리뷰 삭제, 추천 취소)은 그대로 교체하고, 그 사이 경합으로 어긋난 값은 주기적 보정에서 맞춘다.
+     * @param raised 순위가 오르는 변경인지 여부
      */
-    private void validateContentAccess(Content content, Long memberId) {
-        AccessType accessType = content.getAccessType();
-        
-        // 무료 콘텐츠는 항상 접근 가능
-        if (accessType == AccessType.FREE) {
+    private void refreshTopReview(Long contentId, boolean raised) {
+        List<ReviewRank> best = contentReviewRepository.findBestReviewsByContentId(contentId, PageRequest.of(0, 1));
+        if (best.isEmpty()) {
+            contentTopReviewRepository.deleteByContentId(contentId);
             return;
         }
 
-        Long channelId = content.getChannel().getId();
-        
-        // 1. 채널 구독 내역 확인 (Service 메서드 사용)
-        boolean hasActiveSubscription = subscriptionService.hasActiveSubscription(memberId, channelId);
-        
-        // 2. 콘텐츠 단건 구매 내역 확인 (Repository 직접 사용)
-        boolean hasPurchasedContent = orderRepository.existsByMemberIdAndContentIdAndOrderTypeAndStatus(
-                memberId, content.getId(), OrderType.CONTENT, OrderStatus.PAID);
-        
-        // 접근 타입에 따라 접근 권한 결정
-        boolean hasAccess = false;
-        if (accessType == AccessType.SUBSCRIBER_ONLY) {
-            // 구독자만 접근 가능: 채널 구독 내역 확인
-            hasAccess = hasActiveSubscription;
-        } else if (accessType == AccessType.SINGLE_PURCHASE || accessType == AccessType.PARTIAL) {
-            // 단건 구매/미리보기 콘텐츠: 구매 내역 또는 구독 내역 확인 (구독자도 접근 가능)
-            hasAccess = hasPurchasedContent || hasActiveSubscription;
+        ReviewRank top = best.get(0);
+        if (!raised) {
+            contentTopReviewRepository.upsert(contentId, top.getReviewId(), top.getLikeCount(), top.getCreatedAt());
+            return;
+        }
+        if (contentTopReviewRepository.updateIfRanksHigher(
+                contentId, top.getReviewId(), top.getLikeCount(), top.getCreatedAt()) == 0) {
+            contentTopReviewRepository.insertIgnore(contentId, top.getReviewId(), top.getLikeCount(), top.getCreatedAt());
         }
+    }
 
-        if (!hasAccess) {
+    /**
+     * 콘텐츠 접근 권한 확인 (구매/구독 여부)
+     * 리뷰 작성 권한이 있는지 확인합니다.
+     */
+    private void validateContentAccess(Content content, Long memberId) {
+        if (!entitlementService.canAccess(memberId, content)) {
             throw new BusinessException(ErrorCode.REVIEW_ACCESS_DENIED);
         }
     }
@@ -0,0 +1,53 @@
+package com.example.backend.contentreviewcomment.service;
+
+import com.example.backend.contentreviewcomment.dto.response.ContentReviewCommentResponseDto;
+import com.example.backend.contentreviewcomment.entity.ContentReviewComment;
+import com.example.backend.member.entity.Member;
+import com.example.backend.member.service.MemberService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 댓글 응답 DTO 일괄 조립
+ * 최상위 댓글과 대댓글의 작성자(탈퇴 회원 포함)를 IN 쿼리 한 번으로 조회한 뒤 댓글 트리를 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentReviewCommentDtoAssembler {
+
+    private final MemberService memberService;
+
+    /**
+     * @param comments 대댓글(children)이 함께 로딩된 최상위 댓글 목록
+     */
+    public List<ContentReviewCommentResponseDto> toTree(List<ContentReviewComment> comments) {
+        if (comments.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> authorIds = comments.stream()
+                .flatMap(comment -> Stream.concat(Stream.of(comment), comment.getChildren().stream()))
+                .map(comment -> comment.getMember().getId())
+                .distinct()
+                .toList();
+        Map<Long, Member> authors = memberService.findMembersIncludingDeleted(authorIds);
+
+        return comments.stream()
+                .map(comment -> {
+                    ContentReviewCommentResponseDto dto = toDto(comment, authors);
+                    dto.setChildren(comment.getChildren().stream()
+                            .map(child -> toDto(child, authors))
+                            .toList());
+                    return dto;
+                })
+                .toList();
+    }
+
+    private ContentReviewCommentResponseDto toDto(ContentReviewComment comment, Map<Long, Member> authors) {
+        return new ContentReviewCommentResponseDto(comment, authors.get(comment.getMember().getId()));
+    }
+}
@@ -73,8 +73,8 @@ public class CouponController {
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         Long memberId = userDetails.getMemberId();
-        Long memberCouponId = couponIssueService.issueCoupon(memberId, couponId);
-        return ResponseEntity.ok(CouponIssueResponse.of(memberCouponId));
+        couponIssueService.issueCoupon(memberId, couponId);
+        return ResponseEntity.ok(CouponIssueResponse.of(couponId));
     }
 
     @PostMapping("/coupons/{couponId}/validate")
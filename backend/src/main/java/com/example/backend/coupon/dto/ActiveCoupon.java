@@ -0,0 +1,57 @@
+package com.example.backend.coupon.dto;
+
+import com.example.backend.coupon.entity.Coupon;
+import com.example.backend.coupon.entity.CouponTarget;
+import com.example.backend.coupon.entity.CouponTargetType;
+import com.example.backend.coupon.entity.DiscountType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 채널별 사용 가능 쿠폰 캐시 값 (쿠폰 + 적용 대상)
+ */
+public record ActiveCoupon(
+        Long id,
+        String code,
+        DiscountType discountType,
+        Integer discountValue,
+        LocalDateTime expiredAt,
+        LocalDateTime createdAt,
+        List<Target> targets
+) {
+
+    public static ActiveCoupon of(Coupon coupon, List<CouponTarget> targets) {
+        return new ActiveCoupon(
+                coupon.getId(),
+                coupon.getCode(),
+                coupon.getDiscountType(),
+                coupon.getDiscountValue(),
+                coupon.getExpiredAt(),
+                coupon.getCreatedAt(),
+                targets.stream()
+                        .map(target -> new Target(target.getTargetType(), target.getTargetId()))
+                        .toList()
+        );
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiredAt.isAfter(now);
+    }
+
+    // 특정 콘텐츠에 적용 가능한지 (콘텐츠 전체 대상 또는 해당 콘텐츠 지정)
+    public boolean appliesToContent(Long contentId) {
+        return targets.stream()
+                .anyMatch(target -> target.targetType() == CouponTargetType.CONTENT
+                        && (target.targetId() == null || target.targetId().equals(contentId)));
+    }
+
+    public record Target(CouponTargetType targetType, Long targetId) {
+    }
+
+    /**
+     * 캐시 저장 단위 (채널 전용 쿠폰 목록 또는 전체 채널 공용 쿠폰 목록)
+     */
+    public record Snapshot(List<ActiveCoupon> coupons) {
+    }
+}
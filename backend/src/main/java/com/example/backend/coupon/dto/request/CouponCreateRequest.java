@@ -24,6 +24,10 @@ public record CouponCreateRequest(
 
         Long channelId,
 
+        // 발급 한도 (없으면 무제한)
+        @Positive
+        Integer totalQuantity,
+
         List<CouponTargetCreateRequest> targets
 ) {
     public record CouponTargetCreateRequest(@NotNull CouponTargetType targetType, Long targetId) {}
@@ -1,5 +1,6 @@
 package com.example.backend.coupon.dto.response;
 
+import com.example.backend.coupon.dto.ActiveCoupon;
 import com.example.backend.coupon.entity.Coupon;
 import com.example.backend.coupon.entity.CouponTarget;
 import com.example.backend.coupon.entity.CouponTargetType;
@@ -34,6 +35,20 @@ public record ChannelCouponResponse(
         );
     }
 
+    public static ChannelCouponResponse from(ActiveCoupon coupon, boolean isIssued) {
+        return new ChannelCouponResponse(
+                coupon.id(),
+                coupon.code(),
+                coupon.discountType(),
+                coupon.discountValue(),
+                coupon.expiredAt(),
+                coupon.targets().stream()
+                        .map(target -> new CouponTargetInfo(target.targetType(), target.targetId()))
+                        .toList(),
+                isIssued
+        );
+    }
+
     public record CouponTargetInfo(
             CouponTargetType targetType,
             Long targetId
@@ -1,10 +1,10 @@
 package com.example.backend.coupon.dto.response;
 
 public record CouponIssueResponse(
-        Long memberCouponId,
+        Long couponId,
         String message
 ) {
-    public static CouponIssueResponse of(Long memberCouponId) {
-        return new CouponIssueResponse(memberCouponId, "쿠폰이 성공적으로 발급되었습니다.");
+    public static CouponIssueResponse of(Long couponId) {
+        return new CouponIssueResponse(couponId, "쿠폰이 성공적으로 발급되었습니다.");
     }
 }
@@ -12,7 +12,8 @@ public record CouponResponse(Long id,
                              Integer discountValue,
                              RefundType refundType,
                              LocalDateTime expiredAt,
-                             Long channelId
+                             Long channelId,
+                             Integer totalQuantity
 ) {
     public static CouponResponse fromEntity(Coupon coupon) {
         return new CouponResponse(
@@ -22,7 +23,8 @@ public record CouponResponse(Long id,
                 coupon.getDiscountValue(),
                 coupon.getRefundType(),
                 coupon.getExpiredAt(),
-                coupon.getChannelId()
+                coupon.getChannelId(),
+                coupon.getTotalQuantity()
         );
     }
 }
\ No newline at end of file
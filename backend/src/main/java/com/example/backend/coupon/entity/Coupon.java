@@ -7,7 +7,8 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "coupons")
+@Table(name = "coupons",
+        indexes = @Index(name = "idx_coupons_channel_expired", columnList = "channel_id, expired_at"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
@@ -37,13 +38,18 @@ public class Coupon extends CreatedAtEntity {
     @Column(name = "channel_id")
     private Long channelId;
 
+    // 발급 한도 (null이면 무제한)
+    @Column(name = "total_quantity")
+    private Integer totalQuantity;
+
     public static Coupon create(
             String code,
             DiscountType discountType,
             Integer discountValue,
             RefundType refundType,
             LocalDateTime expiredAt,
-            Long channelId
+            Long channelId,
+            Integer totalQuantity
     ) {
         return Coupon.builder()
                 .code(code)
@@ -52,6 +58,7 @@ public class Coupon extends CreatedAtEntity {
                 .refundType(refundType != null ? refundType : RefundType.EXPIRE_ON_REFUND)
                 .expiredAt(expiredAt)
                 .channelId(channelId)
+                .totalQuantity(totalQuantity)
                 .build();
     }
 
@@ -59,6 +66,10 @@ public class Coupon extends CreatedAtEntity {
         return !expiredAt.isAfter(now);
     }
 
+    public boolean hasQuantityLimit() {
+        return totalQuantity != null;
+    }
+
     public void updateExpiredAt(LocalDateTime newExpiredAt) {
         this.expiredAt = newExpiredAt;
     }
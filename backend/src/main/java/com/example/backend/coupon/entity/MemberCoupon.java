@@ -36,6 +36,10 @@ public class MemberCoupon extends CreatedAtEntity {
     @Column(nullable = false)
     private MemberCouponStatus status;
 
+    // 선착순 발급 일괄 저장 시 호출마다 부여하는 값 (드라이버가 행별 저장 건수를 알려주지 않을 때 이번 호출이 저장한 행을 구분)
+    @Column(name = "issue_token")
+    private Long issueToken;
+
     public static MemberCoupon issue(Member member, Coupon coupon) {
         return MemberCoupon.builder()
                 .member(member)
@@ -15,23 +15,15 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
     Optional<Coupon> findByCodeIgnoreCase(String code);
     boolean existsByCodeIgnoreCase(String code);
 
-    @Query("SELECT c FROM Coupon c WHERE (c.channelId = :channelId OR c.channelId IS NULL) AND c.expiredAt > :now ORDER BY c.createdAt DESC")
-    List<Coupon> findAvailableCouponsByChannelId(@Param("channelId") Long channelId, @Param("now") LocalDateTime now);
+    // 채널 전용 사용 가능 쿠폰 (채널별 쿠폰 캐시 적재용)
+    @Query("SELECT c FROM Coupon c WHERE c.channelId = :channelId AND c.expiredAt > :now ORDER BY c.createdAt DESC")
+    List<Coupon> findActiveCouponsByChannelId(@Param("channelId") Long channelId, @Param("now") LocalDateTime now);
 
-    List<Coupon> findByChannelIdOrderByCreatedAtDesc(Long channelId);
+    // 전체 채널 공용 사용 가능 쿠폰 (채널별 쿠폰 캐시 적재용)
+    @Query("SELECT c FROM Coupon c WHERE c.channelId IS NULL AND c.expiredAt > :now ORDER BY c.createdAt DESC")
+    List<Coupon> findActiveGlobalCoupons(@Param("now") LocalDateTime now);
 
-    @Query("SELECT DISTINCT c FROM Coupon c " +
-           "JOIN CouponTarget ct ON ct.coupon.id = c.id " +
-           "WHERE (c.channelId = :channelId OR c.channelId IS NULL) " +
-           "AND c.expiredAt > :now " +
-           "AND ct.targetType = 'CONTENT' " +
-           "AND (ct.targetId = :contentId OR ct.targetId IS NULL) " +
-           "ORDER BY c.createdAt DESC")
-    List<Coupon> findAvailableCouponsByContentId(
-            @Param("channelId") Long channelId,
-            @Param("contentId") Long contentId,
-            @Param("now") LocalDateTime now
-    );
+    List<Coupon> findByChannelIdOrderByCreatedAtDesc(Long channelId);
 
     @Query("SELECT c FROM Coupon c WHERE c.expiredAt > :now ORDER BY c.createdAt DESC")
     Page<Coupon> findActiveCoupons(@Param("now") LocalDateTime now, Pageable pageable);
@@ -6,11 +6,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CouponTargetRepository extends JpaRepository<CouponTarget, Long> {
 
     List<CouponTarget> findByCouponId(Long couponId);
+
+    @Query("SELECT ct FROM CouponTarget ct WHERE ct.coupon.id IN :couponIds")
+    List<CouponTarget> findByCouponIdIn(@Param("couponIds") Collection<Long> couponIds);
     List<CouponTarget> findByCouponIdAndTargetType(Long couponId, CouponTargetType targetType);
 
     @Query("SELECT ct FROM CouponTarget ct " +
@@ -0,0 +1,94 @@
+package com.example.backend.coupon.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 선착순 발급 쿠폰 일괄 저장 (JDBC 배치)
+ * CouponIssueService가 Redis 발급 대기열을 flush할 때 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberCouponBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 발급 쿠폰 저장 (회원-쿠폰 유니크 키로 이미 있으면 건너뜀)
+     * 중복 키만 건너뛰고 외래 키 위반 등 다른 오류는 그대로 예외로 던진다. (INSERT IGNORE는 경고로 바꿔 삼킴)
+     * @return 이번 호출로 새로 저장된 발급
+     */
+    public List<PendingIssue> insertIfAbsent(List<PendingIssue> issues) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long issueToken = ThreadLocalRandom.current().nextLong();
+        int[] results = jdbcTemplate.batchUpdate(
+                "INSERT INTO member_coupons (member_id, coupon_id, status, created_at, issue_token) VALUES (?, ?, 'ISSUED', ?, ?) "
+                        + "ON DUPLICATE KEY UPDATE member_id = member_id",
+                issues,
+                issues.size(),
+                (ps, issue) -> {
+                    ps.setLong(1, issue.memberId());
+                    ps.setLong(2, issue.couponId());
+                    ps.setTimestamp(3, now);
+                    ps.setLong(4, issueToken);
+                }
+        )[0];
+
+        List<PendingIssue> inserted = new ArrayList<>();
+        List<PendingIssue> unknown = new ArrayList<>();
+        for (int i = 0; i < issues.size(); i++) {
+            if (results[i] > 0) {
+                inserted.add(issues.get(i));
+            } else if (results[i] == Statement.SUCCESS_NO_INFO) {
+                unknown.add(issues.get(i));
+            }
+        }
+        if (!unknown.isEmpty()) {
+            inserted.addAll(findInserted(unknown, issueToken));
+        }
+        return inserted;
+    }
+
+    /**
+     * 드라이버가 행별 건수를 알려주지 않은 경우(SUCCESS_NO_INFO, 배치 재작성) 다시 조회해 신규 저장 여부 판단
+     * 저장된 issue_token이 이번 호출의 값과 같으면 이번 호출이 저장한 행이다. (같은 시각에 다른 노드가 저장한 행과 구분)
+     */
+    private List<PendingIssue> findInserted(List<PendingIssue> issues, long issueToken) {
+        Object[] args = new Object[issues.size() * 2 + 1];
+        for (int i = 0; i < issues.size(); i++) {
+            args[i * 2] = issues.get(i).memberId();
+            args[i * 2 + 1] = issues.get(i).couponId();
+        }
+        args[args.length - 1] = issueToken;
+
+        Set<String> insertedKeys = new HashSet<>();
+        jdbcTemplate.query(
+                "SELECT member_id, coupon_id FROM member_coupons WHERE (member_id, coupon_id) IN ("
+                        + String.join(", ", Collections.nCopies(issues.size(), "(?, ?)")) + ") AND issue_token = ?",
+                (RowCallbackHandler) rs -> insertedKeys.add(rs.getLong("member_id") + ":" + rs.getLong("coupon_id")),
+                args
+        );
+
+        return issues.stream()
+                .filter(issue -> insertedKeys.contains(issue.memberId() + ":" + issue.couponId()))
+                .toList();
+    }
+
+    /**
+     * 저장 대기 중인 발급 1건
+     */
+    public record PendingIssue(Long couponId, Long memberId) {
+    }
+}
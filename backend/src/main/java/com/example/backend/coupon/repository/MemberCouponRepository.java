@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,12 +18,34 @@ public interface MemberCouponRepository extends JpaRepository<MemberCoupon, Long
     Optional<MemberCoupon> findByMemberIdAndCouponId(Long memberId, Long couponId);
     List<MemberCoupon> findByMemberId(Long memberId);
 
+    // 내 쿠폰함 (쿠폰 정보 함께 조회)
+    @Query("SELECT mc FROM MemberCoupon mc JOIN FETCH mc.coupon WHERE mc.member.id = :memberId")
+    List<MemberCoupon> findWithCouponByMemberId(@Param("memberId") Long memberId);
+
+    // 목록 화면용: 조회한 쿠폰 중 회원이 발급받은 쿠폰 ID
+    @Query("SELECT mc.coupon.id FROM MemberCoupon mc WHERE mc.member.id = :memberId AND mc.coupon.id IN :couponIds")
+    List<Long> findIssuedCouponIds(
+            @Param("memberId") Long memberId,
+            @Param("couponIds") Collection<Long> couponIds
+    );
+
     @Query("SELECT COUNT(mc) FROM MemberCoupon mc WHERE mc.coupon.id = :couponId")
     Long countByCouponId(@Param("couponId") Long couponId);
 
     @Query("SELECT COUNT(mc) FROM MemberCoupon mc WHERE mc.coupon.id = :couponId AND mc.status = 'USED'")
     Long countUsedByCouponId(@Param("couponId") Long couponId);
 
+    // 선착순 발급 상태 적재용 (기존 발급 회원)
+    @Query("SELECT mc.member.id FROM MemberCoupon mc WHERE mc.coupon.id = :couponId")
+    List<Long> findMemberIdsByCouponId(@Param("couponId") Long couponId);
+
+    // 선착순 발급 정합성 보정용 (Redis 발급 회원 중 DB에 저장된 회원)
+    @Query("SELECT mc.member.id FROM MemberCoupon mc WHERE mc.coupon.id = :couponId AND mc.member.id IN :memberIds")
+    List<Long> findMemberIdsByCouponIdAndMemberIdIn(
+            @Param("couponId") Long couponId,
+            @Param("memberIds") Collection<Long> memberIds
+    );
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT mc FROM MemberCoupon mc WHERE mc.member.id = :memberId AND mc.coupon.id = :couponId")
     Optional<MemberCoupon> findByMemberIdAndCouponIdWithLock(@Param("memberId") Long memberId, @Param("couponId") Long couponId);
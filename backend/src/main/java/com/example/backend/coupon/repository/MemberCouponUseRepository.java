@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberCouponUseRepository extends JpaRepository<MemberCouponUse, Long> {
@@ -15,4 +17,10 @@ public interface MemberCouponUseRepository extends JpaRepository<MemberCouponUse
             @Param("memberCoupon") MemberCoupon memberCoupon,
             @Param("status") MemberCouponUseStatus status
     );
+
+    @Query("SELECT mcu FROM MemberCouponUse mcu WHERE mcu.memberCoupon.id IN :memberCouponIds AND mcu.status = :status")
+    List<MemberCouponUse> findByMemberCouponIdInAndStatus(
+            @Param("memberCouponIds") Collection<Long> memberCouponIds,
+            @Param("status") MemberCouponUseStatus status
+    );
 }
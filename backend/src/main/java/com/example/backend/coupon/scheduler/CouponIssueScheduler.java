@@ -0,0 +1,48 @@
+package com.example.backend.coupon.scheduler;
+
+import com.example.backend.coupon.service.CouponIssueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 선착순 발급 스케줄러
+ * Redis 발급 대기열을 DB에 반영하고, 주기적으로 Redis/DB 발급 내역을 맞춤
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueScheduler {
+
+    private final CouponIssueService couponIssueService;
+
+    /**
+     * 발급 대기열 반영
+     * 200ms마다 대기열의 발급을 묶어서 member_coupons에 저장
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.flush-interval-ms:200}")
+    public void flushPendingIssues() {
+        try {
+            int flushed = couponIssueService.flushPendingIssues();
+            if (flushed > 0) {
+                log.debug("쿠폰 발급 저장 완료 - {}건", flushed);
+            }
+        } catch (Exception e) {
+            log.error("쿠폰 발급 대기열 반영 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 발급 정합성 보정
+     * 5분마다 Redis에서 발급 확정됐지만 DB에 없는 발급을 저장
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.reconcile-interval-ms:300000}")
+    public void reconcileIssuedCoupons() {
+        try {
+            couponIssueService.reconcileIssuedCoupons();
+        } catch (Exception e) {
+            log.error("쿠폰 발급 정합성 보정 중 오류 발생", e);
+        }
+    }
+}
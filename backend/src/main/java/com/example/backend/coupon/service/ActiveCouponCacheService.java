@@ -0,0 +1,88 @@
+package com.example.backend.coupon.service;
+
+import com.example.backend.coupon.dto.ActiveCoupon;
+import com.example.backend.coupon.entity.Coupon;
+import com.example.backend.coupon.entity.CouponTarget;
+import com.example.backend.coupon.repository.CouponRepository;
+import com.example.backend.coupon.repository.CouponTargetRepository;
+import com.example.backend.global.cache.CacheRegion;
+import com.example.backend.global.cache.CacheRegionManager;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 채널별 사용 가능 쿠폰 캐시
+ * 채널 전용 쿠폰은 채널 ID, 전체 채널 공용 쿠폰(channelId = null)은 GLOBAL_KEY로 나눠 캐시하고 조회 시 합친다.
+ * 쿠폰 생성/수정 시 evict로 무효화하며, 캐시된 뒤 만료된 쿠폰은 조회 시점에 걸러낸다.
+ */
+@Service
+public class ActiveCouponCacheService {
+
+    private static final Long GLOBAL_KEY = 0L;
+
+    private final CouponRepository couponRepository;
+    private final CouponTargetRepository couponTargetRepository;
+    private final CacheRegion<ActiveCoupon.Snapshot> activeCoupons;
+
+    public ActiveCouponCacheService(CouponRepository couponRepository,
+                                    CouponTargetRepository couponTargetRepository,
+                                    CacheRegionManager cacheRegionManager) {
+        this.couponRepository = couponRepository;
+        this.couponTargetRepository = couponTargetRepository;
+        this.activeCoupons = cacheRegionManager.register("coupon-active", ActiveCoupon.Snapshot.class);
+    }
+
+    /**
+     * 채널에서 사용 가능한 쿠폰 (채널 전용 + 공용, 최신 등록순)
+     */
+    public List<ActiveCoupon> findByChannelId(Long channelId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ActiveCoupon> coupons = new ArrayList<>(load(channelId));
+        coupons.addAll(load(GLOBAL_KEY));
+        return coupons.stream()
+                .filter(coupon -> !coupon.isExpired(now))
+                .sorted(Comparator.comparing(ActiveCoupon::createdAt).reversed())
+                .toList();
+    }
+
+    /**
+     * 쿠폰 변경 반영 (channelId가 null이면 공용 쿠폰 목록)
+     */
+    public void evict(Long channelId) {
+        activeCoupons.evict(channelId != null ? channelId : GLOBAL_KEY);
+    }
+
+    private List<ActiveCoupon> load(Long key) {
+        return activeCoupons.get(key, this::loadSnapshot)
+                .map(ActiveCoupon.Snapshot::coupons)
+                .orElse(List.of());
+    }
+
+    private Optional<ActiveCoupon.Snapshot> loadSnapshot(Long key) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Coupon> coupons = GLOBAL_KEY.equals(key)
+                ? couponRepository.findActiveGlobalCoupons(now)
+                : couponRepository.findActiveCouponsByChannelId(key, now);
+
+        Map<Long, List<CouponTarget>> targetsByCouponId = findTargets(coupons);
+        return Optional.of(new ActiveCoupon.Snapshot(coupons.stream()
+                .map(coupon -> ActiveCoupon.of(coupon, targetsByCouponId.getOrDefault(coupon.getId(), List.of())))
+                .toList()));
+    }
+
+    private Map<Long, List<CouponTarget>> findTargets(List<Coupon> coupons) {
+        if (coupons.isEmpty()) {
+            return Map.of();
+        }
+        return couponTargetRepository.findByCouponIdIn(coupons.stream().map(Coupon::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(target -> target.getCoupon().getId()));
+    }
+}
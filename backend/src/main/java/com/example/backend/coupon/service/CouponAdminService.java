@@ -36,6 +36,8 @@ public class CouponAdminService {
     private final MemberRepository memberRepository;
     private final MemberCouponRepository memberCouponRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final CouponIssueStore couponIssueStore;
+    private final ActiveCouponCacheService activeCouponCacheService;
 
     @Transactional
     public CouponResponse createCoupon(Long memberId, CouponCreateRequest request) {
@@ -67,10 +69,13 @@ public class CouponAdminService {
                 request.discountValue(),
                 refundType,
                 request.expiredAt(),
-                request.channelId()
+                request.channelId(),
+                request.totalQuantity()
         );
 
         Coupon savedCoupon = couponRepository.save(coupon);
+        couponIssueStore.initializeNew(savedCoupon.getId(), savedCoupon.getTotalQuantity(), savedCoupon.getExpiredAt());
+        activeCouponCacheService.evict(savedCoupon.getChannelId());
 
         // CouponTarget 생성 (있다면)
         if (request.targets() != null) {
@@ -148,6 +153,7 @@ public class CouponAdminService {
                 throw new BusinessException(ErrorCode.INVALID_COUPON_PERIOD);
             }
             coupon.updateExpiredAt(request.expiredAt());
+            couponIssueStore.updateExpiry(couponId, request.expiredAt());
         }
 
         // CouponTarget 수정 (기존 삭제 후 새로 생성)
@@ -165,6 +171,7 @@ public class CouponAdminService {
             });
         }
 
+        activeCouponCacheService.evict(coupon.getChannelId());
         return CouponResponse.fromEntity(coupon);
     }
 
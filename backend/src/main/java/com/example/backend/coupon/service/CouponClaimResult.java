@@ -0,0 +1,24 @@
+package com.example.backend.coupon.service;
+
+/**
+ * Redis 선착순 발급 스크립트 결과
+ */
+public enum CouponClaimResult {
+    ISSUED,
+    ALREADY_ISSUED,
+    SOLD_OUT,
+    NOT_LOADED;
+
+    static CouponClaimResult of(Long code) {
+        if (code == null) {
+            throw new IllegalStateException("쿠폰 발급 스크립트 결과가 없습니다.");
+        }
+        return switch (code.intValue()) {
+            case 1 -> ISSUED;
+            case -1 -> ALREADY_ISSUED;
+            case -2 -> SOLD_OUT;
+            case -3 -> NOT_LOADED;
+            default -> throw new IllegalStateException("알 수 없는 쿠폰 발급 스크립트 결과: " + code);
+        };
+    }
+}
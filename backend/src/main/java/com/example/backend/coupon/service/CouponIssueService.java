@@ -1,55 +1,218 @@
 package com.example.backend.coupon.service;
 
-import com.example.backend.channel.repository.ChannelRepository;
 import com.example.backend.coupon.entity.Coupon;
 import com.example.backend.coupon.entity.MemberCoupon;
-import com.example.backend.coupon.entity.MemberCouponStatus;
 import com.example.backend.coupon.repository.CouponRepository;
+import com.example.backend.coupon.repository.MemberCouponBulkRepository;
+import com.example.backend.coupon.repository.MemberCouponBulkRepository.PendingIssue;
 import com.example.backend.coupon.repository.MemberCouponRepository;
 import com.example.backend.global.exception.BusinessException;
 import com.example.backend.global.exception.ErrorCode;
 import com.example.backend.member.entity.Member;
 import com.example.backend.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.NonTransientDataAccessException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
+/**
+ * 쿠폰 선착순 발급
+ * 중복/수량 확인과 발급 확정은 Redis(CouponIssueStore)에서 원자적으로 처리하고,
+ * member_coupons 저장은 발급 대기열을 스케줄러가 묶어서 비동기로 반영한다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CouponIssueService {
     private final CouponRepository couponRepository;
     private final MemberCouponRepository memberCouponRepository;
+    private final MemberCouponBulkRepository memberCouponBulkRepository;
     private final MemberRepository memberRepository;
-    private final ChannelRepository channelRepository;
+    private final CouponIssueStore couponIssueStore;
 
-    @Transactional
-    public Long issueCoupon(Long memberId, Long couponId) {
-        LocalDateTime now = LocalDateTime.now();
+    @Value("${coupon.issue.flush-batch-size:1000}")
+    private int flushBatchSize;
 
-        // 회원 조회
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+    @Value("${coupon.issue.flush-max-batches:10}")
+    private int flushMaxBatches;
 
-        // 쿠폰 조회
-        Coupon coupon = couponRepository.findById(couponId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+    @Value("${coupon.issue.reconcile-chunk-size:1000}")
+    private int reconcileChunkSize;
 
-        // 쿠폰 만료 여부 확인
-        if (coupon.isExpired(now)) {
-            throw new BusinessException(ErrorCode.COUPON_EXPIRED);
+    /**
+     * 쿠폰 발급
+     * 처음 발급되는 쿠폰이면 DB 상태(기존 발급 회원, 남은 수량)를 Redis에 적재한 뒤 다시 시도한다.
+     * Redis 장애 시 무제한 쿠폰만 DB에 바로 저장하고, 수량 한정 쿠폰은 발급을 막는다.
+     */
+    public void issueCoupon(Long memberId, Long couponId) {
+        CouponClaimResult result;
+        try {
+            result = couponIssueStore.claim(couponId, memberId);
+            if (result == CouponClaimResult.NOT_LOADED) {
+                loadIssueState(couponId);
+                result = couponIssueStore.claim(couponId, memberId);
+            }
+        } catch (DataAccessException e) {
+            log.warn("쿠폰 발급 Redis 처리 실패, DB 발급으로 전환 - couponId={}, memberId={}, error={}",
+                    couponId, memberId, e.getMessage());
+            issueDirectly(memberId, couponId);
+            return;
+        }
+
+        switch (result) {
+            case ISSUED -> log.debug("쿠폰 발급 확정 - couponId={}, memberId={}", couponId, memberId);
+            case ALREADY_ISSUED -> throw new BusinessException(ErrorCode.COUPON_ALREADY_ISSUED);
+            case SOLD_OUT -> throw new BusinessException(ErrorCode.COUPON_SOLD_OUT);
+            // 적재 직후 만료 시각이 지나 키가 사라진 경우
+            case NOT_LOADED -> throw new BusinessException(ErrorCode.COUPON_EXPIRED);
+        }
+    }
+
+    /**
+     * 발급 대기열 DB 반영
+     * 한 번에 flushBatchSize건씩, 대기열이 빌 때까지 최대 flushMaxBatches번 저장한다.
+     * 배치 저장에 실패하면 한 건씩 다시 저장해 문제 행만 실패 목록으로 옮긴다.
+     */
+    public int flushPendingIssues() {
+        int total = 0;
+        for (int i = 0; i < flushMaxBatches; i++) {
+            List<PendingIssue> issues = couponIssueStore.popPending(flushBatchSize);
+            if (issues.isEmpty()) {
+                break;
+            }
+
+            store(issues);
+            total += issues.size();
+            if (issues.size() < flushBatchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 발급 저장 (이미 저장된 발급은 건너뜀)
+     * 배치 저장에 실패하면(외래 키 위반 등) 한 건씩 다시 저장한다.
+     * @return 새로 저장된 발급 수
+     */
+    private int store(List<PendingIssue> issues) {
+        try {
+            return memberCouponBulkRepository.insertIfAbsent(issues).size();
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 발급 일괄 저장 실패, 한 건씩 저장 - {}건, error={}", issues.size(), e.getMessage());
+            return insertEach(issues);
+        }
+    }
+
+    /**
+     * 한 건씩 저장
+     * 다시 시도해도 실패할 오류(제약 조건 위반, 데이터 오류)는 해당 발급만 실패 목록으로 옮기고,
+     * DB 연결 오류 등 일시적인 오류면 남은 발급을 대기열 앞으로 되돌린 뒤 예외를 던진다.
+     * @return 새로 저장된 발급 수
+     */
+    private int insertEach(List<PendingIssue> issues) {
+        int inserted = 0;
+        for (int i = 0; i < issues.size(); i++) {
+            PendingIssue issue = issues.get(i);
+            try {
+                inserted += memberCouponBulkRepository.insertIfAbsent(List.of(issue)).size();
+            } catch (NonTransientDataAccessException e) {
+                if (e instanceof DataAccessResourceFailureException) {
+                    couponIssueStore.pushBack(issues.subList(i, issues.size()));
+                    throw e;
+                }
+                log.error("쿠폰 발급 저장 불가, 실패 목록으로 이동 - couponId={}, memberId={}, error={}",
+                        issue.couponId(), issue.memberId(), e.getMessage());
+                couponIssueStore.deadLetter(issue, e.getClass().getSimpleName());
+            } catch (RuntimeException e) {
+                couponIssueStore.pushBack(issues.subList(i, issues.size()));
+                throw e;
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * 발급 정합성 보정
+     * Redis에서 발급이 확정됐지만 DB에 없는 회원(대기열 유실 등)을 찾아 저장한다.
+     * 대기열에 남아 있는 발급이 함께 저장되어도 중복 키는 건너뛰므로 한 번만 반영된다.
+     */
+    public int reconcileIssuedCoupons() {
+        int restored = 0;
+        for (Long couponId : couponIssueStore.activeCouponIds()) {
+            restored += reconcile(couponId);
+        }
+        return restored;
+    }
+
+    private int reconcile(Long couponId) {
+        int[] restored = {0};
+        couponIssueStore.forEachIssuedMember(couponId, reconcileChunkSize, memberIds -> {
+            Set<Long> persisted = new HashSet<>(
+                    memberCouponRepository.findMemberIdsByCouponIdAndMemberIdIn(couponId, memberIds));
+            List<PendingIssue> missing = memberIds.stream()
+                    .filter(memberId -> !persisted.contains(memberId))
+                    .map(memberId -> new PendingIssue(couponId, memberId))
+                    .toList();
+            if (missing.isEmpty()) {
+                return;
+            }
+
+            restored[0] += store(missing);
+        });
+
+        if (restored[0] > 0) {
+            log.warn("쿠폰 발급 누락 보정 - couponId={}, {}건", couponId, restored[0]);
+        }
+        return restored[0];
+    }
+
+    private void loadIssueState(Long couponId) {
+        Coupon coupon = findIssuableCoupon(couponId);
+        List<Long> issuedMemberIds = memberCouponRepository.findMemberIdsByCouponId(couponId);
+
+        long remaining = coupon.hasQuantityLimit()
+                ? Math.max(0, coupon.getTotalQuantity() - issuedMemberIds.size())
+                : CouponIssueStore.UNLIMITED;
+        couponIssueStore.initialize(couponId, remaining, coupon.getExpiredAt(), issuedMemberIds);
+    }
+
+    private void issueDirectly(Long memberId, Long couponId) {
+        Coupon coupon = findIssuableCoupon(couponId);
+        if (coupon.hasQuantityLimit()) {
+            throw new BusinessException(ErrorCode.COUPON_ISSUE_UNAVAILABLE);
         }
 
-        // 이미 발급받은 쿠폰인지 확인
         if (memberCouponRepository.existsByMemberIdAndCouponId(memberId, couponId)) {
             throw new BusinessException(ErrorCode.COUPON_ALREADY_ISSUED);
         }
 
-        // MemberCoupon 생성 및 저장
-        MemberCoupon memberCoupon = MemberCoupon.issue(member, coupon);
-        MemberCoupon savedMemberCoupon = memberCouponRepository.save(memberCoupon);
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        try {
+            memberCouponRepository.save(MemberCoupon.issue(member, coupon));
+        } catch (DataIntegrityViolationException e) {
+            // 동시 요청으로 유니크 키 충돌
+            throw new BusinessException(ErrorCode.COUPON_ALREADY_ISSUED);
+        }
+    }
 
-        return savedMemberCoupon.getId();
+    private Coupon findIssuableCoupon(Long couponId) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.COUPON_NOT_FOUND));
+
+        if (coupon.isExpired(LocalDateTime.now())) {
+            throw new BusinessException(ErrorCode.COUPON_EXPIRED);
+        }
+        return coupon;
     }
 }
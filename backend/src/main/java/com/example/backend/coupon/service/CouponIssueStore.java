@@ -0,0 +1,250 @@
+package com.example.backend.coupon.service;
+
+import com.example.backend.coupon.repository.MemberCouponBulkRepository.PendingIssue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 선착순 발급 저장소 (Redis)
+ * - coupon:{id}:stock: 남은 수량 (-1이면 무제한), coupon:{id}:issued: 발급받은 회원 ID 집합
+ * - 발급은 Lua 스크립트 하나로 중복 확인 → 수량 차감 → 회원 추가 → 저장 대기열 적재까지 원자적으로 처리한다.
+ * - 두 키는 쿠폰 만료 시각에 함께 만료되고, DB 저장은 대기열(coupon:issue:pending)을 스케줄러가 묶어서 처리한다.
+ * - 다시 시도해도 저장할 수 없는 발급(삭제된 회원/쿠폰 등)은 coupon:issue:dead-letter로 옮겨 대기열을 막지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueStore {
+
+    public static final long UNLIMITED = -1;
+
+    private static final String PENDING_KEY = "coupon:issue:pending";
+    private static final String DEAD_LETTER_KEY = "coupon:issue:dead-letter";
+    private static final String ACTIVE_COUPONS_KEY = "coupon:issue:active";
+
+    // 1: 발급, -1: 이미 발급, -2: 소진, -3: 미적재 (DB에서 상태를 읽어 initialize 필요)
+    private static final DefaultRedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local stock = redis.call('GET', KEYS[1])
+            if not stock then
+                return -3
+            end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+                return -1
+            end
+            stock = tonumber(stock)
+            if stock == 0 then
+                return -2
+            end
+            if stock > 0 then
+                redis.call('DECR', KEYS[1])
+            end
+            redis.call('SADD', KEYS[2], ARGV[1])
+            if redis.call('PTTL', KEYS[2]) == -1 then
+                redis.call('PEXPIRE', KEYS[2], redis.call('PTTL', KEYS[1]))
+            end
+            redis.call('RPUSH', KEYS[3], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // 이미 적재되어 있으면 건드리지 않음 (ARGV: 남은 수량, 만료 시각 ms, 쿠폰 ID, 기존 발급 회원 ID...)
+    private static final DefaultRedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            for i = 4, #ARGV do
+                redis.call('SADD', KEYS[2], ARGV[i])
+            end
+            redis.call('SET', KEYS[1], ARGV[1])
+            redis.call('PEXPIREAT', KEYS[1], ARGV[2])
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('PEXPIREAT', KEYS[2], ARGV[2])
+            end
+            redis.call('SADD', KEYS[3], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public CouponClaimResult claim(Long couponId, Long memberId) {
+        Long result = stringRedisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(stockKey(couponId), issuedKey(couponId), PENDING_KEY),
+                String.valueOf(memberId),
+                couponId + ":" + memberId
+        );
+        return CouponClaimResult.of(result);
+    }
+
+    /**
+     * 쿠폰 발급 상태 적재
+     * @param remaining 남은 수량 (무제한이면 UNLIMITED)
+     * @param issuedMemberIds DB에 이미 저장된 발급 회원 ID
+     */
+    public void initialize(Long couponId, long remaining, LocalDateTime expiredAt, Collection<Long> issuedMemberIds) {
+        List<String> args = new ArrayList<>(issuedMemberIds.size() + 3);
+        args.add(String.valueOf(remaining));
+        args.add(String.valueOf(toEpochMillis(expiredAt)));
+        args.add(String.valueOf(couponId));
+        issuedMemberIds.forEach(memberId -> args.add(String.valueOf(memberId)));
+
+        stringRedisTemplate.execute(
+                INITIALIZE_SCRIPT,
+                List.of(stockKey(couponId), issuedKey(couponId), ACTIVE_COUPONS_KEY),
+                args.toArray()
+        );
+    }
+
+    /**
+     * 신규 쿠폰 발급 상태 적재 (트랜잭션 안이면 커밋 후 적재)
+     * 적재에 실패해도 첫 발급 요청에서 다시 적재된다.
+     */
+    public void initializeNew(Long couponId, Integer totalQuantity, LocalDateTime expiredAt) {
+        long remaining = totalQuantity != null ? totalQuantity : UNLIMITED;
+        afterCommit(() -> {
+            try {
+                initialize(couponId, remaining, expiredAt, List.of());
+            } catch (Exception e) {
+                log.warn("쿠폰 발급 상태 적재 실패 - couponId={}, error={}", couponId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 만료일 변경 반영 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void updateExpiry(Long couponId, LocalDateTime expiredAt) {
+        afterCommit(() -> {
+            try {
+                Instant expireAt = Instant.ofEpochMilli(toEpochMillis(expiredAt));
+                stringRedisTemplate.expireAt(stockKey(couponId), expireAt);
+                stringRedisTemplate.expireAt(issuedKey(couponId), expireAt);
+            } catch (Exception e) {
+                log.warn("쿠폰 발급 상태 만료일 갱신 실패 - couponId={}, error={}", couponId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 저장 대기 중인 발급을 최대 batchSize건 꺼냄 (여러 노드가 동시에 꺼내도 중복 없음)
+     */
+    public List<PendingIssue> popPending(int batchSize) {
+        List<String> popped = stringRedisTemplate.opsForList().leftPop(PENDING_KEY, batchSize);
+        if (popped == null || popped.isEmpty()) {
+            return List.of();
+        }
+        return popped.stream()
+                .map(CouponIssueStore::parsePending)
+                .toList();
+    }
+
+    /**
+     * DB 저장에 실패한 발급을 대기열 앞으로 되돌림
+     */
+    public void pushBack(List<PendingIssue> issues) {
+        List<String> values = issues.stream()
+                .map(issue -> issue.couponId() + ":" + issue.memberId())
+                .collect(Collectors.toCollection(ArrayList::new));
+        Collections.reverse(values);
+        stringRedisTemplate.opsForList().leftPushAll(PENDING_KEY, values);
+    }
+
+    /**
+     * 저장할 수 없는 발급을 실패 목록으로 이동 (운영자 확인용)
+     */
+    public void deadLetter(PendingIssue issue, String reason) {
+        stringRedisTemplate.opsForList().rightPush(DEAD_LETTER_KEY,
+                issue.couponId() + ":" + issue.memberId() + ":" + reason);
+    }
+
+    /**
+     * 발급 상태가 적재된 쿠폰 ID (만료되어 키가 사라진 쿠폰은 목록에서 정리)
+     */
+    public List<Long> activeCouponIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(ACTIVE_COUPONS_KEY);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> couponIds = new ArrayList<>();
+        for (String member : members) {
+            Long couponId = Long.valueOf(member);
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(stockKey(couponId)))) {
+                couponIds.add(couponId);
+            } else {
+                stringRedisTemplate.opsForSet().remove(ACTIVE_COUPONS_KEY, member);
+            }
+        }
+        return couponIds;
+    }
+
+    /**
+     * 쿠폰을 발급받은 회원 ID를 chunkSize 단위로 순회 (SSCAN)
+     */
+    public void forEachIssuedMember(Long couponId, int chunkSize, Consumer<List<Long>> consumer) {
+        ScanOptions options = ScanOptions.scanOptions().count(chunkSize).build();
+        try (Cursor<String> cursor = stringRedisTemplate.opsForSet().scan(issuedKey(couponId), options)) {
+            List<Long> chunk = new ArrayList<>(chunkSize);
+            while (cursor.hasNext()) {
+                chunk.add(Long.valueOf(cursor.next()));
+                if (chunk.size() == chunkSize) {
+                    consumer.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                consumer.accept(chunk);
+            }
+        }
+    }
+
+    private static PendingIssue parsePending(String value) {
+        int separator = value.indexOf(':');
+        return new PendingIssue(
+                Long.valueOf(value.substring(0, separator)),
+                Long.valueOf(value.substring(separator + 1))
+        );
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String stockKey(Long couponId) {
+        return "coupon:" + couponId + ":stock";
+    }
+
+    private static String issuedKey(Long couponId) {
+        return "coupon:" + couponId + ":issued";
+    }
+}
@@ -1,9 +1,9 @@
 package com.example.backend.coupon.service;
 
-import com.example.backend.channel.entity.Channel;
-import com.example.backend.channel.repository.ChannelRepository;
+import com.example.backend.channel.service.ChannelCacheService;
 import com.example.backend.content.entity.Content;
 import com.example.backend.content.repository.ContentRepository;
+import com.example.backend.coupon.dto.ActiveCoupon;
 import com.example.backend.coupon.dto.response.ChannelCouponResponse;
 import com.example.backend.coupon.dto.response.MyCouponResponse;
 import com.example.backend.coupon.entity.Coupon;
@@ -22,7 +22,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,101 +35,111 @@ public class CouponQueryService {
     private final CouponTargetRepository couponTargetRepository;
     private final MemberCouponRepository memberCouponRepository;
     private final MemberCouponUseRepository memberCouponUseRepository;
-    private final ChannelRepository channelRepository;
+    private final ChannelCacheService channelCacheService;
     private final ContentRepository contentRepository;
+    private final ActiveCouponCacheService activeCouponCacheService;
 
     @Transactional(readOnly = true)
     public List<ChannelCouponResponse> getAvailableCouponsByChannel(Long channelId, Long memberId) {
-        LocalDateTime now = LocalDateTime.now();
-
         // 채널 존재 여부 확인
-        Channel channel = channelRepository.findById(channelId)
+        channelCacheService.findById(channelId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHANNEL_NOT_FOUND));
 
-        // 채널에 연결된 만료되지 않은 쿠폰 조회
-        List<Coupon> coupons = couponRepository.findAvailableCouponsByChannelId(channelId, now);
+        // 채널에서 사용 가능한 쿠폰 (채널별 쿠폰 캐시)
+        List<ActiveCoupon> coupons = activeCouponCacheService.findByChannelId(channelId);
 
-        return coupons.stream()
-                .map(coupon -> {
-                    // 쿠폰 대상 정보 조회
-                    List<CouponTarget> targets = couponTargetRepository.findByCouponId(coupon.getId());
-                    
-                    // 회원이 이미 발급받았는지 확인
-                    boolean isIssued = memberId != null && 
-                            memberCouponRepository.existsByMemberIdAndCouponId(memberId, coupon.getId());
-
-                    return ChannelCouponResponse.fromEntity(coupon, targets, isIssued);
-                })
-                .collect(Collectors.toList());
+        return toChannelCouponResponses(coupons, memberId);
     }
 
     @Transactional(readOnly = true)
     public List<ChannelCouponResponse> getAvailableCouponsByContent(Long contentId, Long memberId) {
-        LocalDateTime now = LocalDateTime.now();
-
         // 컨텐츠 존재 여부 확인 및 채널 정보 가져오기
         Content content = contentRepository.findByIdAndIsDeletedFalse(contentId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
-        
+
         Long channelId = content.getChannel().getId();
 
-        // 컨텐츠에 적용 가능한 만료되지 않은 쿠폰 조회
-        List<Coupon> coupons = couponRepository.findAvailableCouponsByContentId(channelId, contentId, now);
+        // 채널 쿠폰 중 컨텐츠에 적용 가능한 쿠폰
+        List<ActiveCoupon> coupons = activeCouponCacheService.findByChannelId(channelId).stream()
+                .filter(coupon -> coupon.appliesToContent(contentId))
+                .toList();
 
-        return coupons.stream()
-                .map(coupon -> {
-                    // 쿠폰 대상 정보 조회
-                    List<CouponTarget> targets = couponTargetRepository.findByCouponId(coupon.getId());
-                    
-                    // 회원이 이미 발급받았는지 확인
-                    boolean isIssued = memberId != null && 
-                            memberCouponRepository.existsByMemberIdAndCouponId(memberId, coupon.getId());
-
-                    return ChannelCouponResponse.fromEntity(coupon, targets, isIssued);
-                })
-                .collect(Collectors.toList());
+        return toChannelCouponResponses(coupons, memberId);
     }
 
     @Transactional(readOnly = true)
     public List<ChannelCouponResponse> getAllAvailableCoupons(Long memberId) {
         LocalDateTime now = LocalDateTime.now();
 
-        // 만료되지 않은 모든 쿠폰 조회
+        // 만료되지 않은 모든 쿠폰과 대상 정보를 한 번에 조회
         List<Coupon> coupons = couponRepository.findAllAvailableCoupons(now);
+        List<Long> couponIds = coupons.stream().map(Coupon::getId).toList();
+        Map<Long, List<CouponTarget>> targetsByCouponId = findTargetsByCouponId(couponIds);
+        Set<Long> issuedCouponIds = findIssuedCouponIds(memberId, couponIds);
 
         return coupons.stream()
-                .map(coupon -> {
-                    // 쿠폰 대상 정보 조회
-                    List<CouponTarget> targets = couponTargetRepository.findByCouponId(coupon.getId());
-                    
-                    // 회원이 이미 발급받았는지 확인
-                    boolean isIssued = memberId != null && 
-                            memberCouponRepository.existsByMemberIdAndCouponId(memberId, coupon.getId());
-
-                    return ChannelCouponResponse.fromEntity(coupon, targets, isIssued);
-                })
+                .map(coupon -> ChannelCouponResponse.fromEntity(
+                        coupon,
+                        targetsByCouponId.getOrDefault(coupon.getId(), List.of()),
+                        issuedCouponIds.contains(coupon.getId())
+                ))
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<MyCouponResponse> getMyCoupons(Long memberId) {
-        // 회원이 발급받은 모든 쿠폰 조회
-        List<MemberCoupon> memberCoupons = memberCouponRepository.findByMemberId(memberId);
+        // 회원이 발급받은 모든 쿠폰 조회 (쿠폰 정보 포함)
+        List<MemberCoupon> memberCoupons = memberCouponRepository.findWithCouponByMemberId(memberId);
+        if (memberCoupons.isEmpty()) {
+            return List.of();
+        }
+
+        // 쿠폰 대상 정보와 사용 정보(USED 상태인 것만)를 한 번에 조회
+        Map<Long, List<CouponTarget>> targetsByCouponId = findTargetsByCouponId(memberCoupons.stream()
+                .map(memberCoupon -> memberCoupon.getCoupon().getId())
+                .distinct()
+                .toList());
+        Map<Long, MemberCouponUse> useByMemberCouponId = memberCouponUseRepository
+                .findByMemberCouponIdInAndStatus(
+                        memberCoupons.stream().map(MemberCoupon::getId).toList(),
+                        MemberCouponUseStatus.USED
+                )
+                .stream()
+                .collect(Collectors.toMap(use -> use.getMemberCoupon().getId(), use -> use, (a, b) -> a));
 
         return memberCoupons.stream()
                 .map(memberCoupon -> {
                     Coupon coupon = memberCoupon.getCoupon();
-                    
-                    // 쿠폰 대상 정보 조회
-                    List<CouponTarget> targets = couponTargetRepository.findByCouponId(coupon.getId());
-                    
-                    // 쿠폰 사용 정보 조회 (USED 상태인 것만)
-                    MemberCouponUse memberCouponUse = memberCouponUseRepository
-                            .findByMemberCouponAndStatus(memberCoupon, MemberCouponUseStatus.USED)
-                            .orElse(null);
-
-                    return MyCouponResponse.fromEntity(memberCoupon, coupon, targets, memberCouponUse);
+                    return MyCouponResponse.fromEntity(
+                            memberCoupon,
+                            coupon,
+                            targetsByCouponId.getOrDefault(coupon.getId(), List.of()),
+                            useByMemberCouponId.get(memberCoupon.getId())
+                    );
                 })
                 .collect(Collectors.toList());
     }
+
+    private List<ChannelCouponResponse> toChannelCouponResponses(List<ActiveCoupon> coupons, Long memberId) {
+        Set<Long> issuedCouponIds = findIssuedCouponIds(memberId, coupons.stream().map(ActiveCoupon::id).toList());
+        return coupons.stream()
+                .map(coupon -> ChannelCouponResponse.from(coupon, issuedCouponIds.contains(coupon.id())))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, List<CouponTarget>> findTargetsByCouponId(List<Long> couponIds) {
+        if (couponIds.isEmpty()) {
+            return Map.of();
+        }
+        return couponTargetRepository.findByCouponIdIn(couponIds).stream()
+                .collect(Collectors.groupingBy(target -> target.getCoupon().getId()));
+    }
+
+    // 회원이 이미 발급받은 쿠폰 ID (비로그인이면 빈 집합)
+    private Set<Long> findIssuedCouponIds(Long memberId, List<Long> couponIds) {
+        if (memberId == null || couponIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(memberCouponRepository.findIssuedCouponIds(memberId, couponIds));
+    }
 }
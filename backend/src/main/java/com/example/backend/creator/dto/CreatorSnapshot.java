@@ -0,0 +1,14 @@
+package com.example.backend.creator.dto;
+
+import com.example.backend.creator.entity.CreatorStatus;
+
+/**
+ * 크리에이터 캐시 값 (회원 닉네임 포함)
+ */
+public record CreatorSnapshot(
+        Long id,
+        Long memberId,
+        String nickname,
+        CreatorStatus status
+) {
+}
@@ -1,7 +1,10 @@
 package com.example.backend.creator.repository;
 
+import com.example.backend.creator.dto.CreatorSnapshot;
 import com.example.backend.creator.entity.Creator;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -10,4 +13,22 @@ public interface CreatorRepository extends JpaRepository<Creator, Long> {
     Optional<Creator> findByMemberId(Long memberId);
 
     boolean existsByMemberId(Long memberId);
+
+    // 크리에이터 캐시 적재용 (회원 닉네임 포함)
+    @Query("""
+        SELECT new com.example.backend.creator.dto.CreatorSnapshot(c.id, m.id, m.nickname, c.status)
+        FROM Creator c JOIN c.member m
+        WHERE c.id = :creatorId
+    """)
+    Optional<CreatorSnapshot> findSnapshotById(@Param("creatorId") Long creatorId);
+
+    @Query("SELECT c.id FROM Creator c WHERE c.member.id = :memberId")
+    Optional<Long> findIdByMemberId(@Param("memberId") Long memberId);
+
+    // 정산 배치 파티셔닝용 ID 범위
+    @Query("SELECT MIN(c.id) FROM Creator c")
+    Long findMinId();
+
+    @Query("SELECT MAX(c.id) FROM Creator c")
+    Long findMaxId();
 }
@@ -0,0 +1,37 @@
+package com.example.backend.creator.service;
+
+import com.example.backend.creator.dto.CreatorSnapshot;
+import com.example.backend.creator.repository.CreatorRepository;
+import com.example.backend.global.cache.CacheRegion;
+import com.example.backend.global.cache.CacheRegionManager;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 크리에이터 조회 캐시
+ * 크리에이터 상태 변경, 회원 닉네임 변경 시 무효화한다.
+ */
+@Service
+public class CreatorCacheService {
+
+    private final CreatorRepository creatorRepository;
+    private final CacheRegion<CreatorSnapshot> creators;
+
+    public CreatorCacheService(CreatorRepository creatorRepository, CacheRegionManager cacheRegionManager) {
+        this.creatorRepository = creatorRepository;
+        this.creators = cacheRegionManager.register("creator", CreatorSnapshot.class);
+    }
+
+    public Optional<CreatorSnapshot> findById(Long creatorId) {
+        return creators.get(creatorId, creatorRepository::findSnapshotById);
+    }
+
+    public void evict(Long creatorId) {
+        creators.evict(creatorId);
+    }
+
+    public void evictByMemberId(Long memberId) {
+        creatorRepository.findIdByMemberId(memberId).ifPresent(creators::evict);
+    }
+}
@@ -41,6 +41,7 @@ public class CreatorService {
     private final ChannelServiceImpl channelService;
     private final SubscriptionRepository subscriptionRepository;
     private final SettlementService settlementService;
+    private final CreatorCacheService creatorCacheService;
 
     // 관리자가 승인했을 때 호출
     public void createCreator(Long memberId, CreatorApplicationDTO dto) {
@@ -144,5 +145,6 @@ public class CreatorService {
         Creator creator = creatorRepository.findByMemberId(memberId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CREATOR_NOT_FOUND));
         creator.changeStatus(status);
+        creatorCacheService.evict(creator.getId());
     }
 }
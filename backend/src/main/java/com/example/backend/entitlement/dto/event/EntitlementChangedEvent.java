@@ -0,0 +1,28 @@
+package com.example.backend.entitlement.dto.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder(access = AccessLevel.PRIVATE)
+public class EntitlementChangedEvent {
+    private List<Long> memberIds;
+
+    public static EntitlementChangedEvent create(Long memberId) {
+        return EntitlementChangedEvent.builder()
+                .memberIds(List.of(memberId))
+                .build();
+    }
+
+    public static EntitlementChangedEvent create(Collection<Long> memberIds) {
+        return EntitlementChangedEvent.builder()
+                .memberIds(List.copyOf(memberIds))
+                .build();
+    }
+}
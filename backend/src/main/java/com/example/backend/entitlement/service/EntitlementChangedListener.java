@@ -0,0 +1,24 @@
+package com.example.backend.entitlement.service;
+
+import com.example.backend.entitlement.dto.event.EntitlementChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EntitlementChangedListener {
+
+    private final EntitlementService entitlementService;
+
+    // 구독/구매 변경이 커밋된 뒤 접근 권한 캐시를 무효화 (트랜잭션 밖에서 발행된 경우에도 실행)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(EntitlementChangedEvent event) {
+        entitlementService.invalidate(event.getMemberIds());
+
+        log.debug("접근 권한 캐시 무효화 - memberIds={}", event.getMemberIds());
+    }
+}
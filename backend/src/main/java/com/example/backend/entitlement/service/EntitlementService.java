@@ -0,0 +1,196 @@
+package com.example.backend.entitlement.service;
+
+import com.example.backend.content.entity.AccessType;
+import com.example.backend.content.entity.Content;
+import com.example.backend.creator.dto.CreatorSnapshot;
+import com.example.backend.creator.service.CreatorCacheService;
+import com.example.backend.order.entity.OrderStatus;
+import com.example.backend.order.entity.OrderType;
+import com.example.backend.order.repository.OrderRepository;
+import com.example.backend.subscription.entity.SubscriptionStatus;
+import com.example.backend.subscription.repository.SubscriptionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 콘텐츠 접근 권한 판단
+ * 회원의 활성 구독 채널과 구매 완료 콘텐츠를 한 번에 읽어 MemberEntitlement로 캐시하고,
+ * 구독/취소/만료/결제 시 EntitlementChangedEvent로 무효화한다. 무효화는 Redis pub/sub으로 다른 노드에도 전파된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EntitlementService implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "entitlement:invalidate";
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final OrderRepository orderRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CreatorCacheService creatorCacheService;
+
+    @Value("${entitlement.cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${entitlement.cache.max-size:50000}")
+    private int maxSize;
+
+    private final Map<Long, CachedEntitlement> cache = new ConcurrentHashMap<>();
+
+    // 무효화 세대 번호: 조회 도중 무효화가 일어나면 그 결과는 캐시하지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 단건 접근 권한 확인
+     * FREE: 모든 사용자 / 크리에이터 본인 콘텐츠: 항상 허용
+     * SUBSCRIBER_ONLY: 채널 활성 구독 필요
+     * SINGLE_PURCHASE, PARTIAL: 단건 구매 또는 채널 활성 구독 필요
+     */
+    @Transactional(readOnly = true)
+    public boolean canAccess(Long memberId, Content content) {
+        if (content.getAccessType() == AccessType.FREE) {
+            return true;
+        }
+        if (memberId == null) {
+            return false;
+        }
+        return canAccess(getEntitlement(memberId), memberId, content);
+    }
+
+    /**
+     * 목록 화면용 일괄 접근 권한 확인 (콘텐츠 ID → 접근 가능 여부)
+     * 회원 권한은 최대 한 번만 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Boolean> canAccess(Long memberId, Collection<Content> contents) {
+        MemberEntitlement entitlement = null;
+        Map<Long, Boolean> result = new LinkedHashMap<>();
+        for (Content content : contents) {
+            boolean accessible;
+            if (content.getAccessType() == AccessType.FREE) {
+                accessible = true;
+            } else if (memberId == null) {
+                accessible = false;
+            } else {
+                if (entitlement == null) {
+                    entitlement = getEntitlement(memberId);
+                }
+                accessible = canAccess(entitlement, memberId, content);
+            }
+            result.put(content.getId(), accessible);
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public MemberEntitlement getEntitlement(Long memberId) {
+        long now = System.currentTimeMillis();
+        CachedEntitlement cached = cache.get(memberId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.entitlement();
+        }
+
+        long loadGeneration = generation.get();
+        MemberEntitlement entitlement = load(memberId);
+        if (generation.get() == loadGeneration) {
+            evictIfFull(now);
+            cache.put(memberId, new CachedEntitlement(entitlement, now + ttlSeconds * 1000));
+        }
+        return entitlement;
+    }
+
+    /**
+     * 접근 권한 캐시 무효화 (이 노드 + 다른 노드)
+     */
+    public void invalidate(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        evictLocal(memberIds);
+
+        try {
+            String payload = memberIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, payload);
+        } catch (Exception e) {
+            // 다른 노드는 TTL 만료 후 갱신됨
+            log.warn("접근 권한 캐시 무효화 메시지 발행 실패 - memberIds={}, error={}", memberIds, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+            evictLocal(Arrays.stream(payload.split(","))
+                    .filter(id -> !id.isBlank())
+                    .map(Long::valueOf)
+                    .toList());
+        } catch (NumberFormatException e) {
+            log.error("접근 권한 캐시 무효화 메시지 처리 실패", e);
+        }
+    }
+
+    private boolean canAccess(MemberEntitlement entitlement, Long memberId, Content content) {
+        // 크리에이터는 자신의 콘텐츠에 항상 접근 가능
+        if (isOwner(memberId, content)) {
+            return true;
+        }
+
+        boolean hasActiveSubscription = entitlement.isSubscribed(content.getChannel().getId());
+        return switch (content.getAccessType()) {
+            case FREE -> true;
+            case SUBSCRIBER_ONLY -> hasActiveSubscription;
+            case SINGLE_PURCHASE, PARTIAL -> hasActiveSubscription || entitlement.hasPurchased(content.getId());
+        };
+    }
+
+    // 채널의 creatorId는 Creator ID이므로 크리에이터의 회원 ID로 비교
+    private boolean isOwner(Long memberId, Content content) {
+        return creatorCacheService.findById(content.getChannel().getCreatorId())
+                .map(CreatorSnapshot::memberId)
+                .filter(memberId::equals)
+                .isPresent();
+    }
+
+    private MemberEntitlement load(Long memberId) {
+        return MemberEntitlement.of(
+                subscriptionRepository.findChannelIdsByMemberIdAndStatus(memberId, SubscriptionStatus.ACTIVE),
+                orderRepository.findContentIdsByMemberIdAndOrderTypeAndStatus(memberId, OrderType.CONTENT, OrderStatus.PAID)
+        );
+    }
+
+    private void evictLocal(Collection<Long> memberIds) {
+        generation.incrementAndGet();
+        memberIds.forEach(cache::remove);
+    }
+
+    private void evictIfFull(long now) {
+        if (cache.size() < maxSize) {
+            return;
+        }
+        cache.values().removeIf(cached -> cached.expiresAt() <= now);
+        if (cache.size() >= maxSize) {
+            cache.clear();
+        }
+    }
+
+    private record CachedEntitlement(MemberEntitlement entitlement, long expiresAt) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.backend.entitlement.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 회원 1명의 접근 권한 스냅샷
+ * 활성 구독 채널 ID와 구매 완료 콘텐츠 ID를 정렬된 long 배열로 보관하여 이진 탐색으로 조회한다.
+ */
+public final class MemberEntitlement {
+
+    private final long[] subscribedChannelIds;
+    private final long[] purchasedContentIds;
+
+    private MemberEntitlement(long[] subscribedChannelIds, long[] purchasedContentIds) {
+        this.subscribedChannelIds = subscribedChannelIds;
+        this.purchasedContentIds = purchasedContentIds;
+    }
+
+    public static MemberEntitlement of(Collection<Long> subscribedChannelIds, Collection<Long> purchasedContentIds) {
+        return new MemberEntitlement(toSortedArray(subscribedChannelIds), toSortedArray(purchasedContentIds));
+    }
+
+    public boolean isSubscribed(Long channelId) {
+        return channelId != null && Arrays.binarySearch(subscribedChannelIds, channelId) >= 0;
+    }
+
+    public boolean hasPurchased(Long contentId) {
+        return contentId != null && Arrays.binarySearch(purchasedContentIds, contentId) >= 0;
+    }
+
+    private static long[] toSortedArray(Collection<Long> ids) {
+        return ids.stream()
+                .mapToLong(Long::longValue)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.backend.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 2단계 캐시 영역 (로컬 near cache + Redis L2)
+ * 조회는 로컬 → Redis → 로더(DB) 순으로 찾고, 찾은 값을 상위 단계에 채운다. 없는 값은 캐시하지 않는다.
+ * 무효화는 로컬/Redis에서 제거한 뒤 다른 노드에 무효화 메시지를 보낸다. 트랜잭션 안에서 호출되면 커밋 후에 제거한다.
+ * Redis 값은 키별 버전과 함께 관리한다. 무효화 시 버전을 올리고, 로더 결과는 조회 시작 시점의 버전이 그대로일 때만 저장하므로
+ * 다른 노드의 무효화 이전에 읽은 값이 무효화 이후 Redis에 다시 쓰이지 않는다.
+ */
+@Slf4j
+public class CacheRegion<V> {
+
+    @Getter
+    private final String name;
+    private final Class<V> type;
+    private final long localTtlMillis;
+    private final int localMaxSize;
+    private final Duration redisTtl;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final BiConsumer<String, Long> invalidationPublisher;
+
+    // 버전이 조회 시작 시점과 같을 때만 값 저장 (KEYS[1]: 값, KEYS[2]: 버전 / ARGV[1]: 기대 버전, ARGV[2]: 값, ARGV[3]: TTL(ms))
+    private static final DefaultRedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[2]) or '0'
+            if version ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // 값 삭제 + 버전 증가 (KEYS[1]: 값, KEYS[2]: 버전 / ARGV[1]: 버전 TTL(ms))
+    private static final DefaultRedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            local version = redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return version
+            """, Long.class);
+
+    private final Map<Long, Entry<V>> local = new ConcurrentHashMap<>();
+
+    // 무효화 세대 번호: 조회 도중 무효화가 일어나면 그 결과는 캐시하지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    CacheRegion(String name,
+                Class<V> type,
+                long localTtlMillis,
+                int localMaxSize,
+                Duration redisTtl,
+                StringRedisTemplate stringRedisTemplate,
+                ObjectMapper objectMapper,
+                BiConsumer<String, Long> invalidationPublisher) {
+        this.name = name;
+        this.type = type;
+        this.localTtlMillis = localTtlMillis;
+        this.localMaxSize = localMaxSize;
+        this.redisTtl = redisTtl;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    public Optional<V> get(Long id, Function<Long, Optional<V>> loader) {
+        long now = System.currentTimeMillis();
+        Entry<V> entry = local.get(id);
+        if (entry != null && entry.expiresAt() > now) {
+            localHits.increment();
+            return Optional.of(entry.value());
+        }
+
+        long loadGeneration = generation.get();
+        RedisEntry<V> redisEntry = readRedis(id);
+        V cached = redisEntry.value();
+        if (cached != null) {
+            redisHits.increment();
+            if (generation.get() == loadGeneration) {
+                putLocal(id, cached, now);
+            }
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        Optional<V> loaded = loader.apply(id);
+        if (loaded.isPresent() && generation.get() == loadGeneration) {
+            if (redisEntry.version() != null) {
+                writeRedis(id, loaded.get(), redisEntry.version());
+            }
+            putLocal(id, loaded.get(), now);
+        }
+        return loaded;
+    }
+
+    /**
+     * 캐시 무효화 (이 노드 + Redis + 다른 노드)
+     */
+    public void evict(Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictEverywhere(id);
+                }
+            });
+            return;
+        }
+        evictEverywhere(id);
+    }
+
+    void evictLocal(Long id) {
+        generation.incrementAndGet();
+        if (local.remove(id) != null) {
+            evictions.increment();
+        }
+    }
+
+    CacheRegionStats stats() {
+        return new CacheRegionStats(
+                name,
+                local.size(),
+                localHits.sum(),
+                redisHits.sum(),
+                misses.sum(),
+                evictions.sum()
+        );
+    }
+
+    private void evictEverywhere(Long id) {
+        evictLocal(id);
+        try {
+            stringRedisTemplate.execute(
+                    EVICT_SCRIPT,
+                    List.of(key(id), versionKey(id)),
+                    String.valueOf(versionTtl().toMillis())
+            );
+            invalidationPublisher.accept(name, id);
+        } catch (Exception e) {
+            // 다른 노드는 로컬 TTL 만료 후 갱신됨
+            log.warn("캐시 무효화 실패 - region={}, id={}, error={}", name, id, e.getMessage());
+        }
+    }
+
+    // 값과 버전을 한 번에 조회 (Redis 장애 시 버전 null → 로더 결과를 Redis에 쓰지 않음)
+    private RedisEntry<V> readRedis(Long id) {
+        String version = null;
+        try {
+            List<String> values = stringRedisTemplate.opsForValue().multiGet(List.of(key(id), versionKey(id)));
+            if (values == null) {
+                return new RedisEntry<>(null, null);
+            }
+            version = values.get(1) == null ? "0" : values.get(1);
+            String json = values.get(0);
+            return new RedisEntry<>(json == null ? null : objectMapper.readValue(json, type), version);
+        } catch (Exception e) {
+            log.debug("Redis 캐시 조회 실패 - region={}, id={}, error={}", name, id, e.getMessage());
+            return new RedisEntry<>(null, version);
+        }
+    }
+
+    private void writeRedis(Long id, V value, String expectedVersion) {
+        try {
+            Long written = stringRedisTemplate.execute(
+                    WRITE_SCRIPT,
+                    List.of(key(id), versionKey(id)),
+                    expectedVersion,
+                    objectMapper.writeValueAsString(value),
+                    String.valueOf(redisTtl.toMillis())
+            );
+            if (written == null || written == 0) {
+                log.debug("조회 중 무효화되어 Redis 캐시 저장 스킵 - region={}, id={}", name, id);
+            }
+        } catch (JsonProcessingException e) {
+            log.error("캐시 값 직렬화 실패 - region={}, id={}", name, id, e);
+        } catch (Exception e) {
+            log.debug("Redis 캐시 저장 실패 - region={}, id={}, error={}", name, id, e.getMessage());
+        }
+    }
+
+    // 용량 초과 시 만료 항목을 먼저 지우고, 그래도 가득 차 있으면 가장 오래된 항목부터 일부(10%)만 제거
+    private void putLocal(Long id, V value, long now) {
+        if (local.size() >= localMaxSize && !local.containsKey(id)) {
+            local.values().removeIf(entry -> entry.expiresAt() <= now);
+            int overflow = local.size() - localMaxSize + 1;
+            if (overflow > 0) {
+                evictOldest(Math.max(overflow, localMaxSize / 10));
+            }
+        }
+        local.put(id, new Entry<>(value, now + localTtlMillis));
+    }
+
+    // 로컬 TTL이 고정이므로 만료 시각이 빠를수록 먼저 들어온 항목
+    private void evictOldest(int count) {
+        local.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt()))
+                .limit(count)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(oldest -> {
+                    if (local.remove(oldest) != null) {
+                        evictions.increment();
+                    }
+                });
+    }
+
+    private String key(Long id) {
+        return "cache:" + name + ":" + id;
+    }
+
+    private String versionKey(Long id) {
+        return key(id) + ":version";
+    }
+
+    // 버전 키는 값보다 오래 유지해 무효화 이전에 조회를 시작한 노드가 값을 다시 쓰지 못하게 한다.
+    private Duration versionTtl() {
+        return redisTtl.multipliedBy(2);
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private record RedisEntry<V>(V value, String version) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.backend.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2단계 캐시 영역 관리
+ * 도메인별 캐시 영역을 생성하고, 다른 노드에서 온 무효화 메시지("영역:ID")를 해당 영역의 로컬 캐시에 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheRegionManager implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${cache.local.ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    @Value("${cache.local.max-size:10000}")
+    private int localMaxSize;
+
+    @Value("${cache.redis.ttl-seconds:600}")
+    private long redisTtlSeconds;
+
+    private final Map<String, CacheRegion<?>> regions = new ConcurrentHashMap<>();
+
+    public <V> CacheRegion<V> register(String name, Class<V> type) {
+        CacheRegion<V> region = new CacheRegion<>(
+                name,
+                type,
+                localTtlSeconds * 1000,
+                localMaxSize,
+                Duration.ofSeconds(redisTtlSeconds),
+                stringRedisTemplate,
+                objectMapper,
+                this::publishInvalidation
+        );
+        if (regions.putIfAbsent(name, region) != null) {
+            throw new IllegalStateException("이미 등록된 캐시 영역입니다: " + name);
+        }
+        return region;
+    }
+
+    public List<CacheRegionStats> stats() {
+        return regions.values().stream()
+                .map(CacheRegion::stats)
+                .toList();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = payload.lastIndexOf(':');
+        try {
+            CacheRegion<?> region = regions.get(payload.substring(0, separator));
+            if (region != null) {
+                region.evictLocal(Long.valueOf(payload.substring(separator + 1)));
+            }
+        } catch (RuntimeException e) {
+            log.error("캐시 무효화 메시지 처리 실패 - payload={}", payload, e);
+        }
+    }
+
+    /**
+     * 캐시 통계 로그
+     * 5분마다 영역별 누적 적중/미스 수를 남긴다.
+     */
+    @Scheduled(fixedDelayString = "${cache.stats.log-interval-ms:300000}")
+    public void logStats() {
+        for (CacheRegionStats stats : stats()) {
+            log.info("캐시 통계 - region={}, size={}, localHits={}, redisHits={}, misses={}, evictions={}, hitRatio={}",
+                    stats.region(), stats.localSize(), stats.localHits(), stats.redisHits(),
+                    stats.misses(), stats.evictions(), String.format("%.3f", stats.hitRatio()));
+        }
+    }
+
+    private void publishInvalidation(String region, Long id) {
+        stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, region + ":" + id);
+    }
+}
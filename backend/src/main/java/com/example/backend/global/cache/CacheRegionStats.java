@@ -0,0 +1,22 @@
+package com.example.backend.global.cache;
+
+/**
+ * 캐시 영역별 적중/미스 통계 (기동 이후 누적)
+ * @param localHits 로컬 캐시 적중 수
+ * @param redisHits 로컬 미스 후 Redis 적중 수
+ * @param misses DB 로더까지 내려간 횟수
+ */
+public record CacheRegionStats(
+        String region,
+        int localSize,
+        long localHits,
+        long redisHits,
+        long misses,
+        long evictions
+) {
+
+    public double hitRatio() {
+        long total = localHits + redisHits + misses;
+        return total == 0 ? 0 : (double) (localHits + redisHits) / total;
+    }
+}
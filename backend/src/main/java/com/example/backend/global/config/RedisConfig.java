@@ -1,10 +1,16 @@
 package com.example.backend.global.config;
 
+import com.example.backend.entitlement.service.EntitlementService;
+import com.example.backend.global.cache.CacheRegionManager;
 import com.example.backend.member.entity.PasswordResetTokenInfo;
+import com.example.backend.notification.service.NotificationSseService;
+import com.example.backend.settlement.service.SettlementStatisticsCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -33,4 +39,20 @@ public class RedisConfig {
         return template;
     }
 
+    // SSE 알림 / 접근 권한 캐시 / 조회 캐시 / 정산 통계 캐시 무효화 노드 간 중계 채널 구독
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory cf,
+                                                                       NotificationSseService notificationSseService,
+                                                                       EntitlementService entitlementService,
+                                                                       CacheRegionManager cacheRegionManager,
+                                                                       SettlementStatisticsCache settlementStatisticsCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener(notificationSseService, new ChannelTopic(NotificationSseService.RELAY_CHANNEL));
+        container.addMessageListener(entitlementService, new ChannelTopic(EntitlementService.INVALIDATION_CHANNEL));
+        container.addMessageListener(cacheRegionManager, new ChannelTopic(CacheRegionManager.INVALIDATION_CHANNEL));
+        container.addMessageListener(settlementStatisticsCache, new ChannelTopic(SettlementStatisticsCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+
 }
@@ -78,6 +78,8 @@ public enum ErrorCode {
     INVALID_COUPON_DISCOUNT_VALUE(HttpStatus.BAD_REQUEST, "쿠폰 할인 값이 유효하지 않습니다."),
     COUPON_NOT_FOUND(HttpStatus.NOT_FOUND, "쿠폰을 찾을 수 없습니다."),
     COUPON_ALREADY_ISSUED(HttpStatus.CONFLICT, "이미 발급받은 쿠폰입니다."),
+    COUPON_SOLD_OUT(HttpStatus.CONFLICT, "쿠폰이 모두 소진되었습니다."),
+    COUPON_ISSUE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "쿠폰 발급이 일시적으로 불가능합니다. 잠시 후 다시 시도해주세요."),
     COUPON_EXPIRED(HttpStatus.BAD_REQUEST, "만료된 쿠폰입니다."),
     COUPON_ALREADY_USED(HttpStatus.BAD_REQUEST, "이미 사용된 쿠폰입니다."),
     COUPON_NOT_OWNED(HttpStatus.BAD_REQUEST, "보유하지 않은 쿠폰입니다."),
@@ -115,7 +117,9 @@ public enum ErrorCode {
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "주문을 찾을 수 없습니다."),
 
     /* ===== Payment ===== */
-    PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "결제를 찾을 수 없습니다.");
+    PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "결제를 찾을 수 없습니다."),
+    PAYMENT_GATEWAY_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "결제 승인이 일시적으로 불가능합니다. 잠시 후 다시 시도해주세요."),
+    PAYMENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 결제 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
 
 
     private final HttpStatus status;
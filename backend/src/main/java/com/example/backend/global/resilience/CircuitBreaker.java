@@ -0,0 +1,130 @@
+package com.example.backend.global.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 외부 API 호출 차단기
+ * 최근 windowSize건의 호출 중 실패 비율이 failureRateThreshold 이상이면 openDuration 동안 호출을 막는다(OPEN).
+ * 차단 시간이 지나면 시험 호출 1건만 허용하고(HALF_OPEN), 성공하면 다시 열고(CLOSED) 실패하면 다시 차단한다.
+ * 상대 서버가 정상 응답한 업무 오류(4xx 등)는 호출자가 onSuccess로 기록해야 한다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+
+    // 최근 호출 결과 (true: 실패)
+    private final boolean[] outcomes;
+    private int nextIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold, Duration openDuration) {
+        this.name = name;
+        this.outcomes = new boolean[Math.max(windowSize, 1)];
+        this.minimumCalls = Math.max(Math.min(minimumCalls, this.outcomes.length), 1);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    /**
+     * 호출 허용 여부 (허용된 호출은 반드시 onSuccess / onFailure 중 하나로 결과를 기록)
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.CLOSED);
+            return;
+        }
+        record(false);
+        openIfThresholdExceeded();
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true);
+        openIfThresholdExceeded();
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 최근 호출 실패 비율 (0.0 ~ 1.0)
+     */
+    public synchronized double getFailureRate() {
+        return recordedCalls == 0 ? 0.0 : (double) failedCalls / recordedCalls;
+    }
+
+    private void openIfThresholdExceeded() {
+        if (recordedCalls >= minimumCalls && (double) failedCalls / recordedCalls >= failureRateThreshold) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == outcomes.length) {
+            if (outcomes[nextIndex]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[nextIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        nextIndex = (nextIndex + 1) % outcomes.length;
+    }
+
+    private void transitionTo(State newState) {
+        log.warn("호출 차단기 상태 변경 - name={}, {} -> {}, failureRate={}",
+                name, state, newState, String.format("%.2f", getFailureRate()));
+
+        state = newState;
+        trialInFlight = false;
+        if (newState == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        } else if (newState == State.CLOSED) {
+            Arrays.fill(outcomes, false);
+            nextIndex = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+        }
+    }
+}
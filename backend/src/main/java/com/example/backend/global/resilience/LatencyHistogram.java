@@ -0,0 +1,85 @@
+package com.example.backend.global.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 응답 시간 히스토그램
+ * 고정 구간(ms)별 호출 수를 세고, 구간 상한으로 백분위 응답 시간을 추정한다.
+ * snapshotAndReset으로 직전 집계 이후 구간의 분포를 꺼낸다.
+ */
+public class LatencyHistogram {
+
+    private static final long[] BUCKET_UPPER_BOUNDS_MS = {
+            5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000
+    };
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_UPPER_BOUNDS_MS.length + 1];
+    private final LongAdder totalMillis = new LongAdder();
+    private final LongAccumulator maxMillis = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long elapsedNanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        buckets[bucketIndex(millis)].increment();
+        totalMillis.add(millis);
+        maxMillis.accumulate(millis);
+    }
+
+    /**
+     * 직전 집계 이후의 분포를 꺼내고 초기화
+     */
+    public Snapshot snapshotAndReset() {
+        long[] counts = new long[buckets.length];
+        long count = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sumThenReset();
+            count += counts[i];
+        }
+        long total = totalMillis.sumThenReset();
+        long max = maxMillis.getThenReset();
+
+        return new Snapshot(
+                count,
+                count == 0 ? 0 : total / count,
+                percentile(counts, count, 0.50, max),
+                percentile(counts, count, 0.95, max),
+                percentile(counts, count, 0.99, max),
+                max
+        );
+    }
+
+    private static int bucketIndex(long millis) {
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_MS.length; i++) {
+            if (millis <= BUCKET_UPPER_BOUNDS_MS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_UPPER_BOUNDS_MS.length;
+    }
+
+    // 누적 호출 수가 처음으로 비율을 넘는 구간의 상한 (마지막 구간은 최대값)
+    private static long percentile(long[] counts, long count, double ratio, long max) {
+        if (count == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(count * ratio);
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return i < BUCKET_UPPER_BOUNDS_MS.length ? Math.min(BUCKET_UPPER_BOUNDS_MS[i], max) : max;
+            }
+        }
+        return max;
+    }
+
+    public record Snapshot(long count, long meanMillis, long p50Millis, long p95Millis, long p99Millis, long maxMillis) {
+    }
+}
@@ -35,6 +35,9 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query(value = "select * from members",nativeQuery = true)
     List<Member> findAllIncludingDeleted();
 
+    @Query(value = "select * from members where id in (:ids)", nativeQuery = true)
+    List<Member> findAllByIdInIncludingDeleted(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT m.id FROM Member m WHERE 'ROLE_ADMIN' NOT MEMBER OF m.roles")
     List<Long> findAllNonAdminIds();
 
@@ -1,6 +1,7 @@
 package com.example.backend.member.service;
 
 import com.example.backend.creator.entity.CreatorStatus;
+import com.example.backend.creator.service.CreatorCacheService;
 import com.example.backend.creator.service.CreatorService;
 import com.example.backend.global.exception.BusinessException;
 import com.example.backend.global.exception.ErrorCode;
@@ -16,9 +17,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.springframework.util.StringUtils.hasText;
 
@@ -32,6 +37,7 @@ public class MemberService {
 
 
     private final CreatorService creatorService;
+    private final CreatorCacheService creatorCacheService;
     private final NotificationSettingService notificationSettingService;
     private final PasswordEncoder passwordEncoder;
 
@@ -40,8 +46,10 @@ public class MemberService {
                          MemberRepository memberRepository,
                          PasswordEncoder passwordEncoder,
                          PasswordResetService passwordResetService,
-                         NotificationSettingService  notificationSettingService) {
+                         NotificationSettingService  notificationSettingService,
+                         CreatorCacheService creatorCacheService) {
         this.creatorService = creatorService;
+        this.creatorCacheService = creatorCacheService;
         this.memberRepository = memberRepository;
         this.passwordEncoder = passwordEncoder;
         this.passwordResetService = passwordResetService;
@@ -180,6 +188,20 @@ public class MemberService {
         return member;
     }
 
+    //탈퇴 유저 포함 일괄 조회 (회원 ID → 회원), 목록 화면의 작성자 조회를 한 번의 IN 쿼리로 처리
+    @Transactional(readOnly = true)
+    public Map<Long, Member> findMembersIncludingDeleted(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Member> members = memberRepository.findAllByIdInIncludingDeleted(ids).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        if (members.size() != new HashSet<>(ids).size()) {
+            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
+        }
+        return members;
+    }
+
     @Transactional(readOnly = true)
     public List<Member> findAllRegisteredMembers() {
         List<Member> members = memberRepository.findAll();
@@ -224,6 +246,7 @@ public class MemberService {
             throw new BusinessException(ErrorCode.DUPLICATE_NICKNAME);
         }
         member.changeNickname(newNickname);
+        creatorCacheService.evictByMemberId(memberId);
         log.info("닉네임 변경 성공: memberNickname = {}", member.getNickname());
         return member;
     }
@@ -124,13 +124,14 @@ public class NotificationController {
     // sse 연결 GET
     @GetMapping(value = "/notifications/subscribe",
             produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@AuthenticationPrincipal CustomUserDetails customUserDetails) {
+    public SseEmitter subscribe(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
 
         Long memberId = customUserDetails.getMemberId();
 
-        log.info("SSE 연결 시도 - memberId={}", memberId);
+        log.info("SSE 연결 시도 - memberId={}, lastEventId={}", memberId, lastEventId);
 
-        return notificationSseService.subscribe(memberId);
+        return notificationSseService.subscribe(memberId, lastEventId);
     }
 
 }
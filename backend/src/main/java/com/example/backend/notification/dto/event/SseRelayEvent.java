@@ -0,0 +1,14 @@
+package com.example.backend.notification.dto.event;
+
+/**
+ * 노드 간 SSE 중계 메시지 (Redis pub/sub)
+ * @param memberId 받는 회원
+ * @param eventId SSE 이벤트 ID (알림 ID, Last-Event-ID 재전송 기준)
+ * @param data JSON 직렬화된 전송 데이터
+ */
+public record SseRelayEvent(
+        Long memberId,
+        String eventId,
+        String data
+) {
+}
@@ -1,5 +1,6 @@
 package com.example.backend.notification.dto.response;
 
+import com.example.backend.notification.dto.request.NotificationDTO;
 import com.example.backend.notification.entity.Notification;
 import com.example.backend.notification.entity.NotificationType;
 import lombok.AccessLevel;
@@ -32,4 +33,17 @@ public class NotificationResponseDTO {
                 .createdAt(entity.getCreatedAt())
                 .build();
     }
+
+    // 배치 저장된 알림용 (엔티티를 다시 조회하지 않고 저장한 값으로 생성)
+    public static NotificationResponseDTO create(Long notificationId, NotificationDTO dto, LocalDateTime createdAt) {
+        return NotificationResponseDTO.builder()
+                .notificationId(notificationId)
+                .type(dto.getType())
+                .title(dto.getTitle())
+                .message(dto.getMessage())
+                .targetId(dto.getTargetId())
+                .isRead(false)
+                .createdAt(createdAt)
+                .build();
+    }
 }
@@ -0,0 +1,6 @@
+package com.example.backend.notification.entity;
+
+public enum BroadcastStatus {
+    IN_PROGRESS, // 발송 중 (중단 시 lastMemberId부터 재개)
+    COMPLETED // 발송 완료
+}
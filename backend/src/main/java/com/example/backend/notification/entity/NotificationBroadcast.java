@@ -0,0 +1,80 @@
+package com.example.backend.notification.entity;
+
+import com.example.backend.global.entity.AuditableEntity;
+import com.example.backend.notification.dto.request.NotificationDTO;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 전체 회원 대상 알림 방송 진행 상황
+ * 회원 ID 순으로 chunk 단위 발송하며, 마지막으로 발송한 회원 ID를 기록해 중단되면 그 다음부터 재개한다.
+ */
+@Entity
+@Getter
+@Table(name = "notification_broadcasts",
+        indexes = @Index(name = "idx_notification_broadcast_status_updated", columnList = "status, updated_at"))
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder(access = AccessLevel.PRIVATE)
+public class NotificationBroadcast extends AuditableEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 방송 식별 키 (예: NEWSLETTER:1) - 같은 이벤트가 두 번 처리되어도 방송은 하나만 생성
+    @Column(nullable = false, unique = true, length = 100)
+    private String broadcastKey;
+
+    // 수신 여부를 확인할 알림 설정 종류
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType settingType;
+
+    // 알림 타입
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType type;
+
+    // 알림 제목
+    @Column(nullable = false)
+    private String title;
+
+    // 알림 메시지
+    @Column(nullable = false)
+    private String message;
+
+    // 알림 타입의 실제 id값
+    private Long targetId;
+
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private BroadcastStatus status = BroadcastStatus.IN_PROGRESS;
+
+    // 마지막으로 발송한 회원 ID
+    @Column(nullable = false)
+    @Builder.Default
+    private Long lastMemberId = 0L;
+
+    // 발송한 알림 수
+    @Column(nullable = false)
+    @Builder.Default
+    private Long sentCount = 0L;
+
+    public static NotificationBroadcast create(String broadcastKey, NotificationType settingType, NotificationDTO template) {
+        return NotificationBroadcast.builder()
+                .broadcastKey(broadcastKey)
+                .settingType(settingType)
+                .type(template.getType())
+                .title(template.getTitle())
+                .message(template.getMessage())
+                .targetId(template.getTargetId())
+                .build();
+    }
+
+    // 발송할 알림 내용 (memberId는 회원마다 다름)
+    public NotificationDTO toNotificationDTO() {
+        return NotificationDTO.create(null, type, title, message, targetId);
+    }
+}
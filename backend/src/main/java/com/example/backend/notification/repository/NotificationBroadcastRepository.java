@@ -0,0 +1,54 @@
+package com.example.backend.notification.repository;
+
+import com.example.backend.notification.entity.BroadcastStatus;
+import com.example.backend.notification.entity.NotificationBroadcast;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface NotificationBroadcastRepository extends JpaRepository<NotificationBroadcast, Long> {
+
+    Optional<NotificationBroadcast> findByBroadcastKey(String broadcastKey);
+
+    // 일정 시간 동안 진행이 없는 방송 (서버 재시작 등으로 중단된 방송)
+    @Query("""
+        select b.id
+        from NotificationBroadcast b
+        where b.status = :status
+        and b.updatedAt < :staleBefore
+    """)
+    List<Long> findStalledIds(@Param("status") BroadcastStatus status, @Param("staleBefore") LocalDateTime staleBefore);
+
+    // 진행 위치 갱신 - 기대한 위치일 때만 갱신되므로 같은 구간을 두 작업자가 중복 발송하지 않는다
+    @Modifying
+    @Query("""
+        update NotificationBroadcast b
+        set b.lastMemberId = :lastMemberId,
+            b.sentCount = b.sentCount + :sentCount,
+            b.updatedAt = :now
+        where b.id = :id
+        and b.status = com.example.backend.notification.entity.BroadcastStatus.IN_PROGRESS
+        and b.lastMemberId = :expectedLastMemberId
+    """)
+    int advanceProgress(
+            @Param("id") Long id,
+            @Param("expectedLastMemberId") Long expectedLastMemberId,
+            @Param("lastMemberId") Long lastMemberId,
+            @Param("sentCount") long sentCount,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query("""
+        update NotificationBroadcast b
+        set b.status = com.example.backend.notification.entity.BroadcastStatus.COMPLETED,
+            b.updatedAt = :now
+        where b.id = :id
+    """)
+    int markCompleted(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,79 @@
+package com.example.backend.notification.repository;
+
+import com.example.backend.notification.dto.request.NotificationDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 대량 저장 (JDBC 배치 insert)
+ * 같은 내용의 알림을 여러 회원에게 한 번에 저장할 때 사용한다.
+ * MySQL 드라이버의 rewriteBatchedStatements=true(application.yml의 hikari data-source-properties)로 multi-row insert로 전송된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO notifications (member_id, type, title, message, target_id, is_read, is_deleted, created_at)
+        VALUES (?, ?, ?, ?, ?, false, false, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 회원별 알림 일괄 저장
+     * @param memberIds 알림 받을 회원 ID 목록
+     * @param template 알림 내용 (memberId는 사용하지 않음)
+     * @param createdAt 생성 시각
+     * @return 저장된 알림 ID 목록 (memberIds와 같은 순서)
+     */
+    @Transactional
+    public List<Long> insertAll(List<Long> memberIds, NotificationDTO template, LocalDateTime createdAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        Timestamp createdAtTimestamp = Timestamp.valueOf(createdAt);
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, memberIds.get(i));
+                        ps.setString(2, template.getType().name());
+                        ps.setString(3, template.getTitle());
+                        ps.setString(4, template.getMessage());
+                        if (template.getTargetId() != null) {
+                            ps.setLong(5, template.getTargetId());
+                        } else {
+                            ps.setNull(5, Types.BIGINT);
+                        }
+                        ps.setTimestamp(6, createdAtTimestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return memberIds.size();
+                    }
+                },
+                keyHolder
+        );
+
+        return keyHolder.getKeyList().stream()
+                .map(Map::values)
+                .map(values -> ((Number) values.iterator().next()).longValue())
+                .toList();
+    }
+}
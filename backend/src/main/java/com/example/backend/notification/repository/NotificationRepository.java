@@ -2,6 +2,8 @@ package com.example.backend.notification.repository;
 
 import com.example.backend.notification.entity.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -14,4 +16,20 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     // 안읽은 알림 개수
     Long countByMemberIdAndIsReadFalseAndIsDeletedFalse(Long memberId);
+
+    // SSE 재연결 시 Last-Event-ID 이후 알림 (오래된 순, 최대 limit건)
+    @Query("""
+        select n
+        from Notification n
+        where n.memberId = :memberId
+        and n.id > :lastNotificationId
+        and n.isDeleted = false
+        order by n.id asc
+        limit :limit
+    """)
+    List<Notification> findMissedNotifications(
+            @Param("memberId") Long memberId,
+            @Param("lastNotificationId") Long lastNotificationId,
+            @Param("limit") int limit
+    );
 }
@@ -1,8 +1,10 @@
 package com.example.backend.notification.repository;
 
 import com.example.backend.notification.entity.NotificationSetting;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -41,4 +43,38 @@ public interface NotificationSettingRepository extends JpaRepository<Notificatio
         and ns.eventNotify = true
     """)
     List<Long> findMemberIdByMemberIdInAndEventNotifyTrue(List<Long> memberIds);
+
+    // 전체 회원 대상 방송용: 회원 ID 순으로 lastMemberId 이후 알림 수신 회원 조회 (관리자, 탈퇴 회원 제외)
+    @Query("""
+        select ns.memberId
+        from NotificationSetting ns
+        join Member m on m.id = ns.memberId
+        where ns.memberId > :lastMemberId
+        and ns.contentNotify = true
+        and 'ROLE_ADMIN' not member of m.roles
+        order by ns.memberId
+    """)
+    List<Long> findContentNotifyMemberIdsAfter(@Param("lastMemberId") Long lastMemberId, Pageable pageable);
+
+    @Query("""
+        select ns.memberId
+        from NotificationSetting ns
+        join Member m on m.id = ns.memberId
+        where ns.memberId > :lastMemberId
+        and ns.newsletterNotify = true
+        and 'ROLE_ADMIN' not member of m.roles
+        order by ns.memberId
+    """)
+    List<Long> findNewsletterNotifyMemberIdsAfter(@Param("lastMemberId") Long lastMemberId, Pageable pageable);
+
+    @Query("""
+        select ns.memberId
+        from NotificationSetting ns
+        join Member m on m.id = ns.memberId
+        where ns.memberId > :lastMemberId
+        and ns.eventNotify = true
+        and 'ROLE_ADMIN' not member of m.roles
+        order by ns.memberId
+    """)
+    List<Long> findEventNotifyMemberIdsAfter(@Param("lastMemberId") Long lastMemberId, Pageable pageable);
 }
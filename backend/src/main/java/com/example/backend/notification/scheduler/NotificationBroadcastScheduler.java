@@ -0,0 +1,44 @@
+package com.example.backend.notification.scheduler;
+
+import com.example.backend.notification.entity.BroadcastStatus;
+import com.example.backend.notification.repository.NotificationBroadcastRepository;
+import com.example.backend.notification.service.NotificationBroadcastService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationBroadcastScheduler {
+
+    private final NotificationBroadcastRepository notificationBroadcastRepository;
+    private final NotificationBroadcastService notificationBroadcastService;
+
+    @Value("${notification.broadcast.stale-minutes:5}")
+    private long staleMinutes;
+
+
+    // 중단된 알림 방송 재개 스케줄러
+    // 이전 실행 종료 1분 후 다시 실행
+    // 일정 시간(stale-minutes) 동안 진행 위치가 바뀌지 않은 발송 중 방송을 마지막 위치부터 이어서 발송
+
+    @Scheduled(fixedDelay = 60000)
+    public void resumeStalledBroadcasts() {
+        try {
+            List<Long> stalledIds = notificationBroadcastRepository.findStalledIds(
+                    BroadcastStatus.IN_PROGRESS, LocalDateTime.now().minusMinutes(staleMinutes));
+
+            for (Long broadcastId : stalledIds) {
+                notificationBroadcastService.resume(broadcastId);
+            }
+        } catch (Exception e) {
+            log.error("알림 방송 재개 실패: {}", e.getMessage(), e);
+        }
+    }
+}
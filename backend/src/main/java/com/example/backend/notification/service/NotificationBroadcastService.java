@@ -0,0 +1,115 @@
+package com.example.backend.notification.service;
+
+import com.example.backend.notification.dto.request.NotificationDTO;
+import com.example.backend.notification.entity.BroadcastStatus;
+import com.example.backend.notification.entity.NotificationBroadcast;
+import com.example.backend.notification.entity.NotificationType;
+import com.example.backend.notification.repository.NotificationBroadcastRepository;
+import com.example.backend.notification.repository.NotificationBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 전체 회원 대상 알림 방송 (뉴스레터, 쿠폰 등)
+ * 알림 설정과 조인한 대상 회원을 회원 ID keyset으로 chunk 단위 조회하여 배치 저장하고,
+ * chunk마다 저장과 진행 위치 갱신을 한 트랜잭션으로 커밋한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationBroadcastService {
+
+    private final NotificationBroadcastRepository notificationBroadcastRepository;
+    private final NotificationSettingService notificationSettingService;
+    private final NotificationBulkRepository notificationBulkRepository;
+    private final NotificationFanoutService notificationFanoutService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${notification.broadcast.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 방송 시작 (같은 key의 방송이 이미 있으면 이어서 진행)
+     * @param broadcastKey 방송 식별 키
+     * @param settingType 수신 여부를 확인할 알림 설정 종류
+     * @param template 알림 내용 (memberId는 사용하지 않음)
+     */
+    public void broadcast(String broadcastKey, NotificationType settingType, NotificationDTO template) {
+        Long broadcastId = notificationBroadcastRepository.findByBroadcastKey(broadcastKey)
+                .map(NotificationBroadcast::getId)
+                .orElseGet(() -> create(broadcastKey, settingType, template));
+        if (broadcastId == null) {
+            return;
+        }
+
+        run(broadcastId);
+    }
+
+    /**
+     * 중단된 방송 재개
+     */
+    public void resume(Long broadcastId) {
+        log.info("알림 방송 재개 - broadcastId={}", broadcastId);
+        run(broadcastId);
+    }
+
+    private Long create(String broadcastKey, NotificationType settingType, NotificationDTO template) {
+        try {
+            return notificationBroadcastRepository.save(NotificationBroadcast.create(broadcastKey, settingType, template)).getId();
+        } catch (DataIntegrityViolationException e) {
+            // 다른 작업자가 먼저 생성 - 그쪽에서 발송한다
+            log.info("이미 생성된 알림 방송 - broadcastKey={}", broadcastKey);
+            return null;
+        }
+    }
+
+    private void run(Long broadcastId) {
+        NotificationBroadcast broadcast = notificationBroadcastRepository.findById(broadcastId).orElse(null);
+        if (broadcast == null || broadcast.getStatus() == BroadcastStatus.COMPLETED) {
+            return;
+        }
+
+        NotificationDTO template = broadcast.toNotificationDTO();
+        long lastMemberId = broadcast.getLastMemberId();
+
+        while (true) {
+            List<Long> targetMemberIds = notificationSettingService.getBroadcastTargetMemberIds(
+                    broadcast.getSettingType(), lastMemberId, chunkSize);
+
+            if (targetMemberIds.isEmpty()) {
+                notificationBroadcastRepository.markCompleted(broadcastId, LocalDateTime.now());
+                log.info("알림 방송 완료 - broadcastKey={}", broadcast.getBroadcastKey());
+                return;
+            }
+
+            long expectedLastMemberId = lastMemberId;
+            long nextLastMemberId = targetMemberIds.get(targetMemberIds.size() - 1);
+            LocalDateTime createdAt = LocalDateTime.now();
+
+            List<Long> notificationIds = transactionTemplate.execute(status -> {
+                int updated = notificationBroadcastRepository.advanceProgress(
+                        broadcastId, expectedLastMemberId, nextLastMemberId, targetMemberIds.size(), createdAt);
+                if (updated == 0) {
+                    return null;
+                }
+                return notificationBulkRepository.insertAll(targetMemberIds, template, createdAt);
+            });
+
+            if (notificationIds == null) {
+                // 다른 작업자가 이 구간을 이미 발송했거나 방송이 완료됨
+                log.info("알림 방송 진행 위치가 변경되어 중단 - broadcastId={}, lastMemberId={}", broadcastId, expectedLastMemberId);
+                return;
+            }
+
+            notificationFanoutService.push(targetMemberIds, notificationIds, template, createdAt);
+            lastMemberId = nextLastMemberId;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.backend.notification.service;
+
+import com.example.backend.notification.dto.request.NotificationDTO;
+import com.example.backend.notification.dto.response.NotificationResponseDTO;
+import com.example.backend.notification.entity.NotificationType;
+import com.example.backend.notification.repository.NotificationBulkRepository;
+import com.example.backend.subscription.entity.SubscriptionStatus;
+import com.example.backend.subscription.repository.SubscriptionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 알림 대량 발송 (fan-out)
+ * 대상 회원을 chunk 단위로 알림 설정과 대조해 거른 뒤, 알림을 JDBC 배치 insert로 저장하고
+ * 현재 SSE에 연결된 회원에게만 chunk 단위로 전송한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationFanoutService {
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final NotificationSettingService notificationSettingService;
+    private final NotificationBulkRepository notificationBulkRepository;
+    private final NotificationSseService notificationSseService;
+
+    @Value("${notification.fanout.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 채널의 활성 구독자에게 알림 발송 (회원 ID 기준 keyset 페이지 조회)
+     * @param settingType 수신 여부를 확인할 알림 설정 종류
+     * @param template 알림 내용 (memberId는 사용하지 않음)
+     * @return 발송된 알림 수
+     */
+    public int sendToChannelSubscribers(Long channelId, NotificationType settingType, NotificationDTO template) {
+        int sentCount = 0;
+        long lastMemberId = 0L;
+
+        while (true) {
+            List<Long> subscriberIds = subscriptionRepository.findActiveMemberIdsByChannelIdAfter(
+                    channelId, SubscriptionStatus.ACTIVE, lastMemberId, PageRequest.of(0, chunkSize));
+            if (subscriberIds.isEmpty()) {
+                break;
+            }
+
+            sentCount += sendChunk(subscriberIds, settingType, template);
+            lastMemberId = subscriberIds.get(subscriberIds.size() - 1);
+
+            if (subscriberIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        log.info("채널 구독자 알림 발송 완료 - channelId={}, type={}, count={}", channelId, template.getType(), sentCount);
+        return sentCount;
+    }
+
+    /**
+     * 회원 목록에 알림 발송 (chunk 단위로 나누어 처리)
+     * @return 발송된 알림 수
+     */
+    public int sendToMembers(List<Long> memberIds, NotificationType settingType, NotificationDTO template) {
+        int sentCount = 0;
+        for (int from = 0; from < memberIds.size(); from += chunkSize) {
+            List<Long> chunk = memberIds.subList(from, Math.min(from + chunkSize, memberIds.size()));
+            sentCount += sendChunk(chunk, settingType, template);
+        }
+        return sentCount;
+    }
+
+    /**
+     * 후보 회원 chunk 하나 처리: 알림 설정 필터 → 배치 저장 → 연결된 회원에게 SSE 전송
+     */
+    public int sendChunk(List<Long> candidateMemberIds, NotificationType settingType, NotificationDTO template) {
+        List<Long> targetMemberIds = notificationSettingService.getTargetMemberIds(candidateMemberIds, settingType);
+        if (targetMemberIds.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Long> notificationIds = notificationBulkRepository.insertAll(targetMemberIds, template, createdAt);
+        push(targetMemberIds, notificationIds, template, createdAt);
+
+        return targetMemberIds.size();
+    }
+
+    /**
+     * 저장된 알림을 SSE 연결이 있는 회원에게만 전송
+     * @param notificationIds memberIds와 같은 순서의 알림 ID
+     */
+    public void push(List<Long> memberIds, List<Long> notificationIds, NotificationDTO template, LocalDateTime createdAt) {
+        Set<Long> connectedMemberIds = notificationSseService.getConnectedMemberIds(memberIds);
+        if (connectedMemberIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Object> messages = new LinkedHashMap<>();
+        for (int i = 0; i < memberIds.size(); i++) {
+            Long memberId = memberIds.get(i);
+            if (connectedMemberIds.contains(memberId)) {
+                messages.put(memberId, NotificationResponseDTO.create(notificationIds.get(i), template, createdAt));
+            }
+        }
+        notificationSseService.sendAll(messages);
+    }
+}
@@ -9,6 +9,7 @@ import com.example.backend.notification.entity.NotificationType;
 import com.example.backend.notification.repository.NotificationSettingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -81,4 +82,16 @@ public class NotificationSettingService {
             default -> throw new BusinessException(ErrorCode.INVALID_NOTIFICATION_TYPE);
         };
     }
+
+    // 전체 회원 대상 방송: 알림 설정을 킨 회원을 회원 ID 순으로 lastMemberId 이후 limit 명 조회
+    @Transactional(readOnly = true)
+    public List<Long> getBroadcastTargetMemberIds(NotificationType type, Long lastMemberId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return switch (type) {
+            case NEW_CONTENT -> notificationSettingRepository.findContentNotifyMemberIdsAfter(lastMemberId, page);
+            case NEWS_LETTER -> notificationSettingRepository.findNewsletterNotifyMemberIdsAfter(lastMemberId, page);
+            case EVENT -> notificationSettingRepository.findEventNotifyMemberIdsAfter(lastMemberId, page);
+            default -> throw new BusinessException(ErrorCode.INVALID_NOTIFICATION_TYPE);
+        };
+    }
 }
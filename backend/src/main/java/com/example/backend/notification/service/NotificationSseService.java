@@ -1,55 +1,239 @@
 package com.example.backend.notification.service;
 
+import com.example.backend.notification.dto.event.SseRelayEvent;
 import com.example.backend.notification.dto.response.NotificationResponseDTO;
 import com.example.backend.notification.entity.Notification;
 import com.example.backend.notification.repository.NotificationRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
+/**
+ * SSE 알림 허브
+ * - 회원당 여러 연결(탭)을 유지하고, 주기적으로 heartbeat를 보내 끊긴 연결을 정리한다.
+ * - 재연결 시 Last-Event-ID 이후의 알림을 Notification 테이블에서 다시 보낸다.
+ * - 알림 전송은 Redis pub/sub으로 모든 노드에 중계되어, 회원이 연결된 노드에서 전달된다.
+ * - 연결 중인 회원은 Redis presence 키로 표시되어 다른 노드에서도 연결 여부를 확인할 수 있다.
+ */
 @Service
 @Slf4j
-public class NotificationSseService {
+public class NotificationSseService implements MessageListener {
 
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+    public static final String RELAY_CHANNEL = "notification:sse";
+    private static final String PRESENCE_KEY_PREFIX = "notification:sse:online:";
+    private static final Duration PRESENCE_TTL = Duration.ofSeconds(60);
+    private static final int REPLAY_LIMIT = 100;
+
+    // 회원 ID → (연결 ID → emitter)
+    private final Map<Long, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
     private final NotificationRepository notificationRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
 
-    public NotificationSseService(NotificationRepository notificationRepository) {
+    public NotificationSseService(NotificationRepository notificationRepository,
+                                  StringRedisTemplate stringRedisTemplate,
+                                  ObjectMapper objectMapper) {
         this.notificationRepository = notificationRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
     }
 
     public SseEmitter subscribe(Long memberId) {
+        return subscribe(memberId, null);
+    }
+
+    /**
+     * SSE 연결
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (재연결 시 브라우저가 Last-Event-ID 헤더로 전달)
+     */
+    public SseEmitter subscribe(Long memberId, String lastEventId) {
 
         SseEmitter emitter = new SseEmitter(60L * 60 * 1000);// 1시간 타임아웃
-        emitters.put(memberId, emitter);
+        String emitterId = UUID.randomUUID().toString();
+        emitters.computeIfAbsent(memberId, id -> new ConcurrentHashMap<>()).put(emitterId, emitter);
 
         // 콜백 설정 - 메모리 누수 방지
-        emitter.onCompletion(() -> emitters.remove(memberId)); // 연결을 정상적으로 마쳤을 때
-        emitter.onTimeout(() -> emitters.remove(memberId)); // 타임아웃
-        emitter.onError(e -> emitters.remove(memberId)); // 에러
+        emitter.onCompletion(() -> removeEmitter(memberId, emitterId)); // 연결을 정상적으로 마쳤을 때
+        emitter.onTimeout(() -> removeEmitter(memberId, emitterId)); // 타임아웃
+        emitter.onError(e -> removeEmitter(memberId, emitterId)); // 에러
+
+        markOnline(List.of(memberId));
 
         // 최초 연결 확인
-        send(memberId, "CONNECTED");
+        sendToEmitter(memberId, emitterId, emitter, SseEmitter.event()
+                .name("notification")
+                .data("CONNECTED"));
+
+        // 놓친 알림 재전송
+        replayMissedNotifications(memberId, emitterId, emitter, lastEventId);
 
         return emitter;
     }
 
     public void send(Long memberId, Object data) {
-        SseEmitter emitter = emitters.get(memberId);
-        if (emitter == null) return;
+        publish(List.of(toRelayEvent(memberId, data)));
+    }
 
+    // 여러 회원에게 한 번에 전송 (노드 간 중계 메시지 1건으로 발행)
+    public void sendAll(Map<Long, Object> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        List<SseRelayEvent> events = new ArrayList<>(messages.size());
+        messages.forEach((memberId, data) -> events.add(toRelayEvent(memberId, data)));
+        publish(events);
+    }
+
+    // 주어진 회원 중 현재 어느 노드에든 SSE 연결이 있는 회원 ID
+    public Set<Long> getConnectedMemberIds(Collection<Long> memberIds) {
+        List<Long> ids = List.copyOf(memberIds);
         try {
-            emitter.send(SseEmitter.event()
-                    .name("notification")
-                    .data(data));
+            List<String> presence = stringRedisTemplate.opsForValue()
+                    .multiGet(ids.stream().map(id -> PRESENCE_KEY_PREFIX + id).toList());
+            Set<Long> connected = new HashSet<>();
+            for (int i = 0; i < ids.size(); i++) {
+                if (presence != null && presence.get(i) != null) {
+                    connected.add(ids.get(i));
+                }
+            }
+            return connected;
+        } catch (Exception e) {
+            log.warn("SSE 연결 상태 조회 실패 - 이 노드의 연결만 확인합니다. error={}", e.getMessage());
+            return ids.stream()
+                    .filter(emitters::containsKey)
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    // 다른 노드(자신 포함)에서 발행된 중계 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            List<SseRelayEvent> events = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8),
+                    new TypeReference<List<SseRelayEvent>>() {});
+            events.forEach(this::deliverLocal);
         } catch (IOException e) {
+            log.error("SSE 중계 메시지 처리 실패", e);
+        }
+    }
+
+    // 25초마다 heartbeat 전송 (프록시 유휴 타임아웃 방지, 끊긴 연결 정리) 및 presence 갱신
+    @Scheduled(fixedRate = 25000)
+    public void sendHeartbeat() {
+        emitters.forEach((memberId, memberEmitters) ->
+                memberEmitters.forEach((emitterId, emitter) ->
+                        sendToEmitter(memberId, emitterId, emitter, SseEmitter.event().comment("heartbeat"))));
+
+        markOnline(emitters.keySet());
+    }
+
+    private void publish(List<SseRelayEvent> events) {
+        try {
+            stringRedisTemplate.convertAndSend(RELAY_CHANNEL, objectMapper.writeValueAsString(events));
+        } catch (Exception e) {
+            // Redis 장애 시 이 노드에 연결된 회원에게라도 전달
+            log.warn("SSE 중계 메시지 발행 실패 - 이 노드에만 전송합니다. error={}", e.getMessage());
+            events.forEach(this::deliverLocal);
+        }
+    }
+
+    private void deliverLocal(SseRelayEvent event) {
+        Map<String, SseEmitter> memberEmitters = emitters.get(event.memberId());
+        if (memberEmitters == null) return;
+
+        memberEmitters.forEach((emitterId, emitter) -> {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                    .name("notification")
+                    .data(event.data(), MediaType.APPLICATION_JSON);
+            if (event.eventId() != null) {
+                builder.id(event.eventId());
+            }
+            sendToEmitter(event.memberId(), emitterId, emitter, builder);
+        });
+    }
+
+    private void replayMissedNotifications(Long memberId, String emitterId, SseEmitter emitter, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return;
+
+        long lastNotificationId;
+        try {
+            lastNotificationId = Long.parseLong(lastEventId);
+        } catch (NumberFormatException e) {
+            return;
+        }
+
+        List<Notification> missed = notificationRepository
+                .findMissedNotifications(memberId, lastNotificationId, REPLAY_LIMIT);
+        for (Notification notification : missed) {
+            SseRelayEvent event = toRelayEvent(memberId, NotificationResponseDTO.create(notification));
+            sendToEmitter(memberId, emitterId, emitter, SseEmitter.event()
+                    .id(event.eventId())
+                    .name("notification")
+                    .data(event.data(), MediaType.APPLICATION_JSON));
+        }
+
+        log.info("SSE 미수신 알림 재전송 - memberId={}, lastEventId={}, count={}", memberId, lastEventId, missed.size());
+    }
+
+    private void sendToEmitter(Long memberId, String emitterId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
             // 에러발생 - 연결이 끊겼다는 것이므로 데이터 정리.
-            emitters.remove(memberId);
+            removeEmitter(memberId, emitterId);
+        }
+    }
+
+    private void removeEmitter(Long memberId, String emitterId) {
+        emitters.computeIfPresent(memberId, (id, memberEmitters) -> {
+            memberEmitters.remove(emitterId);
+            return memberEmitters.isEmpty() ? null : memberEmitters;
+        });
+    }
+
+    private void markOnline(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) return;
+
+        try {
+            for (Long memberId : memberIds) {
+                stringRedisTemplate.opsForValue().set(PRESENCE_KEY_PREFIX + memberId, "1", PRESENCE_TTL);
+            }
+        } catch (Exception e) {
+            log.warn("SSE 연결 상태 갱신 실패 - error={}", e.getMessage());
+        }
+    }
+
+    private SseRelayEvent toRelayEvent(Long memberId, Object data) {
+        String eventId = data instanceof NotificationResponseDTO dto && dto.getNotificationId() != null
+                ? String.valueOf(dto.getNotificationId())
+                : null;
+        try {
+            return new SseRelayEvent(memberId, eventId, objectMapper.writeValueAsString(data));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("SSE 전송 데이터 직렬화 실패", e);
         }
     }
 }
@@ -2,14 +2,12 @@ package com.example.backend.order.controller;
 
 import com.example.backend.order.dto.OrderCreateRequestDTO;
 import com.example.backend.order.dto.OrderCreateResponseDTO;
+import com.example.backend.order.dto.OrderHistoryResponseDTO;
 import com.example.backend.order.dto.OrderListResponseDTO;
 import com.example.backend.order.dto.OrderResponseDTO;
 import com.example.backend.order.service.OrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -113,15 +111,17 @@ public class OrderController {
     }
 
     /**
-     * 회원별 주문 목록 조회 (페이징)
-     * GET /api/orders/member/{memberId}/page
+     * 회원별 주문 목록 조회 (커서 기반 페이징)
+     * GET /api/orders/member/{memberId}/page?cursor={cursor}&size={size}
      * 권한: 회원 (USER) - 본인 주문만 조회 가능
+     * cursor: 이전 응답의 nextCursor (첫 페이지면 생략)
      */
     @GetMapping("/member/{memberId}/page")
-    public ResponseEntity<Page<OrderListResponseDTO>> getOrdersByMemberIdWithPaging(
+    public ResponseEntity<OrderHistoryResponseDTO> getOrdersByMemberIdWithPaging(
             @PathVariable Long memberId,
             @RequestHeader(value = "User-Id", required = false) Long userId,
-            @PageableDefault(size = 10, sort = "createdAt") Pageable pageable
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
     ) {
         if (userId == null) {
             throw new IllegalArgumentException("로그인이 필요합니다.");
@@ -132,7 +132,8 @@ public class OrderController {
             throw new IllegalArgumentException("본인의 주문만 조회할 수 있습니다.");
         }
 
-        Page<OrderListResponseDTO> response = orderService.getOrdersByMemberId(memberId, pageable);
+        OrderHistoryResponseDTO response = orderService.getOrdersByMemberId(
+                memberId, cursor, Math.min(Math.max(size, 1), 100));
         return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,40 @@
+package com.example.backend.order.dto;
+
+import com.example.backend.global.exception.BusinessException;
+import com.example.backend.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 주문 목록 커서 (마지막으로 내려준 주문의 createdAt + id)
+ * 클라이언트에는 Base64(URL-safe) 문자열로 전달한다.
+ */
+public record OrderHistoryCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    public static OrderHistoryCursor from(OrderListRow row) {
+        return new OrderHistoryCursor(row.createdAt(), row.id());
+    }
+
+    public static OrderHistoryCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('_');
+            return new OrderHistoryCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.valueOf(decoded.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "_" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
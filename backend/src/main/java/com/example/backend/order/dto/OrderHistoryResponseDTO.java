@@ -0,0 +1,18 @@
+package com.example.backend.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 회원별 주문 목록 응답 DTO (커서 기반)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderHistoryResponseDTO {
+
+    private List<OrderListResponseDTO> orders;
+    private String nextCursor;  // 다음 페이지 요청 시 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
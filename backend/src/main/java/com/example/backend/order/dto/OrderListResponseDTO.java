@@ -62,4 +62,20 @@ public class OrderListResponseDTO {
                 .createdAt(order.getCreatedAt())
                 .build();
     }
+
+    public static OrderListResponseDTO from(OrderListRow row) {
+        return OrderListResponseDTO.builder()
+                .id(row.id())
+                .orderCode(row.orderCode())
+                .orderType(row.orderType())
+                .orderName(row.orderName())
+                .contentId(row.contentId())
+                .planId(row.planId())
+                .subscriptionId(row.subscriptionId())
+                .originalAmount(row.originalAmount())
+                .discountAmount(row.discountAmount())
+                .status(row.status())
+                .createdAt(row.createdAt())
+                .build();
+    }
 }
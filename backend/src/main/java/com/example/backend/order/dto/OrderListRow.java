@@ -0,0 +1,42 @@
+package com.example.backend.order.dto;
+
+import com.example.backend.order.entity.OrderStatus;
+import com.example.backend.order.entity.OrderType;
+import com.example.backend.subscription.entity.PlanType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회 결과 (콘텐츠 제목, 구독 플랜 타입을 한 번의 쿼리로 함께 조회)
+ */
+public record OrderListRow(
+        Long id,
+        String orderCode,
+        OrderType orderType,
+        Long contentId,
+        String contentTitle,
+        Long planId,
+        PlanType planType,
+        Long subscriptionId,
+        Long originalAmount,
+        Long discountAmount,
+        OrderStatus status,
+        LocalDateTime createdAt
+) {
+
+    public String orderName() {
+        return orderName(orderType, contentTitle, planType);
+    }
+
+    /**
+     * 주문명 (CONTENT: 콘텐츠 제목, SUBSCRIPTION: 구독 플랜명)
+     */
+    public static String orderName(OrderType orderType, String contentTitle, PlanType planType) {
+        if (orderType == OrderType.CONTENT) {
+            return contentTitle != null ? contentTitle : "콘텐츠";
+        } else if (orderType == OrderType.SUBSCRIPTION) {
+            return planType != null ? planType.name() + " 구독" : "구독";
+        }
+        return "";
+    }
+}
@@ -10,7 +10,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "orders",
-        indexes = @Index(name = "idx_order_code", columnList = "orderCode", unique = true))
+        indexes = {
+                @Index(name = "idx_order_code", columnList = "orderCode", unique = true),
+                // 회원별 주문 목록 커서 조회용
+                @Index(name = "idx_order_member_created", columnList = "member_id, createdAt, id")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
@@ -46,6 +50,13 @@ public class Order {
     @JoinColumn(name = "content_id")
     private Content content;
 
+    // 주문 대상의 채널 / 크리에이터 (정산 집계용, 주문 생성 시점에 기록)
+    @Column(name = "channel_id")
+    private Long channelId;
+
+    @Column(name = "creator_id")
+    private Long creatorId;
+
     private Long originalAmount;
     private Long discountAmount;
 
@@ -64,6 +75,8 @@ public class Order {
             String orderCode,
             Member member,
             Long planId,
+            Long channelId,
+            Long creatorId,
             Long originalAmount,
             Long discountAmount,
             Long memberCouponId
@@ -75,6 +88,8 @@ public class Order {
                 .planId(planId)
                 .subscription(null) // 결제 완료 후 생성
                 .content(null)
+                .channelId(channelId)
+                .creatorId(creatorId)
                 .originalAmount(originalAmount)
                 .discountAmount(discountAmount)
                 .memberCouponId(memberCouponId)
@@ -101,6 +116,8 @@ public class Order {
                 .planId(null)
                 .subscription(null)
                 .content(content)
+                .channelId(content.getChannel().getId())
+                .creatorId(content.getChannel().getCreatorId())
                 .originalAmount(originalAmount)
                 .discountAmount(discountAmount)
                 .memberCouponId(memberCouponId)
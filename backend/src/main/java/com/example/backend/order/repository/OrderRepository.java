@@ -1,11 +1,14 @@
 package com.example.backend.order.repository;
 
+import com.example.backend.order.dto.OrderListRow;
 import com.example.backend.order.entity.Order;
 import com.example.backend.order.entity.OrderStatus;
 import com.example.backend.order.entity.OrderType;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,13 +19,41 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     Optional<Order> findByOrderCode(String orderCode);
 
+    // 결제 시도 기록 시 같은 주문의 동시 승인 요청 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.orderCode = :orderCode")
+    Optional<Order> findByOrderCodeWithLock(@Param("orderCode") String orderCode);
+
     boolean existsByOrderCode(String orderCode);
 
     // 회원별 주문 목록 조회 (최신순)
-    List<Order> findByMemberIdOrderByCreatedAtDesc(Long memberId);
+    // 콘텐츠 제목, 구독 플랜 타입을 함께 조회 (idx_order_member_created 사용)
+    @Query("SELECT new com.example.backend.order.dto.OrderListRow(" +
+           "o.id, o.orderCode, o.orderType, o.contentId, c.title, o.planId, sp.planType, o.subscription.id, " +
+           "o.originalAmount, o.discountAmount, o.status, o.createdAt) " +
+           "FROM Order o " +
+           "LEFT JOIN o.content c " +
+           "LEFT JOIN SubscriptionPlan sp ON sp.id = o.planId " +
+           "WHERE o.member.id = :memberId " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderListRow> findListByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 
-    // 회원별 주문 목록 조회 (페이징)
-    Page<Order> findByMemberIdOrderByCreatedAtDesc(Long memberId, Pageable pageable);
+    // 회원별 주문 목록 다음 페이지 (커서 이후)
+    @Query("SELECT new com.example.backend.order.dto.OrderListRow(" +
+           "o.id, o.orderCode, o.orderType, o.contentId, c.title, o.planId, sp.planType, o.subscription.id, " +
+           "o.originalAmount, o.discountAmount, o.status, o.createdAt) " +
+           "FROM Order o " +
+           "LEFT JOIN o.content c " +
+           "LEFT JOIN SubscriptionPlan sp ON sp.id = o.planId " +
+           "WHERE o.member.id = :memberId " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :orderId)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderListRow> findListByMemberIdBefore(
+            @Param("memberId") Long memberId,
+            @Param("createdAt") java.time.LocalDateTime createdAt,
+            @Param("orderId") Long orderId,
+            Pageable pageable
+    );
 
     // 특정 회원이 특정 콘텐츠를 구매했는지 확인 (결제 완료된 주문만)
     // COUNT를 사용하지만 단일 쿼리로 실행되며 N+1 문제 발생하지 않음
@@ -38,6 +69,17 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             @Param("status") OrderStatus status
     );
 
+    // 회원이 구매한 콘텐츠 ID 목록 (접근 권한 캐시 적재용)
+    @Query("SELECT DISTINCT o.contentId FROM Order o WHERE o.member.id = :memberId " +
+           "AND o.contentId IS NOT NULL " +
+           "AND o.orderType = :orderType " +
+           "AND o.status = :status")
+    List<Long> findContentIdsByMemberIdAndOrderTypeAndStatus(
+            @Param("memberId") Long memberId,
+            @Param("orderType") OrderType orderType,
+            @Param("status") OrderStatus status
+    );
+
     // 구독으로 주문 조회
     @Query("SELECT o FROM Order o WHERE o.subscription.id = :subscriptionId")
     Optional<Order> findBySubscriptionId(@Param("subscriptionId") Long subscriptionId);
@@ -57,5 +99,23 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             @Param("startDate") java.time.LocalDateTime startDate,
             @Param("endDate") java.time.LocalDateTime endDate
     );
-}
 
+    // channel_id / creator_id 컬럼 추가 이전 주문 데이터 보정
+    // 콘텐츠 주문: 콘텐츠의 채널
+    @Modifying
+    @Query("UPDATE Order o SET o.channelId = (SELECT c.channel.id FROM Content c WHERE c.id = o.contentId) " +
+           "WHERE o.channelId IS NULL AND o.contentId IS NOT NULL")
+    int backfillChannelIdFromContent();
+
+    // 구독 주문: 구독 플랜의 채널
+    @Modifying
+    @Query("UPDATE Order o SET o.channelId = (SELECT sp.channelId FROM SubscriptionPlan sp WHERE sp.id = o.planId) " +
+           "WHERE o.channelId IS NULL AND o.planId IS NOT NULL")
+    int backfillChannelIdFromPlan();
+
+    // 채널의 크리에이터
+    @Modifying
+    @Query("UPDATE Order o SET o.creatorId = (SELECT ch.creatorId FROM Channel ch WHERE ch.id = o.channelId) " +
+           "WHERE o.creatorId IS NULL AND o.channelId IS NOT NULL")
+    int backfillCreatorIdFromChannel();
+}
@@ -1,23 +1,30 @@
 package com.example.backend.order.service;
 
+import com.example.backend.channel.dto.ChannelSnapshot;
+import com.example.backend.channel.service.ChannelCacheService;
 import com.example.backend.content.entity.Content;
 import com.example.backend.content.repository.ContentRepository;
+import com.example.backend.entitlement.dto.event.EntitlementChangedEvent;
 import com.example.backend.global.exception.BusinessException;
 import com.example.backend.global.exception.ErrorCode;
 import com.example.backend.member.entity.Member;
 import com.example.backend.member.service.MemberService;
 import com.example.backend.order.dto.OrderCreateRequestDTO;
 import com.example.backend.order.dto.OrderCreateResponseDTO;
+import com.example.backend.order.dto.OrderHistoryCursor;
+import com.example.backend.order.dto.OrderHistoryResponseDTO;
 import com.example.backend.order.dto.OrderListResponseDTO;
+import com.example.backend.order.dto.OrderListRow;
 import com.example.backend.order.dto.OrderResponseDTO;
 import com.example.backend.order.entity.Order;
 import com.example.backend.order.entity.OrderType;
 import com.example.backend.order.repository.OrderRepository;
-import com.example.backend.subscription.entity.SubscriptionPlan;
-import com.example.backend.subscription.repository.SubscriptionPlanRepository;
+import com.example.backend.subscription.dto.SubscriptionPlanSnapshot;
+import com.example.backend.subscription.service.SubscriptionPlanCacheService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -33,7 +40,9 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final MemberService memberService;
     private final ContentRepository contentRepository;
-    private final SubscriptionPlanRepository subscriptionPlanRepository;
+    private final SubscriptionPlanCacheService subscriptionPlanCacheService;
+    private final ChannelCacheService channelCacheService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     /**
      * 주문 생성
@@ -67,7 +76,7 @@ public class OrderService {
 
         String orderName = "";
         Content content = null;
-        SubscriptionPlan subscriptionPlan = null;
+        SubscriptionPlanSnapshot subscriptionPlan = null;
 
         if (request.getOrderType() == OrderType.CONTENT) {
             // 콘텐츠 주문
@@ -76,9 +85,9 @@ public class OrderService {
             orderName = content.getTitle();
         } else if (request.getOrderType() == OrderType.SUBSCRIPTION) {
             // 구독 플랜 주문 (targetId는 SubscriptionPlan의 ID)
-            subscriptionPlan = subscriptionPlanRepository.findById(request.getTargetId())
+            subscriptionPlan = subscriptionPlanCacheService.findById(request.getTargetId())
                     .orElseThrow(() -> new IllegalArgumentException("구독 플랜이 존재하지 않습니다."));
-            orderName = subscriptionPlan.getPlanType().name() + " 구독";
+            orderName = subscriptionPlan.planType().name() + " 구독";
         } else {
             throw new IllegalArgumentException("지원하지 않는 주문 타입입니다.");
         }
@@ -92,11 +101,15 @@ public class OrderService {
         // 주문 타입에 따라 주문 생성
         Order order;
         if (request.getOrderType() == OrderType.SUBSCRIPTION) {
-            // SUBSCRIPTION 타입: planId 저장
+            // SUBSCRIPTION 타입: planId 저장 (정산 집계를 위해 플랜의 채널/크리에이터도 함께 기록)
+            ChannelSnapshot channel = channelCacheService.findById(subscriptionPlan.channelId())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.CHANNEL_NOT_FOUND));
             order = Order.createSubscriptionOrder(
                     orderCode,
                     member,
-                    subscriptionPlan.getId(),
+                    subscriptionPlan.id(),
+                    channel.id(),
+                    channel.creatorId(),
                     originalAmount,
                     discountAmount,
                     memberCouponId
@@ -135,6 +148,14 @@ public class OrderService {
                 .orElseThrow(() -> new IllegalArgumentException("주문이 존재하지 않습니다."));
     }
 
+    /**
+     * 주문 코드로 주문 조회 (비관적 잠금, 트랜잭션 종료 시 해제)
+     */
+    public Order findByOrderCodeWithLock(String orderCode) {
+        return orderRepository.findByOrderCodeWithLock(orderCode)
+                .orElseThrow(() -> new IllegalArgumentException("주문이 존재하지 않습니다."));
+    }
+
     /**
      * 주문 상태를 PAID로 변경
      */
@@ -142,6 +163,9 @@ public class OrderService {
         Order order = findByOrderCode(orderCode);
         order.markPaid();
         orderRepository.save(order);
+
+        // 구매 완료 → 접근 권한 캐시 갱신
+        applicationEventPublisher.publishEvent(EntitlementChangedEvent.create(order.getMember().getId()));
     }
 
     /**
@@ -165,50 +189,50 @@ public class OrderService {
         return OrderResponseDTO.from(order);
     }
 
-    /**
-     * 주문명 생성 (주문 타입에 따라)
-     */
-    private String getOrderName(Order order) {
-        if (order.getOrderType() == OrderType.CONTENT) {
-            // CONTENT 타입: 콘텐츠 제목
-            return order.getContent() != null ? order.getContent().getTitle() : "콘텐츠";
-        } else if (order.getOrderType() == OrderType.SUBSCRIPTION) {
-            // SUBSCRIPTION 타입: 구독 플랜명
-            if (order.getPlanId() != null) {
-                SubscriptionPlan plan = subscriptionPlanRepository.findById(order.getPlanId())
-                        .orElse(null);
-                if (plan != null) {
-                    return plan.getPlanType().name() + " 구독";
-                }
-            }
-            return "구독";
-        }
-        return "";
-    }
-
     /**
      * 회원별 주문 목록 조회
+     * 콘텐츠 제목, 구독 플랜 타입을 한 번의 쿼리로 함께 조회
      * @param memberId 회원 ID
      * @return 주문 목록
      */
     public List<OrderListResponseDTO> getOrdersByMemberId(Long memberId) {
-        // contentId 필드를 직접 사용하므로 JOIN FETCH 불필요
-        List<Order> orders = orderRepository.findByMemberIdOrderByCreatedAtDesc(memberId);
-        return orders.stream()
-                .map(order -> OrderListResponseDTO.from(order, getOrderName(order)))
+        return orderRepository.findListByMemberId(memberId, Pageable.unpaged()).stream()
+                .map(OrderListResponseDTO::from)
                 .collect(Collectors.toList());
     }
 
     /**
-     * 회원별 주문 목록 조회 (페이징)
+     * 회원별 주문 목록 조회 (커서 기반, 최신순)
+     * size + 1건을 조회해 다음 페이지 여부를 판단한다 (COUNT 없음).
      * @param memberId 회원 ID
-     * @param pageable 페이징 정보
-     * @return 주문 목록 (페이징)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return 주문 목록
      */
-    public Page<OrderListResponseDTO> getOrdersByMemberId(Long memberId, Pageable pageable) {
-        // contentId 필드를 직접 사용하므로 JOIN FETCH 불필요
-        Page<Order> orders = orderRepository.findByMemberIdOrderByCreatedAtDesc(memberId, pageable);
-        return orders.map(order -> OrderListResponseDTO.from(order, getOrderName(order)));
+    public OrderHistoryResponseDTO getOrdersByMemberId(Long memberId, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<OrderListRow> rows;
+        if (cursor != null && !cursor.isBlank()) {
+            OrderHistoryCursor after = OrderHistoryCursor.decode(cursor);
+            rows = orderRepository.findListByMemberIdBefore(memberId, after.createdAt(), after.id(), limit);
+        } else {
+            rows = orderRepository.findListByMemberId(memberId, limit);
+        }
+
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+
+        String nextCursor = hasNext
+                ? OrderHistoryCursor.from(rows.get(rows.size() - 1)).encode()
+                : null;
+
+        return new OrderHistoryResponseDTO(
+                rows.stream().map(OrderListResponseDTO::from).toList(),
+                nextCursor,
+                hasNext
+        );
     }
 
     /**
@@ -249,5 +273,7 @@ public class OrderService {
                 .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다."));
         order.markCancelled();
         orderRepository.save(order);
+
+        applicationEventPublisher.publishEvent(EntitlementChangedEvent.create(order.getMember().getId()));
     }
 }
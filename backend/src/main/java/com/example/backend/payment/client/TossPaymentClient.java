@@ -1,31 +1,64 @@
 package com.example.backend.payment.client;
 
+import com.example.backend.global.exception.BusinessException;
+import com.example.backend.global.exception.ErrorCode;
+import com.example.backend.global.resilience.CircuitBreaker;
+import com.example.backend.global.resilience.LatencyHistogram;
 import com.example.backend.payment.dto.TossPaymentConfirmRequestDTO;
 import com.example.backend.payment.dto.TossPaymentConfirmResponseDTO;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
 /**
  * 토스 페이먼츠 API 클라이언트
+ * - 동시 요청 제한: 진행 중인 요청이 maxConcurrentRequests개를 넘으면 잠시 기다린 뒤 거절
+ * - 호출 차단기: 토스 장애(타임아웃, 연결 오류, 5xx)가 이어지면 즉시 거절
+ * 거절된 요청은 토스에 전달되지 않으며 PAYMENT_GATEWAY_UNAVAILABLE로 응답한다.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TossPaymentClient {
 
     private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final String baseUrl;
+    private final String authorization;
+    private final int maxConcurrentRequests;
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
 
-    @Value("${toss.payments.secret-key}")
-    private String secretKey;
+    private final LatencyHistogram confirmLatency = new LatencyHistogram();
+    private final LatencyHistogram lookupLatency = new LatencyHistogram();
 
-    @Value("${toss.payments.base-url}")
-    private String baseUrl;
+    public TossPaymentClient(
+            @Qualifier("tossRestTemplate") RestTemplate restTemplate,
+            @Qualifier("tossCircuitBreaker") CircuitBreaker circuitBreaker,
+            @Value("${toss.payments.secret-key}") String secretKey,
+            @Value("${toss.payments.base-url}") String baseUrl,
+            @Value("${toss.payments.max-concurrent-requests:50}") int maxConcurrentRequests,
+            @Value("${toss.payments.acquire-timeout-ms:100}") long acquireTimeoutMs
+    ) {
+        this.restTemplate = restTemplate;
+        this.circuitBreaker = circuitBreaker;
+        this.baseUrl = baseUrl;
+        this.authorization = createAuthorization(secretKey);
+        this.maxConcurrentRequests = Math.max(maxConcurrentRequests, 1);
+        this.permits = new Semaphore(this.maxConcurrentRequests);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
 
     /**
      * 결제 승인 요청
@@ -38,27 +71,31 @@ public class TossPaymentClient {
         HttpEntity<TossPaymentConfirmRequestDTO> entity = new HttpEntity<>(request, headers);
 
         try {
-            ResponseEntity<TossPaymentConfirmResponseDTO> response = restTemplate.exchange(
+            ResponseEntity<TossPaymentConfirmResponseDTO> response = call(confirmLatency, () -> restTemplate.exchange(
                     url,
                     HttpMethod.POST,
                     entity,
                     TossPaymentConfirmResponseDTO.class
-            );
+            ));
 
             TossPaymentConfirmResponseDTO responseBody = response.getBody();
             if (responseBody == null) {
                 throw new RuntimeException("토스 페이먼츠 응답이 null입니다.");
             }
 
-            log.info("결제 승인 요청 성공: orderId={}, paymentKey={}, status={}", 
+            log.info("결제 승인 요청 성공: orderId={}, paymentKey={}, status={}",
                     request.getOrderId(), request.getPaymentKey(), responseBody.getStatus());
             return responseBody;
+        } catch (BusinessException e) {
+            log.warn("결제 승인 요청 거절 (토스 호출 제한): orderId={}, paymentKey={}, circuit={}",
+                    request.getOrderId(), request.getPaymentKey(), circuitBreaker.getState());
+            throw e;
         } catch (HttpClientErrorException e) {
             log.error("결제 승인 요청 실패 (HTTP 에러): orderId={}, paymentKey={}, status={}, body={}",
                     request.getOrderId(), request.getPaymentKey(), e.getStatusCode(), e.getResponseBodyAsString());
             throw new RuntimeException("결제 승인 요청에 실패했습니다: " + e.getResponseBodyAsString(), e);
         } catch (RestClientException e) {
-            // JSON 파싱 오류 등
+            // 타임아웃, JSON 파싱 오류 등
             log.error("결제 승인 요청 실패 (파싱 오류): orderId={}, paymentKey={}, error={}, message={}",
                     request.getOrderId(), request.getPaymentKey(), e.getClass().getSimpleName(), e.getMessage());
             throw new RuntimeException("결제 승인 응답을 파싱하는데 실패했습니다: " + e.getMessage(), e);
@@ -69,23 +106,122 @@ public class TossPaymentClient {
         }
     }
 
+    /**
+     * 결제 조회
+     * GET /v1/payments/{paymentKey}
+     * 승인 결과를 받지 못한 결제 시도 복구 시 토스 페이먼츠 측 결제 상태를 확인
+     */
+    public TossPaymentConfirmResponseDTO getPayment(String paymentKey) {
+        String url = baseUrl + "/v1/payments/" + paymentKey;
+
+        HttpEntity<Void> entity = new HttpEntity<>(createHeaders());
+
+        try {
+            ResponseEntity<TossPaymentConfirmResponseDTO> response = call(lookupLatency, () -> restTemplate.exchange(
+                    url,
+                    HttpMethod.GET,
+                    entity,
+                    TossPaymentConfirmResponseDTO.class
+            ));
+
+            TossPaymentConfirmResponseDTO responseBody = response.getBody();
+            if (responseBody == null) {
+                throw new RuntimeException("토스 페이먼츠 응답이 null입니다.");
+            }
+            return responseBody;
+        } catch (HttpClientErrorException e) {
+            log.error("결제 조회 실패 (HTTP 에러): paymentKey={}, status={}, body={}",
+                    paymentKey, e.getStatusCode(), e.getResponseBodyAsString());
+            throw new RuntimeException("결제 조회에 실패했습니다: " + e.getResponseBodyAsString(), e);
+        } catch (RestClientException e) {
+            log.error("결제 조회 실패: paymentKey={}, error={}", paymentKey, e.getMessage());
+            throw new RuntimeException("결제 조회에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 토스 호출 상태 로그 (구간별 응답 시간 분포, 차단기 상태, 진행 중인 요청 수)
+     */
+    @Scheduled(fixedDelayString = "${toss.payments.stats-log-interval-ms:60000}")
+    public void logStats() {
+        LatencyHistogram.Snapshot confirm = confirmLatency.snapshotAndReset();
+        LatencyHistogram.Snapshot lookup = lookupLatency.snapshotAndReset();
+        if (confirm.count() == 0 && lookup.count() == 0 && circuitBreaker.getState() == CircuitBreaker.State.CLOSED) {
+            return;
+        }
+
+        log.info("토스 페이먼츠 호출 통계 - confirm(count={}, mean={}ms, p50={}ms, p95={}ms, p99={}ms, max={}ms), "
+                        + "lookup(count={}, p95={}ms, max={}ms), circuit={}, failureRate={}, inFlight={}",
+                confirm.count(), confirm.meanMillis(), confirm.p50Millis(), confirm.p95Millis(), confirm.p99Millis(), confirm.maxMillis(),
+                lookup.count(), lookup.p95Millis(), lookup.maxMillis(),
+                circuitBreaker.getState(), String.format("%.2f", circuitBreaker.getFailureRate()), inFlightRequests());
+    }
+
+    public int inFlightRequests() {
+        return maxConcurrentRequests - permits.availablePermits();
+    }
+
+    /**
+     * 동시 요청 제한 → 호출 차단기 확인 → 호출
+     * 토스가 응답한 4xx는 업무 오류이므로 차단기에는 성공으로 기록한다.
+     */
+    private <T> T call(LatencyHistogram latency, Supplier<T> request) {
+        if (!tryAcquirePermit()) {
+            throw new BusinessException(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                throw new BusinessException(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE);
+            }
+
+            long startedAt = System.nanoTime();
+            try {
+                T result = request.get();
+                circuitBreaker.onSuccess();
+                return result;
+            } catch (HttpClientErrorException e) {
+                circuitBreaker.onSuccess();
+                throw e;
+            } catch (RuntimeException e) {
+                circuitBreaker.onFailure();
+                throw e;
+            } finally {
+                latency.record(System.nanoTime() - startedAt);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean tryAcquirePermit() {
+        try {
+            return permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     /**
      * HTTP 헤더 생성 (인증 정보 포함)
-     * 토스 페이먼츠는 Authorization 헤더에 "Basic {base64(secretKey:)}" 형식 사용
-     * 시크릿 키 뒤에 콜론(:)을 추가하여 비밀번호가 없음을 표시
-     * 
-     * 참고: Basic base64("{WIDGET_SECRET_KEY}:")
      */
     private HttpHeaders createHeaders() {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
-        
-        // 시크릿 키와 콜론(:)을 base64로 인코딩
+        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+        return headers;
+    }
+
+    /**
+     * 인증 헤더 값 (생성 시 한 번만 계산)
+     * 토스 페이먼츠는 Authorization 헤더에 "Basic {base64(secretKey:)}" 형식 사용
+     * 시크릿 키 뒤에 콜론(:)을 추가하여 비밀번호가 없음을 표시
+     *
+     * 참고: Basic base64("{WIDGET_SECRET_KEY}:")
+     */
+    private static String createAuthorization(String secretKey) {
         // 콜론(:)을 반드시 포함해야 함 (비밀번호가 없음을 표시)
         String auth = secretKey + ":";
-        String encodedAuth = java.util.Base64.getEncoder().encodeToString(auth.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-        headers.set("Authorization", "Basic " + encodedAuth);
-        
-        return headers;
+        return "Basic " + Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
     }
 }
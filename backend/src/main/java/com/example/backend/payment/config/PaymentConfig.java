@@ -1,17 +1,53 @@
 package com.example.backend.payment.config;
 
+import com.example.backend.global.resilience.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 /**
  * 결제 관련 설정
  */
 @Configuration
 public class PaymentConfig {
 
+    /**
+     * 토스 페이먼츠 호출용 RestTemplate
+     * JDK HttpClient가 keep-alive 커넥션을 재사용하며, 토스로 가는 동시 커넥션 수는
+     * TossPaymentClient의 동시 요청 제한(toss.payments.max-concurrent-requests)으로 묶인다.
+     */
+    @Bean
+    public RestTemplate tossRestTemplate(
+            @Value("${toss.payments.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${toss.payments.read-timeout-ms:10000}") long readTimeoutMs
+    ) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return new RestTemplate(requestFactory);
+    }
+
+    /**
+     * 토스 페이먼츠 호출 차단기
+     * 최근 호출의 실패(타임아웃, 연결 오류, 5xx) 비율이 기준을 넘으면 일정 시간 승인 요청을 즉시 거절한다.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public CircuitBreaker tossCircuitBreaker(
+            @Value("${toss.payments.circuit-breaker.window-size:50}") int windowSize,
+            @Value("${toss.payments.circuit-breaker.minimum-calls:20}") int minimumCalls,
+            @Value("${toss.payments.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${toss.payments.circuit-breaker.open-duration-ms:30000}") long openDurationMs
+    ) {
+        return new CircuitBreaker("toss-payments", windowSize, minimumCalls, failureRateThreshold,
+                Duration.ofMillis(openDurationMs));
     }
 }
@@ -1,12 +1,11 @@
 package com.example.backend.payment.controller;
 
 import com.example.backend.payment.dto.*;
+import com.example.backend.payment.service.PaymentIdempotencyService;
 import com.example.backend.payment.service.PaymentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,24 +21,28 @@ import org.springframework.web.bind.annotation.*;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PaymentIdempotencyService paymentIdempotencyService;
 
     /**
      * 결제 승인
      * POST /api/payments/confirm
      * 토스 페이먼츠 결제 승인 API
      * 프론트엔드에서 결제위젯을 통해 결제 완료 후, successUrl로 리다이렉트된 시점에 호출됨
+     * 같은 주문/paymentKey의 중복 요청(더블 클릭, 재시도)은 먼저 온 요청의 결과를 그대로 돌려받음
      */
     @PostMapping("/confirm")
     public ResponseEntity<PaymentResponseDTO> confirmPayment(
             @Valid @RequestBody PaymentConfirmRequestDTO request
     ) {
-        PaymentResponseDTO response = paymentService.confirmPayment(request);
+        PaymentResponseDTO response = paymentIdempotencyService.confirm(
+                request.getOrderId(), request.getPaymentKey(), () -> paymentService.confirmPayment(request));
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     /**
      * CANCELLED 처리: 결제 취소
      * PUT /api/payments/{paymentKey}/cancel
+     * 같은 paymentKey의 중복 취소 요청은 먼저 온 요청의 결과를 그대로 돌려받음
      */
     @PutMapping("/{paymentKey}/cancel")
     public ResponseEntity<PaymentResponseDTO> cancelPayment(
@@ -53,22 +56,24 @@ public class PaymentController {
             throw new IllegalArgumentException("URL의 paymentKey와 요청 본문의 paymentKey가 일치하지 않습니다.");
         }
         
-        PaymentResponseDTO response = paymentService.cancelPayment(request);
+        PaymentResponseDTO response = paymentIdempotencyService.cancel(
+                request.getPaymentKey(), () -> paymentService.cancelPayment(request));
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     /**
      * 사용자 결제 이력 조회
-     * GET /api/payments/history?memberId={memberId}&page={page}&size={size}
+     * GET /api/payments/history?memberId={memberId}&cursor={cursor}&size={size}
+     * cursor: 이전 응답의 nextCursor (첫 페이지면 생략)
      */
     @GetMapping("/history")
     public ResponseEntity<PaymentListResponseDTO> getPaymentHistory(
             @RequestParam Long memberId,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size
     ) {
-        Pageable pageable = PageRequest.of(page, size);
-        PaymentListResponseDTO response = paymentService.getPaymentHistoryByMemberId(memberId, pageable);
+        PaymentListResponseDTO response = paymentService.getPaymentHistoryByMemberId(
+                memberId, cursor, Math.min(Math.max(size, 1), 100));
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 }
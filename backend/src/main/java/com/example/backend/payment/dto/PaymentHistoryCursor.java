@@ -0,0 +1,40 @@
+package com.example.backend.payment.dto;
+
+import com.example.backend.global.exception.BusinessException;
+import com.example.backend.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 결제 이력 커서 (마지막으로 내려준 결제의 requestedAt + id)
+ * 클라이언트에는 Base64(URL-safe) 문자열로 전달한다.
+ */
+public record PaymentHistoryCursor(
+        LocalDateTime requestedAt,
+        Long id
+) {
+
+    public static PaymentHistoryCursor from(PaymentHistoryRow row) {
+        return new PaymentHistoryCursor(row.requestedAt(), row.paymentId());
+    }
+
+    public static PaymentHistoryCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('_');
+            return new PaymentHistoryCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.valueOf(decoded.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((requestedAt + "_" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
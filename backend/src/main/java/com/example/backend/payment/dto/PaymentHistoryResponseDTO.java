@@ -1,5 +1,6 @@
 package com.example.backend.payment.dto;
 
+import com.example.backend.order.dto.OrderListRow;
 import com.example.backend.payment.entity.PaymentStatus;
 import com.example.backend.payment.entity.PgProvider;
 import lombok.AllArgsConstructor;
@@ -27,4 +28,18 @@ public class PaymentHistoryResponseDTO {
     private PgProvider pgProvider;
     private LocalDateTime requestedAt;
     private LocalDateTime approvedAt;
+
+    public static PaymentHistoryResponseDTO from(PaymentHistoryRow row) {
+        return PaymentHistoryResponseDTO.builder()
+                .paymentId(row.paymentId())
+                .paymentKey(row.paymentKey())
+                .orderCode(row.orderCode())
+                .orderName(OrderListRow.orderName(row.orderType(), row.contentTitle(), row.planType()))
+                .amount(row.amount())
+                .status(row.status())
+                .pgProvider(row.pgProvider())
+                .requestedAt(row.requestedAt())
+                .approvedAt(row.approvedAt())
+                .build();
+    }
 }
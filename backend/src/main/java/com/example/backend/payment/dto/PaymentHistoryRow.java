@@ -0,0 +1,26 @@
+package com.example.backend.payment.dto;
+
+import com.example.backend.order.entity.OrderType;
+import com.example.backend.payment.entity.PaymentStatus;
+import com.example.backend.payment.entity.PgProvider;
+import com.example.backend.subscription.entity.PlanType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 이력 조회 결과 (주문 코드, 콘텐츠 제목, 구독 플랜 타입을 한 번의 쿼리로 함께 조회)
+ */
+public record PaymentHistoryRow(
+        Long paymentId,
+        String paymentKey,
+        String orderCode,
+        OrderType orderType,
+        String contentTitle,
+        PlanType planType,
+        Long amount,
+        PaymentStatus status,
+        PgProvider pgProvider,
+        LocalDateTime requestedAt,
+        LocalDateTime approvedAt
+) {
+}
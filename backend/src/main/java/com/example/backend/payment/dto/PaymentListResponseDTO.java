@@ -8,7 +8,7 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 
 /**
- * 결제 목록 응답 DTO
+ * 결제 목록 응답 DTO (커서 기반)
  */
 @Getter
 @Builder
@@ -17,5 +17,6 @@ import java.util.List;
 public class PaymentListResponseDTO {
     
     private List<PaymentHistoryResponseDTO> payments;
-    private Long totalCount;
+    private String nextCursor;  // 다음 페이지 요청 시 전달 (마지막 페이지면 null)
+    private boolean hasNext;
 }
@@ -2,8 +2,10 @@ package com.example.backend.payment.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor // 멱등성 저장소(Redis)에 저장된 응답 역직렬화용
 @AllArgsConstructor
 public class PaymentResponseDTO {
     private String orderCode;
@@ -0,0 +1,22 @@
+package com.example.backend.payment.dto.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder(access = AccessLevel.PRIVATE)
+public class PaymentOutboxEnqueuedEvent {
+    private List<Long> outboxIds;
+
+    public static PaymentOutboxEnqueuedEvent create(Collection<Long> outboxIds) {
+        return PaymentOutboxEnqueuedEvent.builder()
+                .outboxIds(List.copyOf(outboxIds))
+                .build();
+    }
+}
@@ -7,7 +7,15 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name="payments")
+@Table(name="payments",
+        indexes = {
+                @Index(name = "idx_payment_creator_status_approved", columnList = "creator_id, status, approvedAt"),
+                @Index(name = "idx_payment_status_approved", columnList = "status, approvedAt"),
+                // 승인 결과가 확정되지 않은 결제 시도 복구용
+                @Index(name = "idx_payment_status_requested", columnList = "status, requestedAt"),
+                // 회원별 결제 이력 커서 조회용
+                @Index(name = "idx_payment_member_requested", columnList = "member_id, requestedAt, id")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
@@ -29,6 +37,17 @@ public class Payment {
 
     private Long amount;
 
+    // 결제 대상의 채널 / 크리에이터 (주문에서 복사, 정산 집계용)
+    @Column(name = "channel_id")
+    private Long channelId;
+
+    @Column(name = "creator_id")
+    private Long creatorId;
+
+    // 결제한 회원 (주문에서 복사, 결제 이력 조회용)
+    @Column(name = "member_id")
+    private Long memberId;
+
     @Enumerated(EnumType.STRING)
     private PaymentStatus status;
 
@@ -46,11 +65,32 @@ public class Payment {
                 .pgProvider(pgProvider)
                 .paymentKey(paymentKey)
                 .amount(amount)
+                .channelId(order.getChannelId())
+                .creatorId(order.getCreatorId())
+                .memberId(order.getMember() != null ? order.getMember().getId() : null)
                 .status(PaymentStatus.READY)
                 .requestedAt(LocalDateTime.now())
                 .build();
     }
 
+    /**
+     * 승인 요청 전 결제 시도 기록 (PG 승인 결과에 따라 markPaid / markFailed)
+     */
+    public static Payment pending(
+            Order order,
+            PgProvider pgProvider,
+            String paymentKey,
+            Long amount
+    ) {
+        Payment payment = create(order, pgProvider, paymentKey, amount);
+        payment.status = PaymentStatus.PENDING;
+        return payment;
+    }
+
+    public boolean isPending() {
+        return this.status == PaymentStatus.PENDING;
+    }
+
     public void markPaid() {
         this.status = PaymentStatus.PAID;
         this.approvedAt = LocalDateTime.now();
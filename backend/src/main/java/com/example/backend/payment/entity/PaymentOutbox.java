@@ -0,0 +1,93 @@
+package com.example.backend.payment.entity;
+
+import com.example.backend.global.entity.CreatedAtEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 후속 처리 아웃박스
+ * 결제 확정/취소 트랜잭션에서 함께 저장되고, PaymentOutboxRelay가 비동기로 처리한다.
+ * next_retry_at이 처리 임대 시각 역할도 하므로, 처리 중 서버가 중단되면 임대가 끝난 뒤 다시 처리된다.
+ */
+@Entity
+@Table(name = "payment_outbox",
+        uniqueConstraints = {
+                // 결제당 같은 후속 처리는 한 번만 적재
+                @UniqueConstraint(name = "uk_payment_outbox_payment_event", columnNames = {"payment_id", "event_type"})
+        },
+        indexes = {
+                @Index(name = "idx_payment_outbox_status_next_retry", columnList = "status, next_retry_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder(access = AccessLevel.PRIVATE)
+public class PaymentOutbox extends CreatedAtEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "payment_id", nullable = false)
+    private Long paymentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private PaymentOutboxEventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PaymentOutboxStatus status;
+
+    @Column(name = "retry_count", nullable = false)
+    private Integer retryCount;
+
+    /** 다음 처리 가능 시각 (재시도 예약 또는 처리 임대 만료 시각) */
+    @Column(name = "next_retry_at")
+    private LocalDateTime nextRetryAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    /**
+     * @param nextRetryAt 적재 직후 즉시 처리에 실패했을 때 스케줄러가 가져갈 시각
+     */
+    public static PaymentOutbox create(Long paymentId, PaymentOutboxEventType eventType, LocalDateTime nextRetryAt) {
+        return PaymentOutbox.builder()
+                .paymentId(paymentId)
+                .eventType(eventType)
+                .status(PaymentOutboxStatus.PENDING)
+                .retryCount(0)
+                .nextRetryAt(nextRetryAt)
+                .build();
+    }
+
+    public boolean isPending() {
+        return this.status == PaymentOutboxStatus.PENDING;
+    }
+
+    public void markProcessed() {
+        this.status = PaymentOutboxStatus.PROCESSED;
+        this.processedAt = LocalDateTime.now();
+        this.nextRetryAt = null;
+        this.lastError = null;
+    }
+
+    /**
+     * 처리 실패 기록
+     * @param nextRetryAt 다음 재시도 시각 (null이면 재시도하지 않음)
+     */
+    public void markRetry(String error, LocalDateTime nextRetryAt) {
+        this.retryCount++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.nextRetryAt = nextRetryAt;
+        if (nextRetryAt == null) {
+            this.status = PaymentOutboxStatus.FAILED;
+        }
+    }
+}
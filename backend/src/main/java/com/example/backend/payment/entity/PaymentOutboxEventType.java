@@ -0,0 +1,11 @@
+package com.example.backend.payment.entity;
+
+/**
+ * 결제 후속 처리 종류
+ */
+public enum PaymentOutboxEventType {
+    ORDER_PAID,             // 주문 PAID 처리
+    COUPON_USE,             // 쿠폰 사용 처리
+    SETTLEMENT_PAID,        // 정산 내역 반영
+    SETTLEMENT_CANCELLED    // 결제 취소에 따른 정산 조정
+}
@@ -0,0 +1,7 @@
+package com.example.backend.payment.entity;
+
+public enum PaymentOutboxStatus {
+    PENDING,
+    PROCESSED,
+    FAILED      // 최대 재시도 횟수 초과
+}
@@ -2,6 +2,7 @@ package com.example.backend.payment.entity;
 
 public enum PaymentStatus {
     READY,
+    PENDING,    // PG 승인 요청 중 (승인 결과 미확정)
     PAID,
     FAILED,
     CANCELLED
@@ -0,0 +1,114 @@
+package com.example.backend.payment.outbox;
+
+import com.example.backend.payment.dto.event.PaymentOutboxEnqueuedEvent;
+import com.example.backend.payment.service.PaymentOutboxService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 결제 후속 처리 아웃박스 실행기
+ * - 결제 트랜잭션 커밋 직후 적재된 아웃박스를 바로 처리 (응답 대기 없음)
+ * - 스케줄러가 주기적으로 처리 시각이 도래한 아웃박스(즉시 처리 실패, 재시도 예약)를 묶어서 처리
+ * 가상 스레드로 아웃박스 1건당 작업 하나를 실행하되, 동시에 진행되는 처리 수는 concurrency로 제한한다.
+ */
+@Slf4j
+@Component
+public class PaymentOutboxRelay {
+
+    private final PaymentOutboxService paymentOutboxService;
+    private final Semaphore permits;
+    private final ExecutorService executorService =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("payment-outbox-", 0).factory());
+
+    @Value("${payment.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${payment.outbox.max-batches:10}")
+    private int maxBatches;
+
+    public PaymentOutboxRelay(
+            PaymentOutboxService paymentOutboxService,
+            @Value("${payment.outbox.concurrency:8}") int concurrency
+    ) {
+        this.paymentOutboxService = paymentOutboxService;
+        this.permits = new Semaphore(Math.max(concurrency, 1));
+    }
+
+    /**
+     * 결제 트랜잭션 커밋 후 즉시 처리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnqueued(PaymentOutboxEnqueuedEvent event) {
+        event.getOutboxIds().forEach(outboxId -> executorService.submit(() -> process(outboxId)));
+    }
+
+    /**
+     * 처리 시각이 도래한 아웃박스를 batchSize건씩, 최대 maxBatches번 처리 (모든 처리가 끝날 때까지 대기)
+     * @return 처리 성공 건수
+     */
+    public int drain() {
+        int successCount = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            List<Long> outboxIds = paymentOutboxService.claimDue(batchSize);
+            if (outboxIds.isEmpty()) {
+                break;
+            }
+
+            List<Future<Boolean>> futures = new ArrayList<>(outboxIds.size());
+            outboxIds.forEach(outboxId -> futures.add(executorService.submit(() -> process(outboxId))));
+
+            for (Future<Boolean> future : futures) {
+                try {
+                    if (future.get()) {
+                        successCount++;
+                    }
+                } catch (ExecutionException e) {
+                    log.error("결제 후속 처리 중 오류 발생", e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return successCount;
+                }
+            }
+
+            if (outboxIds.size() < batchSize) {
+                break;
+            }
+        }
+        return successCount;
+    }
+
+    private boolean process(Long outboxId) throws InterruptedException {
+        permits.acquire();
+        try {
+            paymentOutboxService.handle(outboxId);
+            return true;
+        } catch (Exception e) {
+            try {
+                paymentOutboxService.recordFailure(outboxId, e);
+            } catch (Exception recordException) {
+                // 기록에 실패해도 임대 시각 이후 다시 처리됨
+                log.error("결제 후속 처리 실패 기록 중 오류 발생 - outboxId={}", outboxId, recordException);
+            }
+            return false;
+        } finally {
+            permits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.backend.payment.repository;
+
+import com.example.backend.payment.entity.PaymentOutbox;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentOutboxRepository extends JpaRepository<PaymentOutbox, Long> {
+
+    /**
+     * 처리 시각이 도래한 아웃박스 ID 조회 (다른 노드가 잠근 행은 건너뜀)
+     */
+    @Query(value = """
+        SELECT id FROM payment_outbox
+        WHERE status = 'PENDING'
+        AND next_retry_at <= :now
+        ORDER BY next_retry_at ASC
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<Long> findDueIdsForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 처리 임대 (임대 시각까지 다른 노드가 가져가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE PaymentOutbox o SET o.nextRetryAt = :leaseUntil WHERE o.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM PaymentOutbox o WHERE o.id = :id")
+    Optional<PaymentOutbox> findByIdWithLock(@Param("id") Long id);
+
+    /**
+     * 처리 완료 후 보관 기간이 지난 아웃박스 삭제
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM payment_outbox
+        WHERE status = 'PROCESSED'
+        AND processed_at < :processedBefore
+        LIMIT :limit
+        """, nativeQuery = true)
+    int deleteProcessedBefore(@Param("processedBefore") LocalDateTime processedBefore, @Param("limit") int limit);
+}
@@ -1,10 +1,13 @@
 package com.example.backend.payment.repository;
 
+import com.example.backend.payment.dto.PaymentHistoryRow;
 import com.example.backend.payment.entity.Payment;
 import com.example.backend.payment.entity.PaymentStatus;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -19,16 +22,63 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByOrderId(@Param("orderId") Long orderId);
 
     /**
-     * 사용자별 결제 이력 조회
+     * 결제 확정 시 결제 시도 잠금 조회 (요청 스레드와 복구 스케줄러의 중복 확정 방지)
      */
-    @Query("SELECT p FROM Payment p WHERE p.order.member.id = :memberId ORDER BY p.requestedAt DESC")
-    Page<Payment> findByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p JOIN FETCH p.order WHERE p.id = :paymentId")
+    Optional<Payment> findByIdWithLock(@Param("paymentId") Long paymentId);
+
+    @Query("SELECT COUNT(p) > 0 FROM Payment p WHERE p.order.id = :orderId AND p.status = :status")
+    boolean existsByOrderIdAndStatus(@Param("orderId") Long orderId, @Param("status") PaymentStatus status);
+
+    /**
+     * 승인 결과가 확정되지 않은 채 오래된 결제 시도 조회 (복구용)
+     */
+    @Query("SELECT p FROM Payment p WHERE p.status = :status AND p.requestedAt < :requestedBefore ORDER BY p.requestedAt ASC")
+    List<Payment> findStalePayments(
+            @Param("status") PaymentStatus status,
+            @Param("requestedBefore") java.time.LocalDateTime requestedBefore,
+            Pageable pageable
+    );
+
+    /**
+     * 사용자별 결제 이력 첫 페이지 (최신순)
+     * 주문 코드, 콘텐츠 제목, 구독 플랜 타입을 함께 조회 (idx_payment_member_requested 사용)
+     */
+    @Query("""
+        SELECT new com.example.backend.payment.dto.PaymentHistoryRow(
+            p.id, p.paymentKey, o.orderCode, o.orderType, c.title, sp.planType,
+            p.amount, p.status, p.pgProvider, p.requestedAt, p.approvedAt)
+        FROM Payment p
+        JOIN p.order o
+        LEFT JOIN o.content c
+        LEFT JOIN SubscriptionPlan sp ON sp.id = o.planId
+        WHERE p.memberId = :memberId
+        ORDER BY p.requestedAt DESC, p.id DESC
+        """)
+    List<PaymentHistoryRow> findHistoryByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 
     /**
-     * 사용자별 결제 이력 총 개수
+     * 사용자별 결제 이력 다음 페이지 (커서 이후)
      */
-    @Query("SELECT COUNT(p) FROM Payment p WHERE p.order.member.id = :memberId")
-    Long countByMemberId(@Param("memberId") Long memberId);
+    @Query("""
+        SELECT new com.example.backend.payment.dto.PaymentHistoryRow(
+            p.id, p.paymentKey, o.orderCode, o.orderType, c.title, sp.planType,
+            p.amount, p.status, p.pgProvider, p.requestedAt, p.approvedAt)
+        FROM Payment p
+        JOIN p.order o
+        LEFT JOIN o.content c
+        LEFT JOIN SubscriptionPlan sp ON sp.id = o.planId
+        WHERE p.memberId = :memberId
+        AND (p.requestedAt < :requestedAt OR (p.requestedAt = :requestedAt AND p.id < :paymentId))
+        ORDER BY p.requestedAt DESC, p.id DESC
+        """)
+    List<PaymentHistoryRow> findHistoryByMemberIdBefore(
+            @Param("memberId") Long memberId,
+            @Param("requestedAt") java.time.LocalDateTime requestedAt,
+            @Param("paymentId") Long paymentId,
+            Pageable pageable
+    );
 
     /**
      * 특정 기간 내 PAID 상태인 결제 내역 조회 (정산용)
@@ -51,4 +101,48 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
             @Param("endDateTime") java.time.LocalDateTime endDateTime
     );
 
+    /**
+     * 특정 기간 내 크리에이터별 PAID 결제 내역 조회 (정산용)
+     * 결제 시점에 기록된 creator_id 인덱스를 사용
+     */
+    @Query("""
+        SELECT p FROM Payment p
+        WHERE p.creatorId = :creatorId
+        AND p.status = :status
+        AND p.approvedAt >= :startDateTime
+        AND p.approvedAt <= :endDateTime
+        ORDER BY p.approvedAt ASC
+        """)
+    List<Payment> findPaidPaymentsByCreatorInPeriod(
+            @Param("creatorId") Long creatorId,
+            @Param("status") PaymentStatus status,
+            @Param("startDateTime") java.time.LocalDateTime startDateTime,
+            @Param("endDateTime") java.time.LocalDateTime endDateTime
+    );
+
+    /**
+     * creator_id / channel_id 컬럼 추가 이전 결제 데이터 보정 (주문에 기록된 값 복사)
+     */
+    @Modifying
+    @Query("""
+        UPDATE Payment p
+        SET p.channelId = (SELECT o.channelId FROM Order o WHERE o.id = p.order.id),
+            p.creatorId = (SELECT o.creatorId FROM Order o WHERE o.id = p.order.id)
+        WHERE p.creatorId IS NULL
+        AND EXISTS (SELECT o.id FROM Order o WHERE o.id = p.order.id AND o.creatorId IS NOT NULL)
+        """)
+    int backfillCreatorFromOrder();
+
+    /**
+     * member_id 컬럼 추가 이전 결제 데이터 보정 (주문한 회원 복사)
+     */
+    @Modifying
+    @Query("""
+        UPDATE Payment p
+        SET p.memberId = (SELECT o.member.id FROM Order o WHERE o.id = p.order.id)
+        WHERE p.memberId IS NULL
+        AND EXISTS (SELECT o.id FROM Order o WHERE o.id = p.order.id AND o.member IS NOT NULL)
+        """)
+    int backfillMemberFromOrder();
+
 }
@@ -0,0 +1,58 @@
+package com.example.backend.payment.scheduler;
+
+import com.example.backend.payment.outbox.PaymentOutboxRelay;
+import com.example.backend.payment.service.PaymentOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 후속 처리 아웃박스 스케줄러
+ * 커밋 직후 처리에 실패했거나 재시도가 예약된 아웃박스를 처리하고, 처리 완료된 아웃박스를 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxScheduler {
+
+    private final PaymentOutboxRelay paymentOutboxRelay;
+    private final PaymentOutboxService paymentOutboxService;
+
+    @Value("${payment.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${payment.outbox.cleanup-batch-size:1000}")
+    private int cleanupBatchSize;
+
+    /**
+     * 1초마다 처리 시각이 도래한 아웃박스 처리
+     */
+    @Scheduled(fixedDelayString = "${payment.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        try {
+            int processed = paymentOutboxRelay.drain();
+            if (processed > 0) {
+                log.info("결제 후속 처리 재처리 완료 - {}건", processed);
+            }
+        } catch (Exception e) {
+            log.error("결제 후속 처리 아웃박스 처리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 1시간마다 보관 기간이 지난 처리 완료 아웃박스 삭제
+     */
+    @Scheduled(fixedDelayString = "${payment.outbox.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        try {
+            int deleted;
+            do {
+                deleted = paymentOutboxService.deleteProcessed(retentionDays, cleanupBatchSize);
+            } while (deleted == cleanupBatchSize);
+        } catch (Exception e) {
+            log.error("결제 후속 처리 아웃박스 정리 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.backend.payment.scheduler;
+
+import com.example.backend.payment.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미확정 결제 복구 스케줄러
+ * PG 승인 요청 후 응답 유실/서버 중단으로 PENDING에 남은 결제 시도를 토스 결제 조회 결과로 확정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentRecoveryScheduler {
+
+    private final PaymentService paymentService;
+
+    /**
+     * 1분마다 오래된 PENDING 결제 복구
+     */
+    @Scheduled(fixedDelayString = "${payment.recover.interval-ms:60000}")
+    public void recoverPendingPayments() {
+        try {
+            int recovered = paymentService.recoverPendingPayments();
+            if (recovered > 0) {
+                log.info("미확정 결제 복구 완료 - {}건", recovered);
+            }
+        } catch (Exception e) {
+            log.error("미확정 결제 복구 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.backend.payment.service;
+
+import com.example.backend.order.entity.Order;
+import com.example.backend.order.entity.OrderStatus;
+import com.example.backend.order.service.OrderService;
+import com.example.backend.payment.dto.PaymentConfirmRequestDTO;
+import com.example.backend.payment.dto.PaymentResponseDTO;
+import com.example.backend.payment.entity.Payment;
+import com.example.backend.payment.entity.PaymentOutboxEventType;
+import com.example.backend.payment.entity.PaymentStatus;
+import com.example.backend.payment.entity.PgProvider;
+import com.example.backend.payment.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결제 시도 상태 관리
+ * PG 승인 요청 전후의 짧은 트랜잭션만 담당하고, PG 호출은 PaymentService가 트랜잭션 밖에서 수행한다.
+ * - reserve: 주문 검증 후 PENDING 결제 시도 기록
+ * - complete / fail: 승인 결과 확정 (이미 확정된 결제면 아무것도 하지 않음)
+ * 결제 확정 후속 처리(주문, 쿠폰, 정산)는 PaymentOutboxService로 적재한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentAttemptService {
+
+    private final OrderService orderService;
+    private final PaymentRepository paymentRepository;
+    private final PaymentOutboxService paymentOutboxService;
+
+    /**
+     * 결제 시도 기록
+     * 주문 행을 잠근 상태에서 검증하므로 같은 주문의 동시 승인 요청은 하나만 PENDING으로 기록된다.
+     * @return 결제 ID
+     */
+    @Transactional
+    public Long reserve(PaymentConfirmRequestDTO request) {
+        Order order = orderService.findByOrderCodeWithLock(request.getOrderId());
+
+        // 주문 금액 확인 (discountAmount가 있으면 사용, 없으면 originalAmount 사용)
+        Long orderAmount = order.getDiscountAmount() != null ? order.getDiscountAmount() : order.getOriginalAmount();
+
+        // 주문 금액 검증
+        if (!orderAmount.equals(request.getAmount())) {
+            throw new IllegalArgumentException("주문 금액이 일치하지 않습니다.");
+        }
+
+        // 이미 결제된 주문인지 확인 (주문 PAID 처리는 아웃박스로 반영되므로 결제 상태도 확인)
+        if (order.getStatus() == OrderStatus.PAID
+                || paymentRepository.existsByOrderIdAndStatus(order.getId(), PaymentStatus.PAID)) {
+            throw new IllegalArgumentException("이미 결제된 주문입니다.");
+        }
+
+        // 승인 결과를 기다리는 결제 시도가 있으면 중복 승인 요청 방지
+        if (paymentRepository.existsByOrderIdAndStatus(order.getId(), PaymentStatus.PENDING)) {
+            throw new IllegalArgumentException("결제 승인이 진행 중인 주문입니다.");
+        }
+
+        if (paymentRepository.findByPaymentKey(request.getPaymentKey()).isPresent()) {
+            throw new IllegalArgumentException("이미 처리된 결제 요청입니다.");
+        }
+
+        Payment payment = Payment.pending(order, PgProvider.TOSS, request.getPaymentKey(), orderAmount);
+        paymentRepository.save(payment);
+
+        log.info("결제 시도 기록: orderCode={}, paymentKey={}, paymentId={}",
+                order.getOrderCode(), payment.getPaymentKey(), payment.getId());
+        return payment.getId();
+    }
+
+    /**
+     * 결제 승인 확정
+     * 요청 스레드와 복구 스케줄러가 동시에 확정해도 결제 행 잠금으로 한 번만 반영된다.
+     */
+    @Transactional
+    public PaymentResponseDTO complete(Long paymentId) {
+        Payment payment = findWithLock(paymentId);
+        Order order = payment.getOrder();
+
+        if (payment.getStatus() == PaymentStatus.PAID) {
+            log.info("이미 확정된 결제: paymentId={}, orderCode={}", paymentId, order.getOrderCode());
+            return new PaymentResponseDTO(order.getOrderCode(), "PAID");
+        }
+        if (!payment.isPending()) {
+            throw new IllegalArgumentException("확정할 수 없는 결제 상태입니다. 현재 상태: " + payment.getStatus());
+        }
+
+        payment.markPaid();
+
+        // 주문 PAID 처리, 쿠폰 사용, 정산 반영은 커밋 후 아웃박스로 처리
+        paymentOutboxService.enqueue(payment.getId(),
+                PaymentOutboxEventType.ORDER_PAID,
+                PaymentOutboxEventType.COUPON_USE,
+                PaymentOutboxEventType.SETTLEMENT_PAID);
+
+        log.info("결제 승인 완료: orderCode={}, paymentKey={}, amount={}",
+                order.getOrderCode(), payment.getPaymentKey(), payment.getAmount());
+
+        return new PaymentResponseDTO(order.getOrderCode(), "PAID");
+    }
+
+    /**
+     * 결제 실패 확정 (PG가 승인을 거절했거나 결제가 만료/취소된 경우)
+     */
+    @Transactional
+    public void fail(Long paymentId) {
+        Payment payment = findWithLock(paymentId);
+        if (!payment.isPending()) {
+            log.info("이미 확정된 결제라 실패 처리 스킵: paymentId={}, status={}", paymentId, payment.getStatus());
+            return;
+        }
+
+        payment.markFailed();
+        log.info("결제 실패 저장 완료: paymentKey={}, orderCode={}",
+                payment.getPaymentKey(), payment.getOrder().getOrderCode());
+    }
+
+    /**
+     * PG에 전달되지 않은 결제 시도 삭제 (호출 제한으로 거절된 경우)
+     */
+    @Transactional
+    public void release(Long paymentId) {
+        Payment payment = findWithLock(paymentId);
+        if (payment.isPending()) {
+            paymentRepository.delete(payment);
+        }
+    }
+
+    private Payment findWithLock(Long paymentId) {
+        return paymentRepository.findByIdWithLock(paymentId)
+                .orElseThrow(() -> new IllegalArgumentException("결제를 찾을 수 없습니다."));
+    }
+}
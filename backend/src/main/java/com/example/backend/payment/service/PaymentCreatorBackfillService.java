@@ -0,0 +1,39 @@
+package com.example.backend.payment.service;
+
+import com.example.backend.order.repository.OrderRepository;
+import com.example.backend.payment.repository.PaymentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문/결제의 channel_id, creator_id (결제는 member_id 포함) 보정
+ * 컬럼 추가 이전에 생성된 데이터를 애플리케이션 기동 시 집합 UPDATE로 채운다.
+ * 이미 값이 있는 행은 건드리지 않으므로 여러 번 실행되어도 안전하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentCreatorBackfillService {
+
+    private final OrderRepository orderRepository;
+    private final PaymentRepository paymentRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int contentOrders = orderRepository.backfillChannelIdFromContent();
+        int subscriptionOrders = orderRepository.backfillChannelIdFromPlan();
+        int orderCreators = orderRepository.backfillCreatorIdFromChannel();
+        int payments = paymentRepository.backfillCreatorFromOrder();
+        int paymentMembers = paymentRepository.backfillMemberFromOrder();
+
+        if (contentOrders + subscriptionOrders + orderCreators + payments + paymentMembers > 0) {
+            log.info("주문/결제 크리에이터 보정 완료 - 콘텐츠 주문: {}건, 구독 주문: {}건, 주문 크리에이터: {}건, 결제: {}건, 결제 회원: {}건",
+                    contentOrders, subscriptionOrders, orderCreators, payments, paymentMembers);
+        }
+    }
+}
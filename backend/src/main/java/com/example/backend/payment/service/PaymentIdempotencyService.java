@@ -0,0 +1,158 @@
+package com.example.backend.payment.service;
+
+import com.example.backend.global.exception.BusinessException;
+import com.example.backend.global.exception.ErrorCode;
+import com.example.backend.payment.dto.PaymentResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 결제 요청 멱등성 처리 (Redis)
+ * - payment:idempotency:{작업}:{키}에 처리 중 표시(in-flight:{토큰})를 SET NX로 걸고 요청을 처리한다.
+ * - 처리가 끝나면 같은 키에 최종 응답을 resultTtl 동안 저장하고, 실패하면 처리 중 표시를 지워 재시도를 허용한다.
+ * - 같은 키의 중복 요청은 토스/DB를 건드리지 않고 먼저 온 요청의 결과를 기다렸다가 그대로 돌려받는다.
+ * 트랜잭션 밖(컨트롤러)에서 호출해야 커밋된 결과만 저장된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentIdempotencyService {
+
+    private static final String KEY_PREFIX = "payment:idempotency:";
+    private static final String IN_FLIGHT_PREFIX = "in-flight:";
+
+    // 내가 건 처리 중 표시일 때만 삭제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${payment.idempotency.lock-ttl-seconds:60}")
+    private long lockTtlSeconds;
+
+    @Value("${payment.idempotency.result-ttl-seconds:86400}")
+    private long resultTtlSeconds;
+
+    @Value("${payment.idempotency.wait-timeout-ms:15000}")
+    private long waitTimeoutMs;
+
+    @Value("${payment.idempotency.poll-interval-ms:50}")
+    private long pollIntervalMs;
+
+    /**
+     * 결제 승인 (주문 코드 + paymentKey 기준)
+     */
+    public PaymentResponseDTO confirm(String orderCode, String paymentKey, Supplier<PaymentResponseDTO> action) {
+        return execute("confirm:" + orderCode + ":" + paymentKey, action);
+    }
+
+    /**
+     * 결제 취소 (paymentKey 기준)
+     */
+    public PaymentResponseDTO cancel(String paymentKey, Supplier<PaymentResponseDTO> action) {
+        return execute("cancel:" + paymentKey, action);
+    }
+
+    private PaymentResponseDTO execute(String idempotencyKey, Supplier<PaymentResponseDTO> action) {
+        String key = KEY_PREFIX + idempotencyKey;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+
+        while (true) {
+            String token = IN_FLIGHT_PREFIX + UUID.randomUUID();
+            boolean acquired;
+            String current = null;
+            try {
+                acquired = Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                        .setIfAbsent(key, token, Duration.ofSeconds(lockTtlSeconds)));
+                if (!acquired) {
+                    current = stringRedisTemplate.opsForValue().get(key);
+                }
+            } catch (DataAccessException e) {
+                // Redis 장애 시 멱등성 없이 처리 (주문 행 잠금으로 중복 승인은 막힘)
+                log.warn("결제 멱등성 저장소 사용 불가, 바로 처리 - key={}, error={}", idempotencyKey, e.getMessage());
+                return action.get();
+            }
+
+            if (acquired) {
+                return runAndStore(key, token, action);
+            }
+
+            // 먼저 온 요청이 완료됨
+            if (current != null && !current.startsWith(IN_FLIGHT_PREFIX)) {
+                log.info("중복 결제 요청, 저장된 응답 반환 - key={}", idempotencyKey);
+                return readResponse(current);
+            }
+
+            // 먼저 온 요청이 처리 중이면 대기 (처리 중 표시가 사라졌으면 먼저 온 요청이 실패한 것이므로 바로 다시 선점 시도)
+            if (current != null) {
+                if (System.nanoTime() > deadline) {
+                    throw new BusinessException(ErrorCode.PAYMENT_REQUEST_IN_PROGRESS);
+                }
+                sleep();
+            }
+        }
+    }
+
+    private PaymentResponseDTO runAndStore(String key, String token, Supplier<PaymentResponseDTO> action) {
+        PaymentResponseDTO response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            release(key, token);
+            throw e;
+        }
+
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(response),
+                    Duration.ofSeconds(resultTtlSeconds));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("결제 응답 저장 실패 - key={}, error={}", key, e.getMessage());
+            release(key, token);
+        }
+        return response;
+    }
+
+    private void release(String key, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        } catch (DataAccessException e) {
+            // 처리 중 표시는 lockTtl 후 만료됨
+            log.warn("결제 처리 중 표시 해제 실패 - key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private PaymentResponseDTO readResponse(String value) {
+        try {
+            return objectMapper.readValue(value, PaymentResponseDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 결제 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollIntervalMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.PAYMENT_REQUEST_IN_PROGRESS);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.backend.payment.service;
+
+import com.example.backend.coupon.service.CouponUseService;
+import com.example.backend.order.entity.Order;
+import com.example.backend.order.entity.OrderStatus;
+import com.example.backend.order.service.OrderService;
+import com.example.backend.payment.dto.event.PaymentOutboxEnqueuedEvent;
+import com.example.backend.payment.entity.Payment;
+import com.example.backend.payment.entity.PaymentOutbox;
+import com.example.backend.payment.entity.PaymentOutboxEventType;
+import com.example.backend.payment.entity.PaymentStatus;
+import com.example.backend.payment.repository.PaymentOutboxRepository;
+import com.example.backend.payment.repository.PaymentRepository;
+import com.example.backend.settlement.service.SettlementService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 결제 후속 처리 아웃박스
+ * - enqueue: 결제 확정/취소 트랜잭션 안에서 후속 처리를 저장하고, 커밋 후 PaymentOutboxRelay가 바로 처리
+ * - handle: 아웃박스 1건 처리 (후속 처리와 처리 완료 표시가 같은 트랜잭션)
+ * 같은 아웃박스가 두 번 처리될 수 있으므로(at-least-once) 모든 후속 처리는 다시 실행해도 결과가 같아야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentOutboxService {
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final PaymentRepository paymentRepository;
+    private final OrderService orderService;
+    private final CouponUseService couponUseService;
+    private final SettlementService settlementService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${payment.outbox.lease-seconds:30}")
+    private int leaseSeconds;
+
+    @Value("${payment.outbox.max-retry-count:10}")
+    private int maxRetryCount;
+
+    @Value("${payment.outbox.retry-delay-seconds:5}")
+    private int retryDelaySeconds;
+
+    @Value("${payment.outbox.max-retry-delay-seconds:600}")
+    private int maxRetryDelaySeconds;
+
+    /**
+     * 후속 처리 적재 (호출한 트랜잭션과 함께 커밋)
+     * 즉시 처리에 실패하면 임대 시각(leaseSeconds) 이후 스케줄러가 다시 처리한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Long paymentId, PaymentOutboxEventType... eventTypes) {
+        LocalDateTime nextRetryAt = LocalDateTime.now().plusSeconds(leaseSeconds);
+        List<PaymentOutbox> outboxes = paymentOutboxRepository.saveAll(Arrays.stream(eventTypes)
+                .map(eventType -> PaymentOutbox.create(paymentId, eventType, nextRetryAt))
+                .toList());
+
+        applicationEventPublisher.publishEvent(PaymentOutboxEnqueuedEvent.create(
+                outboxes.stream().map(PaymentOutbox::getId).toList()));
+    }
+
+    /**
+     * 처리 시각이 도래한 아웃박스를 가져오고 임대 시각까지 다른 노드가 가져가지 않도록 예약
+     */
+    @Transactional
+    public List<Long> claimDue(int limit) {
+        List<Long> ids = paymentOutboxRepository.findDueIdsForUpdate(LocalDateTime.now(), limit);
+        if (!ids.isEmpty()) {
+            paymentOutboxRepository.lease(ids, LocalDateTime.now().plusSeconds(leaseSeconds));
+        }
+        return ids;
+    }
+
+    /**
+     * 아웃박스 1건 처리
+     * 결제 행을 잠가 같은 결제의 후속 처리(확정/취소)를 순서대로 실행한다.
+     * 결제가 이미 취소됐으면 결제 완료 후속 처리는 건너뛴다.
+     */
+    @Transactional
+    public void handle(Long outboxId) {
+        PaymentOutbox outbox = paymentOutboxRepository.findByIdWithLock(outboxId).orElse(null);
+        if (outbox == null || !outbox.isPending()) {
+            return;
+        }
+
+        Payment payment = paymentRepository.findByIdWithLock(outbox.getPaymentId())
+                .orElseThrow(() -> new IllegalArgumentException("결제를 찾을 수 없습니다."));
+        Order order = payment.getOrder();
+
+        switch (outbox.getEventType()) {
+            case ORDER_PAID -> {
+                if (payment.getStatus() == PaymentStatus.PAID && order.getStatus() != OrderStatus.PAID) {
+                    orderService.markOrderAsPaid(order.getOrderCode());
+                }
+            }
+            case COUPON_USE -> {
+                if (payment.getStatus() == PaymentStatus.PAID) {
+                    couponUseService.useCoupon(order, payment);
+                }
+            }
+            case SETTLEMENT_PAID -> {
+                if (payment.getStatus() == PaymentStatus.PAID) {
+                    settlementService.processSettlementForPayment(payment);
+                }
+            }
+            case SETTLEMENT_CANCELLED -> settlementService.handleCancelledPayment(payment);
+        }
+
+        outbox.markProcessed();
+        log.debug("결제 후속 처리 완료 - outboxId={}, paymentId={}, eventType={}",
+                outboxId, payment.getId(), outbox.getEventType());
+    }
+
+    /**
+     * 처리 실패 기록 (지수 백오프로 재시도 예약, 최대 재시도 횟수 초과 시 FAILED)
+     */
+    @Transactional
+    public void recordFailure(Long outboxId, Exception cause) {
+        paymentOutboxRepository.findById(outboxId).ifPresent(outbox -> {
+            boolean exhausted = outbox.getRetryCount() + 1 >= maxRetryCount;
+            outbox.markRetry(cause.getMessage(), exhausted ? null : nextRetryAt(outbox.getRetryCount() + 1));
+
+            if (exhausted) {
+                log.error("결제 후속 처리 최대 재시도 횟수 초과 - outboxId={}, paymentId={}, eventType={}",
+                        outboxId, outbox.getPaymentId(), outbox.getEventType(), cause);
+            } else {
+                log.warn("결제 후속 처리 실패, 재시도 예약 - outboxId={}, paymentId={}, eventType={}, retryCount={}, error={}",
+                        outboxId, outbox.getPaymentId(), outbox.getEventType(), outbox.getRetryCount(), cause.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 처리 완료 후 retentionDays가 지난 아웃박스 삭제
+     */
+    @Transactional
+    public int deleteProcessed(int retentionDays, int limit) {
+        return paymentOutboxRepository.deleteProcessedBefore(LocalDateTime.now().minusDays(retentionDays), limit);
+    }
+
+    // 재시도 간격: retryDelaySeconds × 2^(retryCount - 1), 최대 maxRetryDelaySeconds
+    private LocalDateTime nextRetryAt(int retryCount) {
+        long delaySeconds = (long) retryDelaySeconds << Math.min(Math.max(retryCount - 1, 0), 16);
+        return LocalDateTime.now().plusSeconds(Math.min(delaySeconds, maxRetryDelaySeconds));
+    }
+}
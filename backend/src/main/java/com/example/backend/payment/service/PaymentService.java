@@ -1,26 +1,25 @@
 package com.example.backend.payment.service;
 
-import com.example.backend.coupon.service.CouponUseService;
+import com.example.backend.global.exception.BusinessException;
 import com.example.backend.order.entity.Order;
-import com.example.backend.order.entity.OrderStatus;
-import com.example.backend.order.service.OrderService;
 import com.example.backend.payment.client.TossPaymentClient;
 import com.example.backend.payment.dto.*;
 import com.example.backend.payment.entity.Payment;
+import com.example.backend.payment.entity.PaymentOutboxEventType;
 import com.example.backend.payment.entity.PaymentStatus;
-import com.example.backend.payment.entity.PgProvider;
 import com.example.backend.payment.repository.PaymentRepository;
-import com.example.backend.settlement.service.SettlementService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.HttpClientErrorException;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 결제 서비스
@@ -36,31 +35,27 @@ import java.util.stream.Collectors;
 public class PaymentService {
 
     private final TossPaymentClient tossPaymentClient;
-    private final OrderService orderService;
+    private final PaymentAttemptService paymentAttemptService;
     private final PaymentRepository paymentRepository;
-    private final SettlementService settlementService;
-    private final CouponUseService couponUseService;
+    private final PaymentOutboxService paymentOutboxService;
+
+    @Value("${payment.recover.after-seconds:120}")
+    private long recoverAfterSeconds;
+
+    @Value("${payment.recover.batch-size:100}")
+    private int recoverBatchSize;
 
     /**
      * 결제 승인 처리
      * 토스 페이먼츠 v2 결제 승인 API를 호출하여 결제를 완료
+     * 1. 짧은 트랜잭션으로 주문 검증 후 PENDING 결제 시도 기록
+     * 2. 트랜잭션 없이 PG 승인 요청 (PG 지연 동안 DB 커넥션을 점유하지 않음)
+     * 3. 짧은 트랜잭션으로 결제 확정
+     * 2 → 3 사이에 중단된 결제 시도는 recoverPendingPayments가 토스 결제 조회로 확정한다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PaymentResponseDTO confirmPayment(PaymentConfirmRequestDTO request) {
-        // 주문 조회
-        Order order = orderService.findByOrderCode(request.getOrderId());
-
-        // 주문 금액 확인 (discountAmount가 있으면 사용, 없으면 originalAmount 사용)
-        Long orderAmount = order.getDiscountAmount() != null ? order.getDiscountAmount() : order.getOriginalAmount();
-
-        // 주문 금액 검증
-        if (!orderAmount.equals(request.getAmount())) {
-            throw new IllegalArgumentException("주문 금액이 일치하지 않습니다.");
-        }
-
-        // 이미 결제된 주문인지 확인
-        if (order.getStatus() == OrderStatus.PAID) {
-            throw new IllegalArgumentException("이미 결제된 주문입니다.");
-        }
+        Long paymentId = paymentAttemptService.reserve(request);
 
         // 토스 페이먼츠 결제 승인 요청
         TossPaymentConfirmRequestDTO tossRequest = new TossPaymentConfirmRequestDTO();
@@ -71,64 +66,108 @@ public class PaymentService {
         TossPaymentConfirmResponseDTO tossResponse;
         try {
             tossResponse = tossPaymentClient.confirmPayment(tossRequest);
-        } catch (Exception e) {
-            // FAILED 처리: 결제 승인 중 예외가 발생하면 즉시 FAILED로 저장
-            saveFailedPaymentIfNotExists(order, request.getPaymentKey(), request.getAmount());
-            throw (e instanceof RuntimeException) ? (RuntimeException) e : new RuntimeException("결제 승인 요청에 실패했습니다.", e);
+        } catch (BusinessException e) {
+            // 토스 호출 제한으로 요청이 전달되지 않음 → 같은 paymentKey로 다시 시도할 수 있도록 결제 시도 삭제
+            paymentAttemptService.release(paymentId);
+            throw e;
+        } catch (RuntimeException e) {
+            if (isRejectedByPg(e)) {
+                // FAILED 처리: PG가 승인을 거절한 경우에만 즉시 FAILED로 저장
+                paymentAttemptService.fail(paymentId);
+            } else {
+                // 타임아웃 등으로 승인 여부를 알 수 없으면 PENDING 유지 (복구 시 토스 결제 조회로 확정)
+                log.warn("결제 승인 결과 미확정: orderCode={}, paymentKey={}, error={}",
+                        request.getOrderId(), request.getPaymentKey(), e.getMessage());
+            }
+            throw e;
         }
 
         // 결제 상태 확인
         if (!"DONE".equals(tossResponse.getStatus())) {
-            // 결제 실패 처리 (order의 discountAmount 사용, 없으면 originalAmount 사용)
-            Long paymentAmount = order.getDiscountAmount() != null ? order.getDiscountAmount() : order.getOriginalAmount();
-            Payment payment = Payment.create(
-                    order,
-                    PgProvider.TOSS,
-                    tossResponse.getPaymentKey(),
-                    paymentAmount
-            );
-            payment.markFailed();
-            paymentRepository.save(payment);
-
+            paymentAttemptService.fail(paymentId);
             throw new RuntimeException("결제 승인에 실패했습니다. 상태: " + tossResponse.getStatus());
         }
 
-        // 결제 정보 저장 (order의 discountAmount 사용, 없으면 originalAmount 사용)
-        Long paymentAmount = order.getDiscountAmount() != null ? order.getDiscountAmount() : order.getOriginalAmount();
-        Payment payment = Payment.create(
-                order,
-                PgProvider.TOSS,
-                tossResponse.getPaymentKey(),
-                paymentAmount
-        );
-        payment.markPaid();
-        paymentRepository.save(payment);
+        return paymentAttemptService.complete(paymentId);
+    }
 
-        // 주문 상태를 PAID로 변경
-        orderService.markOrderAsPaid(order.getOrderCode());
+    /**
+     * 미확정 결제 시도 복구
+     * 승인 요청 후 일정 시간이 지나도 PENDING인 결제를 토스 결제 조회 결과로 확정한다.
+     * complete / fail은 이미 확정된 결제를 건너뛰므로 여러 번 실행되어도 결과가 같다.
+     * @return 확정한 결제 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int recoverPendingPayments() {
+        LocalDateTime requestedBefore = LocalDateTime.now().minusSeconds(recoverAfterSeconds);
+        List<Payment> stalePayments = paymentRepository.findStalePayments(
+                PaymentStatus.PENDING, requestedBefore, PageRequest.of(0, recoverBatchSize));
+
+        int recovered = 0;
+        for (Payment payment : stalePayments) {
+            try {
+                if (recoverPendingPayment(payment)) {
+                    recovered++;
+                }
+            } catch (Exception e) {
+                log.error("미확정 결제 복구 중 오류 발생 - paymentId: {}, error: {}", payment.getId(), e.getMessage(), e);
+            }
+        }
+        return recovered;
+    }
 
-        // 쿠폰 사용 처리
+    private boolean recoverPendingPayment(Payment payment) {
+        TossPaymentConfirmResponseDTO tossPayment;
         try {
-            couponUseService.useCoupon(order, payment);
-        } catch (Exception e) {
-            // 쿠폰 사용 처리 실패해도 결제는 성공 처리 (로깅만 하고 예외는 전파하지 않음)
-            log.error("결제 완료 후 쿠폰 사용 처리 중 오류 발생 - orderCode={}, paymentId={}, error: {}", 
-                    order.getOrderCode(), payment.getId(), e.getMessage(), e);
+            tossPayment = tossPaymentClient.getPayment(payment.getPaymentKey());
+        } catch (RuntimeException e) {
+            if (!isNotFoundOnPg(e)) {
+                // 인증 오류, 요청 제한, 타임아웃 등은 토스 측 결제 상태를 알 수 없으므로 PENDING 유지 (다음 복구 때 재조회)
+                log.warn("미확정 결제 조회 실패, 다음 복구 때 재시도: paymentId={}, error={}", payment.getId(), e.getMessage());
+                return false;
+            }
+            // 토스에 존재하지 않는 결제 (승인 요청 전에 중단됨)
+            paymentAttemptService.fail(payment.getId());
+            return true;
         }
 
-        // 정산 내역 생성 또는 업데이트
-        try {
-            settlementService.processSettlementForPayment(payment);
-        } catch (Exception e) {
-            // 정산 처리 실패해도 결제는 성공 처리 (로깅만 하고 예외는 전파하지 않음)
-            log.error("결제 완료 후 정산 처리 중 오류 발생 - paymentId: {}, error: {}", 
-                    payment.getId(), e.getMessage(), e);
+        switch (tossPayment.getStatus()) {
+            case "DONE" -> paymentAttemptService.complete(payment.getId());
+            case "ABORTED", "EXPIRED", "CANCELED" -> paymentAttemptService.fail(payment.getId());
+            default -> {
+                // READY, IN_PROGRESS 등: 아직 토스에서도 결과가 확정되지 않음
+                return false;
+            }
         }
 
-        log.info("결제 승인 완료: orderCode={}, paymentKey={}, amount={}",
-                order.getOrderCode(), payment.getPaymentKey(), payment.getAmount());
+        log.info("미확정 결제 복구: paymentId={}, paymentKey={}, tossStatus={}",
+                payment.getId(), payment.getPaymentKey(), tossPayment.getStatus());
+        return true;
+    }
 
-        return new PaymentResponseDTO(order.getOrderCode(), "PAID");
+    /**
+     * PG가 승인을 거절했는지 여부 (카드 거절 등 업무 오류 4xx 응답)
+     * 타임아웃/연결 오류/5xx는 PG 측 처리 여부를 알 수 없으므로 false
+     * 인증 오류(401, 403), 요청 제한(429), 이미 처리된 결제(ALREADY_PROCESSED_PAYMENT)도 승인 여부를 알 수 없으므로 false
+     */
+    private boolean isRejectedByPg(RuntimeException e) {
+        if (!(e.getCause() instanceof HttpClientErrorException clientError)) {
+            return false;
+        }
+        int status = clientError.getStatusCode().value();
+        if (status == 401 || status == 403 || status == 429) {
+            return false;
+        }
+        return !clientError.getResponseBodyAsString().contains("ALREADY_PROCESSED_PAYMENT");
+    }
+
+    /**
+     * 토스에 존재하지 않는 결제인지 여부 (404 NOT_FOUND_PAYMENT)
+     */
+    private boolean isNotFoundOnPg(RuntimeException e) {
+        return e.getCause() instanceof HttpClientErrorException clientError
+                && (clientError.getStatusCode().value() == 404
+                || clientError.getResponseBodyAsString().contains("NOT_FOUND_PAYMENT"));
     }
 
     /**
@@ -166,14 +205,8 @@ public class PaymentService {
         Order order = payment.getOrder();
         // Order 엔티티에 취소 상태가 있다면 추가 필요
 
-        // 정산 취소 처리
-        try {
-            settlementService.handleCancelledPayment(payment);
-        } catch (Exception e) {
-            // 정산 취소 처리 실패해도 결제 취소는 성공 처리 (로깅만 하고 예외는 전파하지 않음)
-            log.error("결제 취소 후 정산 취소 처리 중 오류 발생 - paymentId: {}, error: {}",
-                    payment.getId(), e.getMessage(), e);
-        }
+        // 정산 취소 처리는 커밋 후 아웃박스로 처리
+        paymentOutboxService.enqueue(payment.getId(), PaymentOutboxEventType.SETTLEMENT_CANCELLED);
 
         log.info("결제 취소 완료: paymentKey={}, orderCode={}",
                 payment.getPaymentKey(), order.getOrderCode());
@@ -182,41 +215,30 @@ public class PaymentService {
     }
 
     /**
-     * 결제 승인 과정에서 예외 발생 시 FAILED로 저장 (paymentKey 중복 저장 방지)
+     * 사용자 결제 이력 조회 (커서 기반, 최신순)
+     * 주문/콘텐츠/구독 플랜을 한 번의 쿼리로 함께 조회하고, size + 1건을 조회해 다음 페이지 여부를 판단한다 (COUNT 없음).
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
      */
-    private void saveFailedPaymentIfNotExists(Order order, String paymentKey, Long amount) {
-        if (paymentKey == null || paymentKey.isBlank()) {
-            log.warn("결제 실패 저장 스킵: paymentKey가 비어있습니다. orderCode={}", order.getOrderCode());
-            return;
+    @Transactional(readOnly = true)
+    public PaymentListResponseDTO getPaymentHistoryByMemberId(Long memberId, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<PaymentHistoryRow> rows;
+        if (cursor != null && !cursor.isBlank()) {
+            PaymentHistoryCursor after = PaymentHistoryCursor.decode(cursor);
+            rows = paymentRepository.findHistoryByMemberIdBefore(memberId, after.requestedAt(), after.id(), limit);
+        } else {
+            rows = paymentRepository.findHistoryByMemberId(memberId, limit);
         }
 
-        if (paymentRepository.findByPaymentKey(paymentKey).isPresent()) {
-            log.warn("결제 실패 저장 스킵: 이미 동일 paymentKey로 결제가 존재합니다. paymentKey={}, orderCode={}", paymentKey, order.getOrderCode());
-            return;
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
         }
 
-        // order의 discountAmount 사용, 없으면 originalAmount 사용
-        Long paymentAmount = order.getDiscountAmount() != null ? order.getDiscountAmount() : order.getOriginalAmount();
-        Payment failedPayment = Payment.create(order, PgProvider.TOSS, paymentKey, paymentAmount);
-        failedPayment.markFailed();
-        paymentRepository.save(failedPayment);
-        log.info("결제 실패 저장 완료: paymentKey={}, orderCode={}", paymentKey, order.getOrderCode());
-    }
-
-    /**
-     * 사용자 결제 이력 조회
-     */
-    public PaymentListResponseDTO getPaymentHistoryByMemberId(Long memberId, Pageable pageable) {
-        Page<Payment> paymentPage = paymentRepository.findByMemberId(memberId, pageable);
-        Long totalCount = paymentRepository.countByMemberId(memberId);
-
-        List<PaymentHistoryResponseDTO> paymentHistories = paymentPage.getContent().stream()
-                .map(this::convertToHistoryDTO)
-                .collect(Collectors.toList());
-
         return PaymentListResponseDTO.builder()
-                .payments(paymentHistories)
-                .totalCount(totalCount)
+                .payments(rows.stream().map(PaymentHistoryResponseDTO::from).toList())
+                .nextCursor(hasNext ? PaymentHistoryCursor.from(rows.get(rows.size() - 1)).encode() : null)
+                .hasNext(hasNext)
                 .build();
     }
 
@@ -236,38 +258,6 @@ public class PaymentService {
         return paymentRepository.findPaidPaymentsInPeriod(status, startDateTime, endDateTime);
     }
 
-    /**
-     * Payment 엔티티를 PaymentHistoryResponseDTO로 변환
-     */
-    private PaymentHistoryResponseDTO convertToHistoryDTO(Payment payment) {
-        Order order = payment.getOrder();
-        String orderName = "";
-        
-        if (order.getOrderType() == com.example.backend.order.entity.OrderType.CONTENT && order.getContent() != null) {
-            orderName = order.getContent().getTitle();
-        } else if (order.getOrderType() == com.example.backend.order.entity.OrderType.SUBSCRIPTION) {
-            // Subscription의 경우 planId를 통해 구독 정보를 가져올 수 있지만,
-            // 간단하게 "구독"으로 표시
-            if (order.getSubscription() != null) {
-                orderName = "구독";
-            } else {
-                orderName = "구독";
-            }
-        }
-
-        return PaymentHistoryResponseDTO.builder()
-                .paymentId(payment.getId())
-                .paymentKey(payment.getPaymentKey())
-                .orderCode(order.getOrderCode())
-                .orderName(orderName)
-                .amount(payment.getAmount())
-                .status(payment.getStatus())
-                .pgProvider(payment.getPgProvider())
-                .requestedAt(payment.getRequestedAt())
-                .approvedAt(payment.getApprovedAt())
-                .build();
-    }
-
     /**
      * 주문 ID로 결제 취소
      * @param orderId 주문 ID
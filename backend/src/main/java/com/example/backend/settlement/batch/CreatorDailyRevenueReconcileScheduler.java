@@ -0,0 +1,34 @@
+package com.example.backend.settlement.batch;
+
+import com.example.backend.settlement.service.SettlementService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CreatorDailyRevenueReconcileScheduler {
+
+    private final SettlementService settlementService;
+
+
+    // 크리에이터 일별 매출 집계 보정 스케줄러
+    // 매일 00:10:00에 전일이 속한 달의 1일 ~ 전일 집계를 결제 내역 기준으로 다시 계산
+    // (결제/취소 시 증감 누락분 보정 및 최초 배포 시 집계 생성)
+    // cron 표현식: 초 분 시 일 월 요일
+
+    @Scheduled(cron = "0 10 0 * * ?")
+    public void reconcileDailyRevenue() {
+        try {
+            LocalDate yesterday = LocalDate.now().minusDays(1);
+            log.info("크리에이터 일별 매출 집계 보정 시작 - {} ~ {}", yesterday.withDayOfMonth(1), yesterday);
+            settlementService.rebuildDailyRevenue(yesterday.withDayOfMonth(1), yesterday);
+        } catch (Exception e) {
+            log.error("크리에이터 일별 매출 집계 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.backend.settlement.batch;
+
+import com.example.backend.creator.entity.Creator;
+import com.example.backend.payment.entity.Payment;
+import com.example.backend.settlement.entity.Settlement;
+
+import java.util.List;
+
+/**
+ * 정산 배치 chunk 아이템 (크리에이터 1명의 주간 정산)
+ * @param settlement 신규 생성할 정산 또는 지급 대기(READY) 중인 기존 정산
+ * @param creator 크리에이터
+ * @param payments 신규 정산에 포함될 결제 내역 (기존 정산이면 비어 있음)
+ */
+public record CreatorSettlement(
+        Settlement settlement,
+        Creator creator,
+        List<Payment> payments
+) {
+
+    public static CreatorSettlement create(Settlement settlement, Creator creator, List<Payment> payments) {
+        return new CreatorSettlement(settlement, creator, payments);
+    }
+
+    public static CreatorSettlement payoutOnly(Settlement settlement, Creator creator) {
+        return new CreatorSettlement(settlement, creator, List.of());
+    }
+
+    public boolean isNew() {
+        return settlement.getId() == null;
+    }
+}
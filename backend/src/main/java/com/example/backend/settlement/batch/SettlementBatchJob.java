@@ -1,16 +1,32 @@
 package com.example.backend.settlement.batch;
 
+import com.example.backend.payment.entity.PaymentStatus;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JpaPagingItemReader;
+import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 주간 정산 배치
+ * - settlementStep: 크리에이터 ID 범위로 파티션을 나누어 워커 스텝을 병렬 실행
+ * - settlementWorkerStep: 크리에이터 단위 chunk 처리 (reader → processor → writer), chunk마다 커밋
+ * 정산 기간(periodStart)이 Job 식별 파라미터이므로 같은 기간으로 재실행하면 마지막 커밋 지점부터 재시작된다.
+ */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
@@ -18,7 +34,16 @@ public class SettlementBatchJob {
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
-    private final SettlementBatchTasklet settlementBatchTasklet;
+    private final EntityManagerFactory entityManagerFactory;
+    private final SettlementCreatorPartitioner settlementCreatorPartitioner;
+    private final SettlementItemProcessor settlementItemProcessor;
+    private final SettlementItemWriter settlementItemWriter;
+
+    @Value("${settlement.batch.grid-size:4}")
+    private int gridSize;
+
+    @Value("${settlement.batch.chunk-size:50}")
+    private int chunkSize;
 
     @Bean
     public Job settlementJob() {
@@ -29,9 +54,59 @@ public class SettlementBatchJob {
 
     @Bean
     public Step settlementStep() {
+        // 파티션 수만큼만 동시에 실행 (스레드 풀 역할)
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("settlement-");
+        taskExecutor.setConcurrencyLimit(gridSize);
+
         return new StepBuilder("settlementStep", jobRepository)
-                .tasklet(settlementBatchTasklet, transactionManager)
+                .partitioner("settlementWorkerStep", settlementCreatorPartitioner)
+                .step(settlementWorkerStep())
+                .gridSize(gridSize)
+                .taskExecutor(taskExecutor)
                 .build();
     }
-}
 
+    @Bean
+    public Step settlementWorkerStep() {
+        return new StepBuilder("settlementWorkerStep", jobRepository)
+                .<Long, CreatorSettlement>chunk(chunkSize, transactionManager)
+                .reader(settlementCreatorReader(null, null, null))
+                .processor(settlementItemProcessor)
+                .writer(settlementItemWriter)
+                .build();
+    }
+
+    /**
+     * 파티션에 할당된 크리에이터 ID 범위 중 정산 기간에 PAID 결제가 있는 크리에이터를 읽는다.
+     * payments.creator_id 기준 GROUP BY 한 번으로 대상을 구하며, 읽은 건수가 StepExecution에 저장되어 재시작 시 이어서 읽는다.
+     */
+    @Bean
+    @StepScope
+    public JpaPagingItemReader<Long> settlementCreatorReader(
+            @Value("#{stepExecutionContext['" + SettlementCreatorPartitioner.MIN_CREATOR_ID + "']}") Long minCreatorId,
+            @Value("#{stepExecutionContext['" + SettlementCreatorPartitioner.MAX_CREATOR_ID + "']}") Long maxCreatorId,
+            @Value("#{jobParameters['" + SettlementJobParameters.PERIOD_START + "']}") LocalDate periodStart
+    ) {
+        return new JpaPagingItemReaderBuilder<Long>()
+                .name("settlementCreatorReader")
+                .entityManagerFactory(entityManagerFactory)
+                .queryString("""
+                    SELECT p.creatorId FROM Payment p
+                    WHERE p.creatorId BETWEEN :minCreatorId AND :maxCreatorId
+                    AND p.status = :status
+                    AND p.approvedAt >= :startDateTime
+                    AND p.approvedAt <= :endDateTime
+                    GROUP BY p.creatorId
+                    ORDER BY p.creatorId ASC
+                """)
+                .parameterValues(Map.of(
+                        "minCreatorId", minCreatorId,
+                        "maxCreatorId", maxCreatorId,
+                        "status", PaymentStatus.PAID,
+                        "startDateTime", periodStart.atStartOfDay(),
+                        "endDateTime", periodStart.plusDays(6).atTime(23, 59, 59, 999999999)
+                ))
+                .pageSize(chunkSize)
+                .build();
+    }
+}
@@ -4,7 +4,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -36,10 +35,8 @@ public class SettlementBatchScheduler {
         try {
             log.info("정산 배치 스케줄러: 전주 정산 처리 시작");
 
-            // Job 실행에 필요한 파라미터 생성 (중복 실행 방지)
-            JobParameters jobParameters = new JobParametersBuilder()
-                    .addLong("timestamp", System.currentTimeMillis())
-                    .toJobParameters();
+            // 전주 월요일을 식별 파라미터로 사용 (같은 주차 재실행 시 실패 지점부터 재시작)
+            JobParameters jobParameters = SettlementJobParameters.forLastWeek();
 
             jobLauncher.run(settlementJob, jobParameters);
 
@@ -1,267 +0,0 @@
-package com.example.backend.settlement.batch;
-
-import com.example.backend.channel.entity.Channel;
-import com.example.backend.channel.repository.ChannelRepository;
-import com.example.backend.creator.entity.Creator;
-import com.example.backend.creator.repository.CreatorRepository;
-import com.example.backend.order.entity.OrderType;
-import com.example.backend.payment.entity.Payment;
-import com.example.backend.payment.entity.PaymentStatus;
-import com.example.backend.payment.repository.PaymentRepository;
-import com.example.backend.subscription.entity.SubscriptionPlan;
-import com.example.backend.subscription.repository.SubscriptionPlanRepository;
-import com.example.backend.settlement.entity.Settlement;
-import com.example.backend.settlement.entity.SettlementDetail;
-import com.example.backend.settlement.entity.SettlementStatus;
-import com.example.backend.settlement.repository.SettlementDetailRepository;
-import com.example.backend.settlement.repository.SettlementRepository;
-import com.example.backend.settlement.service.SettlementPayoutService;
-import jakarta.persistence.EntityManager;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.StepContribution;
-import org.springframework.batch.core.scope.context.ChunkContext;
-import org.springframework.batch.core.step.tasklet.Tasklet;
-import org.springframework.batch.repeat.RepeatStatus;
-import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.time.DayOfWeek;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
-
-@Slf4j
-@Component
-@RequiredArgsConstructor
-public class SettlementBatchTasklet implements Tasklet {
-
-    private final PaymentRepository paymentRepository;
-    private final CreatorRepository creatorRepository;
-    private final ChannelRepository channelRepository;
-    private final SettlementRepository settlementRepository;
-    private final SettlementDetailRepository settlementDetailRepository;
-    private final EntityManager entityManager;
-    private final SettlementPayoutService settlementPayoutService;
-    private final SubscriptionPlanRepository subscriptionPlanRepository;
-
-    @Override
-    @Transactional
-    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
-        log.info("정산 배치 시작");
-
-        // 전주 월요일 00:00:00 ~ 일요일 23:59:59 계산
-        LocalDate today = LocalDate.now();
-        
-        // 오늘 기준으로 전주 월요일 찾기
-        // 오늘이 월요일이면 지난주 월요일, 그 외에는 이번 주 월요일에서 7일 빼기
-        LocalDate lastWeekMonday;
-        DayOfWeek todayDayOfWeek = today.getDayOfWeek();
-        int daysToSubtract = todayDayOfWeek.getValue() == 1 ? 7 : todayDayOfWeek.getValue() - 1 + 7;
-        lastWeekMonday = today.minusDays(daysToSubtract);
-        
-        // 전주 일요일 (월요일 + 6일)
-        LocalDate lastWeekSunday = lastWeekMonday.plusDays(6);
-        
-        LocalDateTime startDateTime = lastWeekMonday.atStartOfDay();
-        LocalDateTime endDateTime = lastWeekSunday.atTime(23, 59, 59, 999999999);
-        
-        // 정산 기간 형식: "2024-01-01~2024-01-07"
-        String settlementPeriod = lastWeekMonday.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + 
-                                  "~" + 
-                                  lastWeekSunday.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        
-        log.info("정산 기간: {} ~ {} ({}주)", startDateTime, endDateTime, settlementPeriod);
-
-        // 전월 PAID 결제 내역 조회 (Creator별로 그룹화) - PaymentRepository를 통해 직접 접근
-        List<Payment> paidPayments = paymentRepository.findPaidPaymentsInPeriod(
-                PaymentStatus.PAID,
-                startDateTime, 
-                endDateTime
-        );
-        
-        if (paidPayments.isEmpty()) {
-            log.info("정산 대상 결제 내역이 없습니다.");
-            return RepeatStatus.FINISHED;
-        }
-
-        log.info("정산 대상 결제 내역 수: {}", paidPayments.size());
-
-        // Payment를 Creator별로 그룹화
-        Map<Long, List<Payment>> paymentsByCreator = paidPayments.stream()
-                .collect(Collectors.groupingBy(payment -> {
-                    Long creatorId = getCreatorIdFromPayment(payment);
-                    if (creatorId == null) {
-                        log.warn("Payment ID {}에서 Creator를 찾을 수 없습니다.", payment.getId());
-                        return -1L; // Creator를 찾을 수 없는 경우
-                    }
-                    return creatorId;
-                }));
-
-        // Creator 그룹화 결과 로그 (Creator를 찾을 수 없는 경우 제외)
-        long validCreatorCount = paymentsByCreator.entrySet().stream()
-                .filter(entry -> entry.getKey() != -1L)
-                .count();
-        log.info("정산 대상 크리에이터 수: {}명", validCreatorCount);
-        
-        // 각 Creator별 결제 건수 로그
-        paymentsByCreator.entrySet().stream()
-                .filter(entry -> entry.getKey() != -1L)
-                .forEach(entry -> {
-                    log.info("Creator ID {}: 결제 건수 {}건", entry.getKey(), entry.getValue().size());
-                });
-
-        // Creator별로 정산 처리
-        int settlementCount = 0;
-        int skippedCount = 0;
-        for (Map.Entry<Long, List<Payment>> entry : paymentsByCreator.entrySet()) {
-            Long creatorId = entry.getKey();
-            if (creatorId == -1L) {
-                skippedCount++;
-                log.warn("Creator를 찾을 수 없는 Payment가 있어 스킵합니다. Payment 건수: {}", entry.getValue().size());
-                continue; // Creator를 찾을 수 없는 경우 스킵
-            }
-
-            List<Payment> creatorPayments = entry.getValue();
-            
-            log.info("Creator ID {} 정산 처리 시작 - 결제 건수: {}건", creatorId, creatorPayments.size());
-            
-            // 이미 해당 기간의 정산이 존재하는지 확인
-            Optional<Settlement> existingSettlementOpt = settlementRepository
-                    .findByCreatorIdAndSettlementPeriod(creatorId, settlementPeriod);
-            
-            if (existingSettlementOpt.isPresent()) {
-                Settlement existingSettlement = existingSettlementOpt.get();
-                
-                // READY 상태인 정산은 지급 처리 수행
-                if (existingSettlement.getStatus() == SettlementStatus.READY) {
-                    log.info("Creator ID {}의 {}주 정산이 READY 상태입니다. 지급 처리를 수행합니다.", creatorId, settlementPeriod);
-                    Creator creator = creatorRepository.findById(creatorId)
-                            .orElseThrow(() -> new RuntimeException("Creator를 찾을 수 없습니다: " + creatorId));
-                    
-                    boolean payoutSuccess = settlementPayoutService.processPayout(existingSettlement, creator);
-                    if (!payoutSuccess) {
-                        log.warn("Creator ID {}의 정산금 지급 실패 - 재시도 스케줄러에서 자동 재시도됩니다.", creatorId);
-                    } else {
-                        log.info("Creator ID {}의 {}주 정산 지급 처리 완료", creatorId, settlementPeriod);
-                        settlementCount++;
-                    }
-                    
-                    // EntityManager 플러시 (메모리 관리)
-                    entityManager.flush();
-                    entityManager.clear();
-                    continue;
-                } else {
-                    skippedCount++;
-                    log.info("Creator ID {}의 {}주 정산이 이미 존재하며 상태는 {}입니다. 스킵합니다.", 
-                            creatorId, settlementPeriod, existingSettlement.getStatus());
-                    continue;
-                }
-            }
-
-            Creator creator = creatorRepository.findById(creatorId)
-                    .orElseThrow(() -> new RuntimeException("Creator를 찾을 수 없습니다: " + creatorId));
-
-            // 매출 집계
-            Long totalSalesAmount = creatorPayments.stream()
-                    .mapToLong(Payment::getAmount)
-                    .sum();
-
-            if (totalSalesAmount == 0) {
-                skippedCount++;
-                log.info("Creator ID {}의 매출이 0원입니다. 정산을 생성하지 않습니다.", creatorId);
-                continue;
-            }
-
-            // Settlement 생성
-            Settlement settlement = Settlement.create(creator, settlementPeriod, totalSalesAmount);
-            settlement = settlementRepository.save(settlement);
-            
-            // 람다에서 사용하기 위해 final 변수로 복사
-            final Settlement finalSettlement = settlement;
-
-            // SettlementDetail 생성
-            List<SettlementDetail> settlementDetails = creatorPayments.stream()
-                    .map(payment -> SettlementDetail.create(finalSettlement, payment, payment.getAmount()))
-                    .collect(Collectors.toList());
-
-            settlementDetailRepository.saveAll(settlementDetails);
-
-            log.info("Creator ID {}의 {}주 정산 완료: 총 매출 {}, 실 지급 금액 {}", 
-                    creatorId, settlementPeriod, totalSalesAmount, settlement.getPayoutAmount());
-            
-            // 정산 후처리: 계좌 지급 처리
-            boolean payoutSuccess = settlementPayoutService.processPayout(settlement, creator);
-            if (!payoutSuccess) {
-                log.warn("Creator ID {}의 정산금 지급 실패 - 재시도 스케줄러에서 자동 재시도됩니다.", creatorId);
-            }
-            
-            // processPayout에서 변경된 상태를 반영하기 위해 settlement를 다시 조회
-            // EntityManager.clear() 전에 최신 상태를 확보
-            Settlement updatedSettlement = settlementRepository.findById(settlement.getId())
-                    .orElse(settlement);
-            log.info("정산 상태 업데이트 확인 - Settlement ID: {}, Status: {}", 
-                    updatedSettlement.getId(), updatedSettlement.getStatus());
-            
-            settlementCount++;
-            log.info("Creator ID {} 정산 처리 완료 ({}/{}명) - 최종 상태: {}", 
-                    creatorId, settlementCount, validCreatorCount, updatedSettlement.getStatus());
-            
-            // EntityManager 플러시 (메모리 관리)
-            entityManager.flush();
-            entityManager.clear();
-        }
-
-        log.info("정산 배치 완료: 총 {}명의 크리에이터 중 {}명 정산 처리 완료, {}명 스킵됨", 
-                validCreatorCount, settlementCount, skippedCount);
-        return RepeatStatus.FINISHED;
-    }
-
-    /**
-     * Payment에서 Creator ID를 추출
-     * Order -> Subscription/Content -> Channel -> Creator
-     */
-    private Long getCreatorIdFromPayment(Payment payment) {
-        if (payment.getOrder() == null) {
-            return null;
-        }
-
-        var order = payment.getOrder();
-        
-        // OrderType이 SUBSCRIPTION인 경우
-        if (order.getOrderType() == OrderType.SUBSCRIPTION) {
-            // 먼저 subscription이 연결되어 있는지 확인
-            if (order.getSubscription() != null) {
-                Long channelId = order.getSubscription().getChannelId();
-                Channel channel = channelRepository.findById(channelId).orElse(null);
-                if (channel != null) {
-                    return channel.getCreatorId();
-                }
-            }
-            // subscription이 아직 연결되지 않은 경우 planId를 통해 조회
-            if (order.getPlanId() != null) {
-                SubscriptionPlan plan = subscriptionPlanRepository.findById(order.getPlanId()).orElse(null);
-                if (plan != null) {
-                    Channel channel = channelRepository.findById(plan.getChannelId()).orElse(null);
-                    if (channel != null) {
-                        return channel.getCreatorId();
-                    }
-                }
-            }
-        }
-        
-        // OrderType이 CONTENT인 경우
-        if (order.getOrderType() == OrderType.CONTENT) {
-            if (order.getContent() != null && order.getContent().getChannel() != null) {
-                return order.getContent().getChannel().getCreatorId();
-            }
-        }
-
-        return null;
-    }
-}
-
@@ -0,0 +1,56 @@
+package com.example.backend.settlement.batch;
+
+import com.example.backend.creator.repository.CreatorRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 크리에이터 ID 범위 파티셔너
+ * 전체 크리에이터 ID 구간(MIN ~ MAX)을 gridSize 개의 연속 구간으로 나눈다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementCreatorPartitioner implements Partitioner {
+
+    public static final String MIN_CREATOR_ID = "minCreatorId";
+    public static final String MAX_CREATOR_ID = "maxCreatorId";
+
+    private final CreatorRepository creatorRepository;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+
+        Long minId = creatorRepository.findMinId();
+        Long maxId = creatorRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            log.info("정산 대상 크리에이터가 없습니다.");
+            return partitions;
+        }
+
+        long rangeSize = (maxId - minId) / gridSize + 1;
+        long start = minId;
+        int number = 0;
+        while (start <= maxId) {
+            long end = Math.min(start + rangeSize - 1, maxId);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_CREATOR_ID, start);
+            context.putLong(MAX_CREATOR_ID, end);
+            partitions.put("partition" + number, context);
+
+            log.info("정산 파티션 생성 - partition{}: creatorId {} ~ {}", number, start, end);
+            start = end + 1;
+            number++;
+        }
+
+        return partitions;
+    }
+}
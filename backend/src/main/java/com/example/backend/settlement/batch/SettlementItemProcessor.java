@@ -0,0 +1,101 @@
+package com.example.backend.settlement.batch;
+
+import com.example.backend.creator.entity.Creator;
+import com.example.backend.creator.repository.CreatorRepository;
+import com.example.backend.payment.entity.Payment;
+import com.example.backend.payment.entity.PaymentStatus;
+import com.example.backend.payment.repository.PaymentRepository;
+import com.example.backend.settlement.entity.Settlement;
+import com.example.backend.settlement.entity.SettlementStatus;
+import com.example.backend.settlement.repository.SettlementRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 크리에이터 ID → 주간 정산 아이템 변환
+ * 정산 대상이 아니면 null을 반환하여 writer로 전달하지 않는다.
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class SettlementItemProcessor implements ItemProcessor<Long, CreatorSettlement> {
+
+    private final PaymentRepository paymentRepository;
+    private final CreatorRepository creatorRepository;
+    private final SettlementRepository settlementRepository;
+
+    @Value("#{jobParameters['" + SettlementJobParameters.PERIOD_START + "']}")
+    private LocalDate periodStart;
+
+    @Override
+    public CreatorSettlement process(Long creatorId) {
+        LocalDate periodEnd = periodStart.plusDays(6);
+
+        // 정산 기간 형식: "2024-01-01~2024-01-07"
+        String settlementPeriod = Settlement.formatPeriod(periodStart, periodEnd);
+
+        // 이미 해당 기간의 정산이 존재하는지 확인
+        Optional<Settlement> existingSettlementOpt = settlementRepository
+                .findByCreatorIdAndPeriodStart(creatorId, periodStart);
+
+        if (existingSettlementOpt.isPresent()) {
+            Settlement existingSettlement = existingSettlementOpt.get();
+
+            // READY 상태인 정산은 지급 처리만 수행
+            if (existingSettlement.getStatus() == SettlementStatus.READY) {
+                log.info("Creator ID {}의 {}주 정산이 READY 상태입니다. 지급 처리를 수행합니다.", creatorId, settlementPeriod);
+                return CreatorSettlement.payoutOnly(existingSettlement, findCreator(creatorId));
+            }
+
+            log.info("Creator ID {}의 {}주 정산이 이미 존재하며 상태는 {}입니다. 스킵합니다.",
+                    creatorId, settlementPeriod, existingSettlement.getStatus());
+            return null;
+        }
+
+        LocalDateTime startDateTime = periodStart.atStartOfDay();
+        LocalDateTime endDateTime = periodEnd.atTime(23, 59, 59, 999999999);
+
+        List<Payment> creatorPayments = paymentRepository.findPaidPaymentsByCreatorInPeriod(
+                creatorId,
+                PaymentStatus.PAID,
+                startDateTime,
+                endDateTime
+        );
+
+        if (creatorPayments.isEmpty()) {
+            return null;
+        }
+
+        // 매출 집계
+        Long totalSalesAmount = creatorPayments.stream()
+                .mapToLong(Payment::getAmount)
+                .sum();
+
+        if (totalSalesAmount == 0) {
+            log.info("Creator ID {}의 매출이 0원입니다. 정산을 생성하지 않습니다.", creatorId);
+            return null;
+        }
+
+        log.info("Creator ID {} 정산 생성 - 기간: {}, 결제 건수: {}건, 총 매출: {}",
+                creatorId, settlementPeriod, creatorPayments.size(), totalSalesAmount);
+
+        Creator creator = findCreator(creatorId);
+        Settlement settlement = Settlement.create(creator, periodStart, periodEnd, totalSalesAmount);
+        return CreatorSettlement.create(settlement, creator, creatorPayments);
+    }
+
+    private Creator findCreator(Long creatorId) {
+        return creatorRepository.findById(creatorId)
+                .orElseThrow(() -> new RuntimeException("Creator를 찾을 수 없습니다: " + creatorId));
+    }
+}
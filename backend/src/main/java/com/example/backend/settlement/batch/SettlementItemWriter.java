@@ -0,0 +1,83 @@
+package com.example.backend.settlement.batch;
+
+import com.example.backend.settlement.entity.Settlement;
+import com.example.backend.settlement.entity.SettlementDetail;
+import com.example.backend.settlement.entity.SettlementStatus;
+import com.example.backend.settlement.repository.SettlementDetailRepository;
+import com.example.backend.settlement.repository.SettlementRepository;
+import com.example.backend.settlement.payout.SettlementPayoutExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정산/정산 상세 저장 및 지급 처리
+ * 저장은 chunk 트랜잭션 안에서 실행되어 chunk 단위로 커밋되고,
+ * 지급은 커밋 이후 병렬 지급 실행기에서 정산별 독립 트랜잭션으로 처리된다.
+ * READY 정산은 같은 chunk 트랜잭션에서 지급 예약 시각(next_retry_at)을 저장하므로,
+ * 커밋 직후 노드가 중단되거나 지급 실행기가 요청을 거절해도 재시도 스케줄러가 지급한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementItemWriter implements ItemWriter<CreatorSettlement> {
+
+    private final SettlementRepository settlementRepository;
+    private final SettlementDetailRepository settlementDetailRepository;
+    private final SettlementPayoutExecutor settlementPayoutExecutor;
+
+    // 커밋 후 바로 시작되는 지급과 재시도 스케줄러가 겹치지 않도록 두는 유예 시간
+    @Value("${settlement.payout.ready-grace-minutes:5}")
+    private int readyGraceMinutes;
+
+    @Override
+    public void write(Chunk<? extends CreatorSettlement> chunk) {
+        List<Long> payoutSettlementIds = new ArrayList<>();
+        LocalDateTime payoutDueAt = LocalDateTime.now().plusMinutes(readyGraceMinutes);
+
+        for (CreatorSettlement item : chunk) {
+            Settlement settlement = item.settlement();
+
+            if (settlement.getStatus() == SettlementStatus.READY) {
+                settlement.scheduleRetry(payoutDueAt);
+            }
+
+            if (item.isNew()) {
+                Settlement savedSettlement = settlementRepository.save(settlement);
+
+                List<SettlementDetail> settlementDetails = item.payments().stream()
+                        .map(payment -> SettlementDetail.create(savedSettlement, payment, payment.getAmount()))
+                        .toList();
+                settlementDetailRepository.saveAll(settlementDetails);
+
+                log.info("Creator ID {}의 {}주 정산 생성 완료: 총 매출 {}, 실 지급 금액 {}",
+                        item.creator().getId(), savedSettlement.getSettlementPeriod(),
+                        savedSettlement.getTotalSalesAmount(), savedSettlement.getPayoutAmount());
+                settlement = savedSettlement;
+            } else {
+                settlement = settlementRepository.save(settlement);
+            }
+
+            payoutSettlementIds.add(settlement.getId());
+        }
+
+        // 정산 후처리: chunk 커밋 후 계좌 지급 처리 (실패 건은 재시도 스케줄러에서 자동 재시도)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                settlementPayoutExecutor.executeAll(payoutSettlementIds);
+            }
+        });
+
+        log.info("정산 chunk 처리 완료 - {}건", chunk.size());
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.backend.settlement.batch;
+
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 정산 배치 Job 파라미터
+ * 정산 기간 시작일(월요일)을 식별 파라미터로 사용하여 주차당 하나의 JobInstance만 생성되도록 한다.
+ * (실패한 주차를 다시 실행하면 새 인스턴스가 아닌 재시작으로 처리됨)
+ */
+public final class SettlementJobParameters {
+
+    public static final String PERIOD_START = "periodStart";
+
+    private SettlementJobParameters() {
+    }
+
+    /**
+     * 전주(월요일 00:00 ~ 일요일 23:59) 정산 파라미터
+     */
+    public static JobParameters forLastWeek() {
+        LocalDate lastWeekMonday = LocalDate.now()
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                .minusWeeks(1);
+
+        return new JobParametersBuilder()
+                .addLocalDate(PERIOD_START, lastWeekMonday)
+                .toJobParameters();
+    }
+}
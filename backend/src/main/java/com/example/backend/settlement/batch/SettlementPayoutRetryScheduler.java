@@ -1,32 +1,44 @@
 package com.example.backend.settlement.batch;
 
+import com.example.backend.settlement.payout.SettlementPayoutExecutor;
 import com.example.backend.settlement.service.SettlementPayoutService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SettlementPayoutRetryScheduler {
 
     private final SettlementPayoutService settlementPayoutService;
+    private final SettlementPayoutExecutor settlementPayoutExecutor;
+
+    @Value("${settlement.payout.retry-batch-size:100}")
+    private int retryBatchSize;
 
 
     // 지급 실패 정산 재시도 스케줄러
-    // 5분마다 실행 (정산 실패 후 5분 간격으로 재시도)
-    // cron 표현식: 초 분 시 일 월 요일
-    // "0 */5 * * * ?" = 5분마다 실행
+    // (정산 배치 커밋 후 지급이 시작되지 않은 READY 정산과 임대 시각이 지난 지급 중 정산도 함께 처리)
+    // 이전 실행 종료 30초 후 다시 실행 (재시도 시점(next_retry_at)이 도래한 정산만 인덱스로 조회)
+    // 재시도 간격은 지급 실패 시 지수 백오프로 정산마다 예약된다.
 
-    @Scheduled(cron = "0 */5 * * * ?")
+    @Scheduled(fixedDelayString = "${settlement.payout.retry-poll-interval-ms:30000}")
     public void retryFailedSettlements() {
         try {
-            log.info("지급 실패 정산 재시도 스케줄러 실행");
-            settlementPayoutService.retryFailedSettlements();
+            List<Long> dueSettlementIds = settlementPayoutService.findDueRetrySettlementIds(retryBatchSize);
+            if (dueSettlementIds.isEmpty()) {
+                return;
+            }
+
+            log.info("지급 실패 정산 재시도 시작 - 대상 {}건", dueSettlementIds.size());
+            settlementPayoutExecutor.executeAll(dueSettlementIds);
         } catch (Exception e) {
             log.error("지급 실패 정산 재시도 스케줄러 실행 실패: {}", e.getMessage(), e);
         }
     }
 }
-
@@ -2,11 +2,11 @@ package com.example.backend.settlement.controller;
 
 import com.example.backend.global.security.CustomUserDetails;
 import com.example.backend.member.entity.Role;
+import com.example.backend.settlement.batch.SettlementJobParameters;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
@@ -51,10 +51,8 @@ public class SettlementBatchController {
         try {
             log.info("관리자용 정산 배치 수동 실행 요청");
 
-            // Job 실행에 필요한 파라미터 생성 (중복 실행 방지)
-            JobParameters jobParameters = new JobParametersBuilder()
-                    .addLong("timestamp", System.currentTimeMillis())
-                    .toJobParameters();
+            // 전주 정산 파라미터 (실패한 주차면 마지막 커밋 지점부터 재시작, 완료된 주차면 실행되지 않음)
+            JobParameters jobParameters = SettlementJobParameters.forLastWeek();
 
             jobLauncher.run(settlementJob, jobParameters);
 
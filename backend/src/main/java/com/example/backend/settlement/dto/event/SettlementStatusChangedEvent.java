@@ -0,0 +1,22 @@
+package com.example.backend.settlement.dto.event;
+
+import com.example.backend.settlement.entity.SettlementStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder(access = AccessLevel.PRIVATE)
+public class SettlementStatusChangedEvent {
+    private Long settlementId;
+    private SettlementStatus status;
+
+    public static SettlementStatusChangedEvent create(Long settlementId, SettlementStatus status) {
+        return SettlementStatusChangedEvent.builder()
+                .settlementId(settlementId)
+                .status(status)
+                .build();
+    }
+}
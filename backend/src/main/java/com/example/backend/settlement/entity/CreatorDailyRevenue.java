@@ -0,0 +1,42 @@
+package com.example.backend.settlement.entity;
+
+import com.example.backend.global.entity.AuditableEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 크리에이터 일별 매출 집계
+ * 결제 완료/취소 시 증감되며, 예상 수익 조회는 이 테이블의 일 단위 행만 합산한다.
+ * (행 생성/증감은 CreatorDailyRevenueRepository의 upsert 쿼리로만 수행)
+ */
+@Entity
+@Table(name = "creator_daily_revenues",
+        uniqueConstraints = @UniqueConstraint(name = "uk_creator_daily_revenue", columnNames = {"creator_id", "revenue_date"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CreatorDailyRevenue extends AuditableEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 크리에이터 ID */
+    @Column(name = "creator_id", nullable = false)
+    private Long creatorId;
+
+    /** 매출 일자 (결제 승인일) */
+    @Column(name = "revenue_date", nullable = false)
+    private LocalDate revenueDate;
+
+    /** 해당 일자 PAID 결제 금액 합계 */
+    @Column(name = "sales_amount", nullable = false)
+    private Long salesAmount;
+
+    /** 해당 일자 PAID 결제 건수 */
+    @Column(name = "payment_count", nullable = false)
+    private Long paymentCount;
+}
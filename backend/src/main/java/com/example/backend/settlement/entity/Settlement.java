@@ -5,10 +5,17 @@ import com.example.backend.global.entity.CreatedAtEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 @Entity
-@Table(name = "settlements")
+@Table(name = "settlements",
+        indexes = {
+                @Index(name = "idx_settlement_creator_period_start", columnList = "creator_id, period_start"),
+                @Index(name = "idx_settlement_period_start", columnList = "period_start"),
+                @Index(name = "idx_settlement_status_next_retry", columnList = "status, next_retry_at")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
@@ -28,6 +35,14 @@ public class Settlement extends CreatedAtEntity {
     @Column(name = "settlement_period", nullable = false, length = 21)
     private String settlementPeriod;
 
+    /** 정산 기간 시작일 (월요일) */
+    @Column(name = "period_start")
+    private LocalDate periodStart;
+
+    /** 정산 기간 종료일 (일요일) */
+    @Column(name = "period_end")
+    private LocalDate periodEnd;
+
     /** 해당 기간 전체 매출 */
     @Column(name = "total_sales_amount", nullable = false)
     private Long totalSalesAmount;
@@ -59,9 +74,14 @@ public class Settlement extends CreatedAtEntity {
     @Column(name = "last_retry_at")
     private LocalDateTime lastRetryAt;
 
+    /** 다음 지급 재시도 예정 시점 (재시도 대상이 아니면 null) */
+    @Column(name = "next_retry_at")
+    private LocalDateTime nextRetryAt;
+
     public static Settlement create(
             Creator creator,
-            String settlementPeriod,
+            LocalDate periodStart,
+            LocalDate periodEnd,
             Long totalSalesAmount
     ) {
         Long platformFeeAmount = (long) (totalSalesAmount * 0.1);
@@ -69,16 +89,35 @@ public class Settlement extends CreatedAtEntity {
 
         return Settlement.builder()
                 .creator(creator)
-                .settlementPeriod(settlementPeriod)
+                .settlementPeriod(formatPeriod(periodStart, periodEnd))
+                .periodStart(periodStart)
+                .periodEnd(periodEnd)
                 .totalSalesAmount(totalSalesAmount)
                 .platformFeeAmount(platformFeeAmount)
                 .payoutAmount(payoutAmount)
                 .build();
     }
 
+    /**
+     * 정산 기간 문자열 생성 (예: "2024-01-01~2024-01-07")
+     */
+    public static String formatPeriod(LocalDate periodStart, LocalDate periodEnd) {
+        return periodStart.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) +
+               "~" +
+               periodEnd.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+    }
+
+    /**
+     * 지급 요청 멱등성 키 (정산 1건당 하나, 재시도해도 동일)
+     */
+    public String getPayoutIdempotencyKey() {
+        return "settlement-payout-" + this.id;
+    }
+
     public void markCompleted() {
         this.status = SettlementStatus.COMPLETED;
         this.settledAt = LocalDateTime.now();
+        this.nextRetryAt = null;
     }
 
     public void markFailed() {
@@ -89,6 +128,18 @@ public class Settlement extends CreatedAtEntity {
         this.status = SettlementStatus.READY;
     }
 
+    /**
+     * 지급 요청 시작 (leaseUntil이 지나도 PROCESSING이면 재시도 스케줄러가 다시 가져감)
+     */
+    public void markProcessing(LocalDateTime leaseUntil) {
+        this.status = SettlementStatus.PROCESSING;
+        this.nextRetryAt = leaseUntil;
+    }
+
+    public boolean isProcessing() {
+        return this.status == SettlementStatus.PROCESSING;
+    }
+
     /**
      * 재시도 횟수 증가 및 마지막 재시도 시점 업데이트
      */
@@ -97,6 +148,13 @@ public class Settlement extends CreatedAtEntity {
         this.lastRetryAt = LocalDateTime.now();
     }
 
+    /**
+     * 다음 재시도 시점 지정 (null이면 더 이상 재시도하지 않음)
+     */
+    public void scheduleRetry(LocalDateTime nextRetryAt) {
+        this.nextRetryAt = nextRetryAt;
+    }
+
     /**
      * 최대 재시도 횟수 초과 여부 확인
      */
@@ -2,6 +2,7 @@ package com.example.backend.settlement.entity;
 
 public enum SettlementStatus {
     READY,
+    PROCESSING, // 지급 대행사에 지급 요청 중 (next_retry_at까지 다른 작업자가 가져가지 않음)
     COMPLETED,
     FAILED
 }
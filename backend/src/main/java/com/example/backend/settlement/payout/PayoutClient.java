@@ -0,0 +1,10 @@
+package com.example.backend.settlement.payout;
+
+/**
+ * 정산금 지급 대행사 클라이언트
+ * 같은 멱등성 키로 여러 번 호출되어도 실제 지급은 한 번만 일어나야 한다.
+ */
+public interface PayoutClient {
+
+    PayoutResult requestPayout(PayoutRequest request);
+}
@@ -0,0 +1,37 @@
+package com.example.backend.settlement.payout;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지급 대행사 호출 속도 제한 (초당 허용 요청 수)
+ * 요청마다 다음 허용 시점을 예약하고 그 시점까지 대기한다.
+ */
+@Component
+public class PayoutRateLimiter {
+
+    private final long intervalNanos;
+    private long nextPermitNanos = System.nanoTime();
+
+    public PayoutRateLimiter(@Value("${settlement.payout.rate-limit-per-second:20}") int permitsPerSecond) {
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(permitsPerSecond, 1);
+    }
+
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (nextPermitNanos < now) {
+                nextPermitNanos = now;
+            }
+            waitNanos = nextPermitNanos - now;
+            nextPermitNanos += intervalNanos;
+        }
+
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
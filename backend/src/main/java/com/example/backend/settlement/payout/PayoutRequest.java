@@ -0,0 +1,15 @@
+package com.example.backend.settlement.payout;
+
+/**
+ * 지급 대행사로 보내는 정산금 지급 요청
+ * @param idempotencyKey 정산 1건당 고정된 멱등성 키 (재시도 시 중복 지급 방지)
+ */
+public record PayoutRequest(
+        String idempotencyKey,
+        Long settlementId,
+        Long creatorId,
+        String creatorName,
+        String settlementPeriod,
+        Long amount
+) {
+}
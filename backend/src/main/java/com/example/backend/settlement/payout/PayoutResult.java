@@ -0,0 +1,22 @@
+package com.example.backend.settlement.payout;
+
+/**
+ * 지급 대행사 응답
+ * @param success 지급 성공 여부
+ * @param transactionId 대행사 거래 ID (실패 시 null)
+ * @param failureReason 실패 사유 (성공 시 null)
+ */
+public record PayoutResult(
+        boolean success,
+        String transactionId,
+        String failureReason
+) {
+
+    public static PayoutResult success(String transactionId) {
+        return new PayoutResult(true, transactionId, null);
+    }
+
+    public static PayoutResult failure(String failureReason) {
+        return new PayoutResult(false, null, failureReason);
+    }
+}
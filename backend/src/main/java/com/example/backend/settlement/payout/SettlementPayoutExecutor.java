@@ -0,0 +1,83 @@
+package com.example.backend.settlement.payout;
+
+import com.example.backend.settlement.service.SettlementPayoutService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 정산금 병렬 지급 실행기
+ * 가상 스레드로 정산 1건당 작업 하나를 실행하되, 동시에 진행되는 지급 수는 concurrency로 제한한다.
+ * 각 지급은 SettlementPayoutService에서 독립 트랜잭션으로 처리되므로 한 건의 실패가 다른 건에 영향을 주지 않는다.
+ */
+@Slf4j
+@Component
+public class SettlementPayoutExecutor {
+
+    private final SettlementPayoutService settlementPayoutService;
+    private final Semaphore permits;
+    private final ExecutorService executorService =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("settlement-payout-", 0).factory());
+
+    public SettlementPayoutExecutor(
+            SettlementPayoutService settlementPayoutService,
+            @Value("${settlement.payout.concurrency:8}") int concurrency
+    ) {
+        this.settlementPayoutService = settlementPayoutService;
+        this.permits = new Semaphore(Math.max(concurrency, 1));
+    }
+
+    /**
+     * 정산 목록 지급 (모든 지급이 끝날 때까지 대기)
+     * @return 지급 성공 건수
+     */
+    public int executeAll(List<Long> settlementIds) {
+        if (settlementIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Future<Boolean>> futures = settlementIds.stream()
+                .map(settlementId -> executorService.submit(() -> payout(settlementId)))
+                .toList();
+
+        int successCount = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                if (futures.get(i).get()) {
+                    successCount++;
+                }
+            } catch (ExecutionException e) {
+                log.error("정산금 지급 중 오류 발생 - Settlement ID: {}", settlementIds.get(i), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("정산금 지급 대기 중 인터럽트 발생 - 남은 지급은 백그라운드에서 계속 진행됩니다.");
+                break;
+            }
+        }
+
+        log.info("정산금 병렬 지급 완료: 성공 {}건, 실패 {}건", successCount, settlementIds.size() - successCount);
+        return successCount;
+    }
+
+    private boolean payout(Long settlementId) throws InterruptedException {
+        permits.acquire();
+        try {
+            return settlementPayoutService.processPayout(settlementId);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+}
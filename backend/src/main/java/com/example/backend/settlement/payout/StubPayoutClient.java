@@ -0,0 +1,68 @@
+package com.example.backend.settlement.payout;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로컬 지급 대행사 스텁
+ * 실제 이체 대신 콘솔에 지급 내역을 출력하며, 지연/실패율을 설정해 지급 실행기를 시험할 수 있다.
+ * 성공한 요청은 멱등성 키별로 기억하여 같은 키로 다시 요청하면 기존 결과를 그대로 돌려준다.
+ */
+@Slf4j
+@Component
+public class StubPayoutClient implements PayoutClient {
+
+    @Value("${settlement.payout.stub.latency-ms:0}")
+    private long latencyMs;
+
+    @Value("${settlement.payout.stub.failure-rate:0.0}")
+    private double failureRate;
+
+    private final Map<String, PayoutResult> completedPayouts = new ConcurrentHashMap<>();
+
+    @Override
+    public PayoutResult requestPayout(PayoutRequest request) {
+        PayoutResult completed = completedPayouts.get(request.idempotencyKey());
+        if (completed != null) {
+            log.info("이미 처리된 지급 요청 - idempotencyKey: {}", request.idempotencyKey());
+            return completed;
+        }
+
+        if (latencyMs > 0) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return PayoutResult.failure("지급 요청이 중단되었습니다.");
+            }
+        }
+
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            return PayoutResult.failure("지급 대행사 스텁 실패 (failure-rate: " + failureRate + ")");
+        }
+
+        PayoutResult result = completedPayouts.computeIfAbsent(
+                request.idempotencyKey(),
+                key -> PayoutResult.success(UUID.randomUUID().toString())
+        );
+
+        // 계좌 지급 완료 콘솔 출력
+        System.out.println("==========================================");
+        System.out.println("정산금 지급 완료");
+        System.out.println("==========================================");
+        System.out.println("크리에이터: " + request.creatorName());
+        System.out.println("크리에이터 ID: " + request.creatorId());
+        System.out.println("정산 기간: " + request.settlementPeriod());
+        System.out.println("지급 금액: " + String.format("%,d", request.amount()) + "원");
+        System.out.println("거래 ID: " + result.transactionId());
+        System.out.println("==========================================");
+
+        return result;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.backend.settlement.repository;
+
+import com.example.backend.settlement.entity.CreatorDailyRevenue;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface CreatorDailyRevenueRepository extends JpaRepository<CreatorDailyRevenue, Long> {
+
+    /**
+     * 크리에이터의 기간 내 매출 합계 (일별 집계 행 합산)
+     */
+    @Query("SELECT COALESCE(SUM(r.salesAmount), 0) FROM CreatorDailyRevenue r " +
+           "WHERE r.creatorId = :creatorId " +
+           "AND r.revenueDate >= :startDate " +
+           "AND r.revenueDate <= :endDate")
+    Long sumSalesAmount(
+            @Param("creatorId") Long creatorId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 일별 매출 증감 (행이 없으면 생성)
+     * 동시 결제에도 유실되지 않도록 단일 upsert 문으로 증감한다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO creator_daily_revenues (creator_id, revenue_date, sales_amount, payment_count, created_at, updated_at)
+        VALUES (:creatorId, :revenueDate, :amount, :paymentCount, NOW(6), NOW(6))
+        ON DUPLICATE KEY UPDATE
+            sales_amount = sales_amount + VALUES(sales_amount),
+            payment_count = payment_count + VALUES(payment_count),
+            updated_at = NOW(6)
+        """, nativeQuery = true)
+    int addRevenue(
+            @Param("creatorId") Long creatorId,
+            @Param("revenueDate") LocalDate revenueDate,
+            @Param("amount") Long amount,
+            @Param("paymentCount") Long paymentCount
+    );
+
+    /**
+     * 기간 내 PAID 결제가 하나도 남지 않은 집계 행 초기화 (재집계 upsert로 덮어쓰이지 않는 행 보정)
+     * 값이 이미 0인 행은 건드리지 않는다.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE creator_daily_revenues r
+        SET r.sales_amount = 0, r.payment_count = 0, r.updated_at = NOW(6)
+        WHERE r.revenue_date >= :startDate AND r.revenue_date <= :endDate
+        AND (r.sales_amount <> 0 OR r.payment_count <> 0)
+        AND NOT EXISTS (
+            SELECT 1 FROM payments p
+            WHERE p.status = 'PAID'
+            AND p.creator_id = r.creator_id
+            AND p.approved_at >= r.revenue_date
+            AND p.approved_at < DATE_ADD(r.revenue_date, INTERVAL 1 DAY)
+        )
+        """, nativeQuery = true)
+    int resetWithoutPayments(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 기간 내 PAID 결제를 크리에이터/일자별 SUM으로 재집계 (집계 누락/오차 보정용)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO creator_daily_revenues (creator_id, revenue_date, sales_amount, payment_count, created_at, updated_at)
+        SELECT p.creator_id, DATE(p.approved_at), SUM(p.amount), COUNT(*), NOW(6), NOW(6)
+        FROM payments p
+        WHERE p.status = 'PAID'
+        AND p.creator_id IS NOT NULL
+        AND p.approved_at >= :startDateTime
+        AND p.approved_at < :endDateTime
+        GROUP BY p.creator_id, DATE(p.approved_at)
+        ON DUPLICATE KEY UPDATE
+            sales_amount = VALUES(sales_amount),
+            payment_count = VALUES(payment_count),
+            updated_at = NOW(6)
+        """, nativeQuery = true)
+    int rebuildFromPayments(
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime
+    );
+}
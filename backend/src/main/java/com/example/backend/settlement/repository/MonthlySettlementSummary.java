@@ -0,0 +1,21 @@
+package com.example.backend.settlement.repository;
+
+/**
+ * 크리에이터 월간 정산 집계 (SettlementRepository.findMonthlySummariesByCreatorId 결과)
+ */
+public interface MonthlySettlementSummary {
+
+    Integer getSettlementYear();
+
+    Integer getSettlementMonth();
+
+    Long getTotalSalesAmount();
+
+    Long getPlatformFeeAmount();
+
+    Long getPayoutAmount();
+
+    Long getCompletedCount();
+
+    Long getFailedCount();
+}
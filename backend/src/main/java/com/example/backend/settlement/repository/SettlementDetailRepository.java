@@ -24,6 +24,23 @@ public interface SettlementDetailRepository extends JpaRepository<SettlementDeta
      */
     boolean existsBySettlementIdAndPaymentId(Long settlementId, Long paymentId);
 
+    boolean existsByPaymentId(Long paymentId);
+
+    /**
+     * 정산 ID 목록별 결제 건수 조회 (관리자 목록용, 상세 내역이 없는 정산은 결과에 포함되지 않음)
+     */
+    @Query("SELECT sd.settlement.id AS settlementId, COUNT(sd) AS paymentCount " +
+           "FROM SettlementDetail sd " +
+           "WHERE sd.settlement.id IN :settlementIds " +
+           "GROUP BY sd.settlement.id")
+    List<SettlementPaymentCount> countPaymentsBySettlementIds(@Param("settlementIds") List<Long> settlementIds);
+
+    /**
+     * 결제가 포함된 정산 ID 조회 (정산 행을 잠근 뒤 상세 내역을 읽기 위해 ID만 조회)
+     */
+    @Query("SELECT DISTINCT sd.settlement.id FROM SettlementDetail sd WHERE sd.payment.id = :paymentId ORDER BY sd.settlement.id")
+    List<Long> findSettlementIdsByPaymentId(@Param("paymentId") Long paymentId);
+
     /**
      * 결제 ID로 정산 상세 내역 조회
      */
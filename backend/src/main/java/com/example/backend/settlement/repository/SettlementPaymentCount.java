@@ -0,0 +1,11 @@
+package com.example.backend.settlement.repository;
+
+/**
+ * 정산별 결제 건수 (SettlementDetailRepository.countPaymentsBySettlementIds 결과)
+ */
+public interface SettlementPaymentCount {
+
+    Long getSettlementId();
+
+    Long getPaymentCount();
+}
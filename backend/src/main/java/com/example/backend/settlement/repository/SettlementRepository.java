@@ -2,45 +2,73 @@ package com.example.backend.settlement.repository;
 
 import com.example.backend.settlement.entity.Settlement;
 import com.example.backend.settlement.entity.SettlementStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface SettlementRepository extends JpaRepository<Settlement, Long> {
 
     /**
-     * 크리에이터와 정산 기간으로 정산 조회
+     * 크리에이터와 정산 기간 시작일로 정산 조회
      */
-    @Query("SELECT s FROM Settlement s WHERE s.creator.id = :creatorId AND s.settlementPeriod = :settlementPeriod")
-    Optional<Settlement> findByCreatorIdAndSettlementPeriod(
+    @Query("SELECT s FROM Settlement s WHERE s.creator.id = :creatorId AND s.periodStart = :periodStart")
+    Optional<Settlement> findByCreatorIdAndPeriodStart(
             @Param("creatorId") Long creatorId,
-            @Param("settlementPeriod") String settlementPeriod
+            @Param("periodStart") LocalDate periodStart
     );
 
     /**
-     * 재시도 대상 정산 조회 (FAILED 상태이고, 최대 재시도 횟수 미만이며, 일정 시간 경과)
+     * 재시도 시점이 도래한 정산 ID 조회 (status, next_retry_at 인덱스 범위 조회)
+     * 지급 실패 정산, 지급 요청 중 임대 시각이 지난 정산(작업자 중단), 지급 예약 후 지급이 시작되지 않은 READY 정산을 함께 조회
+     * (집계 중인 READY 정산은 next_retry_at이 null이라 조회되지 않음)
      */
-    @Query("SELECT s FROM Settlement s " +
-           "WHERE s.status = :status " +
+    @Query("SELECT s.id FROM Settlement s " +
+           "WHERE s.status IN :statuses " +
+           "AND s.nextRetryAt <= :now " +
            "AND s.retryCount < :maxRetryCount " +
-           "AND (s.lastRetryAt IS NULL OR s.lastRetryAt <= :retryAfter)")
-    List<Settlement> findRetryableSettlements(
-            @Param("status") SettlementStatus status,
+           "ORDER BY s.nextRetryAt ASC")
+    List<Long> findDueRetrySettlementIds(
+            @Param("statuses") Collection<SettlementStatus> statuses,
             @Param("maxRetryCount") Integer maxRetryCount,
-            @Param("retryAfter") LocalDateTime retryAfter
+            @Param("now") LocalDateTime now,
+            Pageable pageable
     );
 
     /**
      * 크리에이터별 정산 목록 조회 (최신순)
      */
-    @Query("SELECT s FROM Settlement s WHERE s.creator.id = :creatorId ORDER BY s.settlementPeriod DESC")
-    List<Settlement> findByCreatorIdOrderBySettlementPeriodDesc(@Param("creatorId") Long creatorId);
+    @Query("SELECT s FROM Settlement s WHERE s.creator.id = :creatorId ORDER BY s.periodStart DESC")
+    List<Settlement> findByCreatorIdOrderByPeriodStartDesc(@Param("creatorId") Long creatorId);
+
+    /**
+     * 크리에이터별 월간 정산 집계 (정산 기간 시작일 기준 월별 합계)
+     */
+    @Query("SELECT YEAR(s.periodStart) AS settlementYear, " +
+           "MONTH(s.periodStart) AS settlementMonth, " +
+           "SUM(s.totalSalesAmount) AS totalSalesAmount, " +
+           "SUM(s.platformFeeAmount) AS platformFeeAmount, " +
+           "SUM(s.payoutAmount) AS payoutAmount, " +
+           "SUM(CASE WHEN s.status = 'COMPLETED' THEN 1 ELSE 0 END) AS completedCount, " +
+           "SUM(CASE WHEN s.status = 'FAILED' THEN 1 ELSE 0 END) AS failedCount " +
+           "FROM Settlement s " +
+           "WHERE s.creator.id = :creatorId " +
+           "AND s.periodStart >= :fromDate " +
+           "GROUP BY YEAR(s.periodStart), MONTH(s.periodStart)")
+    List<MonthlySettlementSummary> findMonthlySummariesByCreatorId(
+            @Param("creatorId") Long creatorId,
+            @Param("fromDate") LocalDate fromDate
+    );
 
     /**
      * 관리자용: 전체 정산 목록 조회 (필터링, 페이징)
@@ -87,48 +115,59 @@ public interface SettlementRepository extends JpaRepository<Settlement, Long> {
     );
 
     /**
-     * 정산 통계: 전체 정산 금액 합계
-     */
-    @Query("SELECT COALESCE(SUM(s.payoutAmount), 0) FROM Settlement s WHERE s.status = 'COMPLETED'")
-    Long getTotalSettlementAmount();
-
-    /**
-     * 정산 통계: 이번 달 정산 금액 합계 (하위 호환성 유지)
+     * 정산 통계: 전체/이번 주 정산 금액과 상태별 건수를 한 번에 집계
      */
-    @Query("SELECT COALESCE(SUM(s.payoutAmount), 0) FROM Settlement s " +
-           "WHERE s.status = 'COMPLETED' " +
-           "AND s.settlementPeriod = :thisMonth")
-    Long getThisMonthSettlementAmount(@Param("thisMonth") String thisMonth);
+    @Query("SELECT " +
+           "COALESCE(SUM(CASE WHEN s.status = 'COMPLETED' THEN s.payoutAmount ELSE 0 END), 0) AS totalSettlementAmount, " +
+           "COALESCE(SUM(CASE WHEN s.status = 'COMPLETED' AND s.periodStart = :thisWeekStart THEN s.payoutAmount ELSE 0 END), 0) AS thisWeekSettlementAmount, " +
+           "COALESCE(SUM(CASE WHEN s.status IN ('READY', 'PROCESSING') THEN 1 ELSE 0 END), 0) AS readyCount, " +
+           "COALESCE(SUM(CASE WHEN s.status = 'COMPLETED' THEN 1 ELSE 0 END), 0) AS completedCount, " +
+           "COALESCE(SUM(CASE WHEN s.status = 'FAILED' THEN 1 ELSE 0 END), 0) AS failedCount, " +
+           "COALESCE(SUM(CASE WHEN s.status = 'FAILED' AND s.retryCount < :maxRetryCount THEN 1 ELSE 0 END), 0) AS retryNeededCount " +
+           "FROM Settlement s")
+    SettlementStatisticsSummary getStatisticsSummary(
+            @Param("thisWeekStart") LocalDate thisWeekStart,
+            @Param("maxRetryCount") Integer maxRetryCount
+    );
 
     /**
-     * 정산 통계: 이번 주 정산 금액 합계
+     * 관리자용: 정산 상세 조회 (Creator와 Member 포함)
      */
-    @Query("SELECT COALESCE(SUM(s.payoutAmount), 0) FROM Settlement s " +
-           "WHERE s.status = 'COMPLETED' " +
-           "AND s.settlementPeriod = :thisWeekPeriod")
-    Long getThisWeekSettlementAmount(@Param("thisWeekPeriod") String thisWeekPeriod);
+    @Query("SELECT s FROM Settlement s " +
+           "JOIN FETCH s.creator c " +
+           "JOIN FETCH c.member " +
+           "WHERE s.id = :settlementId")
+    Optional<Settlement> findByIdWithCreatorAndMember(@Param("settlementId") Long settlementId);
 
     /**
-     * 정산 통계: 상태별 건수
+     * 지급 상태 변경 시 정산 잠금 조회 (같은 정산을 여러 작업자가 동시에 지급하지 않도록)
      */
-    @Query("SELECT COUNT(s) FROM Settlement s WHERE s.status = :status")
-    Long countByStatus(@Param("status") SettlementStatus status);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Settlement s WHERE s.id = :settlementId")
+    Optional<Settlement> findByIdWithLock(@Param("settlementId") Long settlementId);
 
     /**
-     * 정산 통계: 재시도 필요 건수 (FAILED 상태이고 재시도 횟수 미만)
+     * period_start / period_end 컬럼 추가 이전 정산 데이터 보정 (settlement_period 문자열 파싱)
      */
-    @Query("SELECT COUNT(s) FROM Settlement s " +
-           "WHERE s.status = 'FAILED' " +
-           "AND s.retryCount < :maxRetryCount")
-    Long countRetryNeeded(@Param("maxRetryCount") Integer maxRetryCount);
+    @Modifying
+    @Query(value = """
+        UPDATE settlements
+        SET period_start = STR_TO_DATE(SUBSTRING(settlement_period, 1, 10), '%Y-%m-%d'),
+            period_end = STR_TO_DATE(SUBSTRING(settlement_period, 12, 10), '%Y-%m-%d')
+        WHERE period_start IS NULL
+        AND settlement_period LIKE '____-__-__~____-__-__'
+        """, nativeQuery = true)
+    int backfillPeriodDates();
 
     /**
-     * 관리자용: 정산 상세 조회 (Creator와 Member 포함)
+     * next_retry_at 컬럼 추가 이전의 지급 실패 정산 보정 (마지막 재시도 시점 기준으로 재시도 예약)
      */
-    @Query("SELECT s FROM Settlement s " +
-           "JOIN FETCH s.creator c " +
-           "JOIN FETCH c.member " +
-           "WHERE s.id = :settlementId")
-    Optional<Settlement> findByIdWithCreatorAndMember(@Param("settlementId") Long settlementId);
+    @Modifying
+    @Query(value = """
+        UPDATE settlements
+        SET next_retry_at = COALESCE(last_retry_at, created_at)
+        WHERE status = 'FAILED'
+        AND next_retry_at IS NULL
+        """, nativeQuery = true)
+    int backfillNextRetryAt();
 }
-
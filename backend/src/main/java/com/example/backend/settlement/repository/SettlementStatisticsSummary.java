@@ -0,0 +1,19 @@
+package com.example.backend.settlement.repository;
+
+/**
+ * 정산 통계 집계 (SettlementRepository.getStatisticsSummary 결과)
+ */
+public interface SettlementStatisticsSummary {
+
+    Long getTotalSettlementAmount();
+
+    Long getThisWeekSettlementAmount();
+
+    Long getReadyCount();
+
+    Long getCompletedCount();
+
+    Long getFailedCount();
+
+    Long getRetryNeededCount();
+}
@@ -0,0 +1,150 @@
+package com.example.backend.settlement.service;
+
+import com.example.backend.creator.entity.Creator;
+import com.example.backend.settlement.dto.event.SettlementStatusChangedEvent;
+import com.example.backend.settlement.entity.Settlement;
+import com.example.backend.settlement.entity.SettlementStatus;
+import com.example.backend.settlement.payout.PayoutRequest;
+import com.example.backend.settlement.repository.SettlementRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 정산금 지급 상태 관리
+ * 지급 대행사 호출 전후의 짧은 트랜잭션만 담당하고, 요청 수 제한 대기와 대행사 호출은 SettlementPayoutService가 트랜잭션 밖에서 수행한다.
+ * - begin: 정산을 PROCESSING으로 바꾸고 지급 요청 생성
+ * - complete / fail: 지급 결과 확정 (PROCESSING이 아니면 아무것도 하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementPayoutAttemptService {
+
+    private final SettlementRepository settlementRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${settlement.payout.max-retry-count:3}")
+    private int maxRetryCount;
+
+    @Value("${settlement.payout.retry-delay-minutes:30}")
+    private int retryDelayMinutes;
+
+    @Value("${settlement.payout.max-retry-delay-minutes:720}")
+    private int maxRetryDelayMinutes;
+
+    @Value("${settlement.payout.processing-lease-minutes:10}")
+    private int processingLeaseMinutes;
+
+    /**
+     * 지급 시작
+     * 정산 행을 잠근 상태에서 PROCESSING으로 바꾸므로 같은 정산은 한 작업자만 지급 요청을 보낸다.
+     * @return 지급 요청 (이미 지급 완료되었거나 다른 작업자가 지급 중이면 empty)
+     */
+    @Transactional
+    public Optional<PayoutRequest> begin(Long settlementId) {
+        Optional<Settlement> settlementOpt = settlementRepository.findByIdWithLock(settlementId);
+        if (settlementOpt.isEmpty()) {
+            log.warn("지급 대상 정산을 찾을 수 없습니다. Settlement ID: {}", settlementId);
+            return Optional.empty();
+        }
+
+        Settlement settlement = settlementOpt.get();
+        if (settlement.getStatus() == SettlementStatus.COMPLETED) {
+            log.info("이미 지급 완료된 정산입니다. 스킵 - Settlement ID: {}", settlementId);
+            return Optional.empty();
+        }
+        if (settlement.isProcessing() && settlement.getNextRetryAt() != null
+                && settlement.getNextRetryAt().isAfter(LocalDateTime.now())) {
+            log.info("다른 작업자가 지급 중인 정산입니다. 스킵 - Settlement ID: {}", settlementId);
+            return Optional.empty();
+        }
+
+        if (settlement.getStatus() == SettlementStatus.FAILED) {
+            log.info("정산 재시도 시작 - Settlement ID: {}, 재시도 횟수: {}/{}",
+                    settlementId, settlement.getRetryCount() + 1, maxRetryCount);
+        }
+        settlement.markProcessing(LocalDateTime.now().plusMinutes(processingLeaseMinutes));
+        publishStatusChanged(settlement);
+
+        Creator creator = settlement.getCreator();
+        String creatorName = creator.getMember() != null
+                ? creator.getMember().getNickname()
+                : "크리에이터 ID: " + creator.getId();
+
+        return Optional.of(new PayoutRequest(
+                settlement.getPayoutIdempotencyKey(),
+                settlement.getId(),
+                creator.getId(),
+                creatorName,
+                settlement.getSettlementPeriod(),
+                settlement.getPayoutAmount()
+        ));
+    }
+
+    /**
+     * 지급 완료 확정
+     */
+    @Transactional
+    public void complete(Long settlementId, String transactionId) {
+        Settlement settlement = findWithLock(settlementId);
+        if (!settlement.isProcessing()) {
+            log.info("지급 중 상태가 아니라 완료 처리 스킵 - Settlement ID: {}, status: {}", settlementId, settlement.getStatus());
+            return;
+        }
+
+        settlement.markCompleted();
+        publishStatusChanged(settlement);
+
+        log.info("크리에이터 ID {}의 정산금 지급 완료: {}원 (거래 ID: {}, 재시도 횟수: {})",
+                settlement.getCreator().getId(), settlement.getPayoutAmount(), transactionId, settlement.getRetryCount());
+    }
+
+    /**
+     * 지급 실패 확정
+     * 최대 재시도 횟수 초과 시 영구 실패 처리, 그 외에는 지수 백오프로 다음 재시도 시점 예약
+     */
+    @Transactional
+    public void fail(Long settlementId) {
+        Settlement settlement = findWithLock(settlementId);
+        if (!settlement.isProcessing()) {
+            log.info("지급 중 상태가 아니라 실패 처리 스킵 - Settlement ID: {}, status: {}", settlementId, settlement.getStatus());
+            return;
+        }
+
+        settlement.incrementRetryCount();
+        settlement.markFailed();
+        if (settlement.isMaxRetryExceeded(maxRetryCount)) {
+            log.error("최대 재시도 횟수 초과 - Settlement ID: {}, Creator ID: {}",
+                    settlement.getId(), settlement.getCreator().getId());
+            settlement.scheduleRetry(null);
+        } else {
+            settlement.scheduleRetry(nextRetryAt(settlement.getRetryCount()));
+        }
+        publishStatusChanged(settlement);
+    }
+
+    private Settlement findWithLock(Long settlementId) {
+        return settlementRepository.findByIdWithLock(settlementId)
+                .orElseThrow(() -> new IllegalArgumentException("정산을 찾을 수 없습니다. Settlement ID: " + settlementId));
+    }
+
+    // 재시도 간격: retryDelayMinutes × 2^(retryCount - 1), 최대 maxRetryDelayMinutes
+    private LocalDateTime nextRetryAt(int retryCount) {
+        long delayMinutes = (long) retryDelayMinutes << Math.min(Math.max(retryCount - 1, 0), 16);
+        return LocalDateTime.now().plusMinutes(Math.min(delayMinutes, maxRetryDelayMinutes));
+    }
+
+    // 정산 상태 변경 이벤트 발행 (통계 캐시 무효화)
+    private void publishStatusChanged(Settlement settlement) {
+        applicationEventPublisher.publishEvent(
+                SettlementStatusChangedEvent.create(settlement.getId(), settlement.getStatus())
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.backend.settlement.service;
+
+import com.example.backend.settlement.repository.SettlementRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 정산 기간 시작일/종료일 컬럼 보정
+ * 컬럼 추가 이전에 생성된 정산의 settlement_period 문자열을 애플리케이션 기동 시 날짜 컬럼으로 옮긴다.
+ * 이미 값이 있는 행은 건드리지 않으므로 여러 번 실행되어도 안전하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementPeriodBackfillService {
+
+    private final SettlementRepository settlementRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int updated = settlementRepository.backfillPeriodDates();
+        if (updated > 0) {
+            log.info("정산 기간 컬럼 보정 완료 - {}건", updated);
+        }
+    }
+}
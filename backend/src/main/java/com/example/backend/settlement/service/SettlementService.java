@@ -10,27 +10,25 @@ import com.example.backend.settlement.dto.response.SettlementStatisticsResponseD
 import com.example.backend.settlement.entity.Settlement;
 import com.example.backend.settlement.entity.SettlementDetail;
 import com.example.backend.settlement.entity.SettlementStatus;
+import com.example.backend.settlement.repository.CreatorDailyRevenueRepository;
+import com.example.backend.settlement.repository.MonthlySettlementSummary;
 import com.example.backend.settlement.repository.SettlementDetailRepository;
+import com.example.backend.settlement.repository.SettlementPaymentCount;
 import com.example.backend.settlement.repository.SettlementRepository;
+import com.example.backend.settlement.repository.SettlementStatisticsSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.example.backend.channel.entity.Channel;
-import com.example.backend.channel.repository.ChannelRepository;
-import com.example.backend.order.entity.OrderType;
 import com.example.backend.payment.entity.Payment;
-import com.example.backend.payment.entity.PaymentStatus;
-import com.example.backend.payment.repository.PaymentRepository;
-import com.example.backend.subscription.entity.SubscriptionPlan;
-import com.example.backend.subscription.repository.SubscriptionPlanRepository;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
@@ -45,9 +43,8 @@ public class SettlementService {
     private final SettlementDetailRepository settlementDetailRepository;
     private final CreatorRepository creatorRepository;
     private final SettlementPayoutService settlementPayoutService;
-    private final PaymentRepository paymentRepository;
-    private final ChannelRepository channelRepository;
-    private final SubscriptionPlanRepository subscriptionPlanRepository;
+    private final CreatorDailyRevenueRepository creatorDailyRevenueRepository;
+    private final SettlementStatisticsCache settlementStatisticsCache;
 
     @Value("${settlement.payout.max-retry-count:3}")
     private int maxRetryCount;
@@ -67,7 +64,7 @@ public class SettlementService {
                 });
 
         // 정산 목록 조회
-        List<Settlement> settlements = settlementRepository.findByCreatorIdOrderBySettlementPeriodDesc(creatorId);
+        List<Settlement> settlements = settlementRepository.findByCreatorIdOrderByPeriodStartDesc(creatorId);
 
         // DTO 변환
         return settlements.stream()
@@ -153,11 +150,25 @@ public class SettlementService {
         log.info("관리자용 정산 목록 조회 결과 - 총 {}건, 현재 페이지 {}건", 
                 settlements.getTotalElements(), settlements.getNumberOfElements());
 
+        if (settlements.isEmpty()) {
+            return settlements.map(settlement -> SettlementResponseDTO.fromForAdmin(settlement, null, 0));
+        }
+
+        // 현재 페이지 정산들의 결제 건수를 한 번의 GROUP BY 쿼리로 조회
+        List<Long> settlementIds = settlements.getContent().stream()
+                .map(Settlement::getId)
+                .collect(Collectors.toList());
+        Map<Long, Long> paymentCounts = settlementDetailRepository
+                .countPaymentsBySettlementIds(settlementIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        SettlementPaymentCount::getSettlementId,
+                        SettlementPaymentCount::getPaymentCount
+                ));
+
         // DTO 변환 (결제 내역 건수 포함, details는 null로 설정하여 성능 최적화)
         return settlements.map(settlement -> {
-            int paymentCount = settlementDetailRepository
-                    .findBySettlementIdWithPayment(settlement.getId())
-                    .size();
+            int paymentCount = paymentCounts.getOrDefault(settlement.getId(), 0L).intValue();
             return SettlementResponseDTO.fromForAdmin(settlement, null, paymentCount);
         });
     }
@@ -189,9 +200,14 @@ public class SettlementService {
 
     /**
      * 관리자용: 정산 통계 조회
+     * 대시보드 폴링 부하를 줄이기 위해 짧은 TTL 스냅샷을 사용한다.
      */
     @Transactional(readOnly = true)
     public SettlementStatisticsResponseDTO getSettlementStatistics() {
+        return settlementStatisticsCache.get(this::loadSettlementStatistics);
+    }
+
+    private SettlementStatisticsResponseDTO loadSettlementStatistics() {
         log.info("정산 통계 조회");
 
         // 이번 주 계산 (이번 주 월요일 ~ 일요일)
@@ -199,32 +215,24 @@ public class SettlementService {
         DayOfWeek todayDayOfWeek = today.getDayOfWeek();
         int daysToSubtract = todayDayOfWeek.getValue() == 1 ? 0 : todayDayOfWeek.getValue() - 1;
         LocalDate thisWeekMonday = today.minusDays(daysToSubtract);
-        LocalDate thisWeekSunday = thisWeekMonday.plusDays(6);
-        String thisWeekPeriod = thisWeekMonday.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + 
-                                "~" + 
-                                thisWeekSunday.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-
-        Long totalSettlementAmount = settlementRepository.getTotalSettlementAmount();
-        Long thisWeekSettlementAmount = settlementRepository.getThisWeekSettlementAmount(thisWeekPeriod);
-        Long readyCount = settlementRepository.countByStatus(SettlementStatus.READY);
-        Long completedCount = settlementRepository.countByStatus(SettlementStatus.COMPLETED);
-        Long failedCount = settlementRepository.countByStatus(SettlementStatus.FAILED);
-        Long retryNeededCount = settlementRepository.countRetryNeeded(maxRetryCount);
+
+        SettlementStatisticsSummary summary = settlementRepository.getStatisticsSummary(thisWeekMonday, maxRetryCount);
 
         return SettlementStatisticsResponseDTO.create(
-                totalSettlementAmount,
-                thisWeekSettlementAmount,
-                readyCount,
-                completedCount,
-                failedCount,
-                retryNeededCount
+                summary.getTotalSettlementAmount(),
+                summary.getThisWeekSettlementAmount(),
+                summary.getReadyCount(),
+                summary.getCompletedCount(),
+                summary.getFailedCount(),
+                summary.getRetryNeededCount()
         );
     }
 
     /**
      * 관리자용: 정산 재시도
+     * 지급 대행사 호출 동안 트랜잭션을 잡지 않도록 트랜잭션 밖에서 검증 후 지급 처리
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public boolean retrySettlement(Long settlementId) {
         log.info("관리자용 정산 재시도 - settlementId: {}", settlementId);
 
@@ -249,15 +257,7 @@ public class SettlementService {
         }
 
         // 재시도 처리 (관리자 수동 재시도는 대기 시간 없이 즉시 처리)
-        // SettlementPayoutService의 processPayout 메서드를 직접 호출
-        // 재시도 횟수는 이미 증가되어 있으므로, 바로 지급 처리만 수행
-        Creator creator = creatorRepository.findById(settlement.getCreator().getId())
-                .orElseThrow(() -> {
-                    log.error("크리에이터를 찾을 수 없습니다. creatorId: {}", settlement.getCreator().getId());
-                    return new BusinessException(ErrorCode.CREATOR_NOT_FOUND);
-                });
-
-        return settlementPayoutService.processPayout(settlement, creator);
+        return settlementPayoutService.processPayout(settlementId);
     }
 
     /**
@@ -276,27 +276,10 @@ public class SettlementService {
                     return new BusinessException(ErrorCode.CREATOR_NOT_FOUND);
                 });
 
-        // 이번달 1일 00:00:00 ~ 오늘 23:59:59 계산
+        // 이번달 1일 ~ 오늘 일별 매출 집계 합산 (결제 건수와 무관하게 최대 31행)
         LocalDate today = LocalDate.now();
         LocalDate thisMonthFirstDay = today.withDayOfMonth(1);
-        LocalDateTime startDateTime = thisMonthFirstDay.atStartOfDay();
-        LocalDateTime endDateTime = today.atTime(23, 59, 59);
-
-        // 이번달 PAID 결제 내역 조회 (PaymentRepository를 통해 직접 접근)
-        List<Payment> paidPayments = paymentRepository.findPaidPaymentsInPeriod(
-                PaymentStatus.PAID,
-                startDateTime,
-                endDateTime
-        );
-
-        // 크리에이터별 결제 금액 합계
-        Long totalSalesAmount = paidPayments.stream()
-                .filter(payment -> {
-                    Long paymentCreatorId = getCreatorIdFromPayment(payment);
-                    return paymentCreatorId != null && paymentCreatorId.equals(creatorId);
-                })
-                .mapToLong(Payment::getAmount)
-                .sum();
+        Long totalSalesAmount = creatorDailyRevenueRepository.sumSalesAmount(creatorId, thisMonthFirstDay, today);
 
         // 수수료(10%) 제외한 예상 수익 계산
         Long expectedRevenue = (long) (totalSalesAmount * 0.9);
@@ -324,84 +307,44 @@ public class SettlementService {
                     return new BusinessException(ErrorCode.CREATOR_NOT_FOUND);
                 });
 
-        // 최근 3개월 기간 계산 (오늘 기준 3개월 전 1일부터 오늘까지)
+        // 최근 3개월 (이번 달 포함) 첫날부터의 정산을 DB에서 월별로 집계
         LocalDate today = LocalDate.now();
-        LocalDate threeMonthsAgo = today.minusMonths(3).withDayOfMonth(1); // 3개월 전 1일
-        
-        // 최근 3개월 동안의 모든 정산 내역 조회 (주간 정산 포함)
-        List<Settlement> allSettlements = settlementRepository.findByCreatorIdOrderBySettlementPeriodDesc(creatorId);
-        
-        // 최근 3개월 기간에 속하는 정산만 필터링
-        List<Settlement> recentSettlements = allSettlements.stream()
-                .filter(settlement -> {
-                    // settlementPeriod 형식: "yyyy-MM-dd~yyyy-MM-dd"
-                    String period = settlement.getSettlementPeriod();
-                    if (period == null || !period.contains("~")) {
-                        return false;
-                    }
-                    try {
-                        String startDateStr = period.split("~")[0];
-                        LocalDate startDate = LocalDate.parse(startDateStr, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-                        return !startDate.isBefore(threeMonthsAgo);
-                    } catch (Exception e) {
-                        log.warn("정산 기간 파싱 실패 - settlementId: {}, period: {}", settlement.getId(), period);
-                        return false;
-                    }
-                })
-                .collect(Collectors.toList());
+        LocalDate fromDate = today.minusMonths(2).withDayOfMonth(1);
 
-        // 월별로 그룹화하여 집계
-        Map<String, List<Settlement>> settlementsByMonth = recentSettlements.stream()
-                .collect(Collectors.groupingBy(settlement -> {
-                    String period = settlement.getSettlementPeriod();
-                    String startDateStr = period.split("~")[0];
-                    LocalDate startDate = LocalDate.parse(startDateStr, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-                    return startDate.format(DateTimeFormatter.ofPattern("yyyy-MM"));
-                }));
-
-        // 최근 3개월 월 목록 생성 (최신순)
-        List<String> recentMonths = List.of(
-                today.format(DateTimeFormatter.ofPattern("yyyy-MM")),
-                today.minusMonths(1).format(DateTimeFormatter.ofPattern("yyyy-MM")),
-                today.minusMonths(2).format(DateTimeFormatter.ofPattern("yyyy-MM"))
-        );
-
-        // 월별로 집계하여 DTO 생성
-        List<SettlementResponseDTO> result = recentMonths.stream()
+        Map<YearMonth, MonthlySettlementSummary> summariesByMonth = settlementRepository
+                .findMonthlySummariesByCreatorId(creatorId, fromDate)
+                .stream()
+                .collect(Collectors.toMap(
+                        summary -> YearMonth.of(summary.getSettlementYear(), summary.getSettlementMonth()),
+                        summary -> summary
+                ));
+
+        // 최근 3개월 월 목록 (최신순)으로 DTO 생성, 정산 데이터가 없는 월은 제외
+        YearMonth thisMonth = YearMonth.from(today);
+        List<SettlementResponseDTO> result = List.of(thisMonth, thisMonth.minusMonths(1), thisMonth.minusMonths(2))
+                .stream()
+                .filter(summariesByMonth::containsKey)
                 .map(month -> {
-                    List<Settlement> monthSettlements = settlementsByMonth.getOrDefault(month, List.of());
-                    if (monthSettlements.isEmpty()) {
-                        return null; // 해당 월에 정산 데이터가 없으면 null 반환
+                    MonthlySettlementSummary summary = summariesByMonth.get(month);
+
+                    // COMPLETED가 하나라도 있으면 COMPLETED, 실패 건이 있으면 FAILED, 그 외 READY
+                    SettlementStatus status;
+                    if (summary.getCompletedCount() > 0) {
+                        status = SettlementStatus.COMPLETED;
+                    } else if (summary.getFailedCount() > 0) {
+                        status = SettlementStatus.FAILED;
+                    } else {
+                        status = SettlementStatus.READY;
                     }
-                    
-                    // 해당 월의 모든 정산 금액 합계
-                    Long totalSalesAmount = monthSettlements.stream()
-                            .mapToLong(Settlement::getTotalSalesAmount)
-                            .sum();
-                    Long platformFeeAmount = monthSettlements.stream()
-                            .mapToLong(Settlement::getPlatformFeeAmount)
-                            .sum();
-                    Long payoutAmount = monthSettlements.stream()
-                            .mapToLong(Settlement::getPayoutAmount)
-                            .sum();
-                    
-                    // 가장 최근 정산의 상태를 사용 (또는 COMPLETED가 있으면 COMPLETED 우선)
-                    SettlementStatus status = monthSettlements.stream()
-                            .filter(s -> s.getStatus() == SettlementStatus.COMPLETED)
-                            .findFirst()
-                            .map(Settlement::getStatus)
-                            .orElse(monthSettlements.get(0).getStatus());
-                    
-                    // 집계된 데이터로 SettlementResponseDTO 생성
+
                     return SettlementResponseDTO.fromAggregated(
-                            month,
-                            totalSalesAmount,
-                            platformFeeAmount,
-                            payoutAmount,
+                            month.format(DateTimeFormatter.ofPattern("yyyy-MM")),
+                            summary.getTotalSalesAmount(),
+                            summary.getPlatformFeeAmount(),
+                            summary.getPayoutAmount(),
                             status
                     );
                 })
-                .filter(java.util.Objects::nonNull)
                 .collect(Collectors.toList());
 
         log.info("최근 3개월 수익 조회 완료 - creatorId: {}, count: {}", creatorId, result.size());
@@ -418,13 +361,19 @@ public class SettlementService {
         log.info("결제 완료 시 정산 처리 시작 - paymentId: {}, paymentKey: {}, amount: {}", 
                 payment.getId(), payment.getPaymentKey(), payment.getAmount());
 
-        // Payment에서 Creator ID 추출
-        Long creatorId = getCreatorIdFromPayment(payment);
+        // 결제 시점에 기록된 Creator ID 사용
+        Long creatorId = payment.getCreatorId();
         if (creatorId == null) {
             log.warn("Payment ID {}에서 Creator를 찾을 수 없습니다. 정산 처리를 스킵합니다.", payment.getId());
             return;
         }
 
+        // 이미 정산에 반영된 결제 (아웃박스 재처리 등)
+        if (settlementDetailRepository.existsByPaymentId(payment.getId())) {
+            log.info("이미 정산에 반영된 결제입니다. 스킵 - paymentId: {}", payment.getId());
+            return;
+        }
+
         // 정산 기간 계산 (결제 승인일이 속한 주의 월요일~일요일)
         LocalDate paymentDate = payment.getApprovedAt() != null 
                 ? payment.getApprovedAt().toLocalDate() 
@@ -437,9 +386,7 @@ public class SettlementService {
         LocalDate weekSunday = weekMonday.plusDays(6);
         
         // 정산 기간 형식: "2024-01-01~2024-01-07"
-        String settlementPeriod = weekMonday.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + 
-                                  "~" + 
-                                  weekSunday.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        String settlementPeriod = Settlement.formatPeriod(weekMonday, weekSunday);
 
         log.info("정산 처리 - creatorId: {}, settlementPeriod: {}, paymentAmount: {}", 
                 creatorId, settlementPeriod, payment.getAmount());
@@ -453,7 +400,7 @@ public class SettlementService {
 
         // 해당 기간의 정산이 존재하는지 확인
         java.util.Optional<Settlement> existingSettlementOpt = settlementRepository
-                .findByCreatorIdAndSettlementPeriod(creatorId, settlementPeriod);
+                .findByCreatorIdAndPeriodStart(creatorId, weekMonday);
 
         Settlement settlement;
         if (existingSettlementOpt.isPresent()) {
@@ -465,7 +412,7 @@ public class SettlementService {
                     settlement.getId(), settlement.getTotalSalesAmount());
         } else {
             // 기존 정산이 없으면 새로 생성
-            settlement = Settlement.create(creator, settlementPeriod, payment.getAmount());
+            settlement = Settlement.create(creator, weekMonday, weekSunday, payment.getAmount());
             settlement = settlementRepository.save(settlement);
             log.info("새 정산 생성 - settlementId: {}, 총 매출: {}", 
                     settlement.getId(), settlement.getTotalSalesAmount());
@@ -481,6 +428,9 @@ public class SettlementService {
             settlementDetailRepository.save(settlementDetail);
             log.info("정산 상세 내역 추가 - settlementDetailId: {}, paymentId: {}", 
                     settlementDetail.getId(), payment.getId());
+
+            // 일별 매출 집계 증가
+            creatorDailyRevenueRepository.addRevenue(creatorId, paymentDate, payment.getAmount(), 1L);
         } else {
             log.info("정산 상세 내역이 이미 존재합니다. 스킵 - paymentId: {}", payment.getId());
         }
@@ -490,58 +440,40 @@ public class SettlementService {
     }
 
     /**
-     * Payment에서 Creator ID를 추출
-     * Order -> Subscription/Content -> Channel -> Creator
+     * 크리에이터 일별 매출 집계 재계산
+     * PAID 결제 내역을 크리에이터/일자별로 다시 합산해 절대값으로 덮어쓰고, PAID 결제가 없어진 행만 0으로 맞춘다.
+     * 먼저 초기화하지 않으므로 재집계 도중에도 집계 행이 0으로 보이지 않는다.
+     * @param startDate 시작일
+     * @param endDate 종료일 (포함)
      */
-    private Long getCreatorIdFromPayment(Payment payment) {
-        if (payment.getOrder() == null) {
-            return null;
-        }
-
-        var order = payment.getOrder();
-
-        // OrderType이 SUBSCRIPTION인 경우
-        if (order.getOrderType() == OrderType.SUBSCRIPTION) {
-            // 먼저 subscription이 연결되어 있는지 확인
-            if (order.getSubscription() != null) {
-                Long channelId = order.getSubscription().getChannelId();
-                Channel channel = channelRepository.findById(channelId).orElse(null);
-                if (channel != null) {
-                    return channel.getCreatorId();
-                }
-            }
-            // subscription이 아직 연결되지 않은 경우 planId를 통해 조회
-            if (order.getPlanId() != null) {
-                SubscriptionPlan plan = subscriptionPlanRepository.findById(order.getPlanId()).orElse(null);
-                if (plan != null) {
-                    Channel channel = channelRepository.findById(plan.getChannelId()).orElse(null);
-                    if (channel != null) {
-                        return channel.getCreatorId();
-                    }
-                }
-            }
-        }
-
-        // OrderType이 CONTENT인 경우
-        if (order.getOrderType() == OrderType.CONTENT) {
-            if (order.getContent() != null && order.getContent().getChannel() != null) {
-                return order.getContent().getChannel().getCreatorId();
-            }
-        }
+    @Transactional
+    public void rebuildDailyRevenue(LocalDate startDate, LocalDate endDate) {
+        int rebuiltCount = creatorDailyRevenueRepository.rebuildFromPayments(
+                startDate.atStartOfDay(),
+                endDate.plusDays(1).atStartOfDay()
+        );
+        int resetCount = creatorDailyRevenueRepository.resetWithoutPayments(startDate, endDate);
 
-        return null;
+        log.info("크리에이터 일별 매출 집계 재계산 완료 - 기간: {} ~ {}, 재집계: {}건, 초기화: {}건",
+                startDate, endDate, rebuiltCount, resetCount);
     }
 
     /**
      * 결제 취소 시 정산 처리
      * - 정산 처리 전 취소: SettlementDetail 삭제, Settlement 금액 차감
      * - 정산 처리 후 취소: 다음 주차 정산 금액에서 차감
+     * - 지급 중(PROCESSING) 취소: 지급 요청에 이미 기존 금액이 실렸으므로 처리 후 취소와 같이 다음 주차에서 차감
+     * 지급 시작/확정과 같은 정산 행 잠금을 먼저 잡아 지급 상태가 바뀌는 도중에 금액을 바꾸지 않는다.
      * @param payment 취소된 결제
      */
     @Transactional
     public void handleCancelledPayment(Payment payment) {
         log.info("결제 취소로 인한 정산 처리 시작 - paymentId: {}", payment.getId());
 
+        // 정산 행 잠금 (ID 순서로 잠가 교착 방지, 잠금 조회로 최신 상태를 읽은 뒤 상세 내역 조회)
+        settlementDetailRepository.findSettlementIdsByPaymentId(payment.getId())
+                .forEach(settlementRepository::findByIdWithLock);
+
         // 해당 결제가 포함된 정산 상세 내역 조회
         List<SettlementDetail> settlementDetails = settlementDetailRepository.findByPaymentId(payment.getId());
 
@@ -552,6 +484,14 @@ public class SettlementService {
 
         log.info("결제 ID {}에 대한 정산 상세 내역 수: {}건", payment.getId(), settlementDetails.size());
 
+        // 일별 매출 집계 차감 (결제 완료 시 증가시킨 승인일 기준)
+        if (payment.getCreatorId() != null) {
+            LocalDate paymentDate = payment.getApprovedAt() != null
+                    ? payment.getApprovedAt().toLocalDate()
+                    : LocalDate.now();
+            creatorDailyRevenueRepository.addRevenue(payment.getCreatorId(), paymentDate, -payment.getAmount(), -1L);
+        }
+
         // 각 정산 상세 내역에 대해 정산 금액 조정
         for (SettlementDetail detail : settlementDetails) {
             Settlement settlement = detail.getSettlement();
@@ -561,8 +501,8 @@ public class SettlementService {
                     settlement.getId(), settlement.getStatus(), cancelledAmount);
 
             // 정산 상태에 따라 처리 분기
-            if (settlement.getStatus() == SettlementStatus.COMPLETED) {
-                // 정산 처리 후 취소: 다음 주차 정산 금액에서 차감
+            if (settlement.getStatus() == SettlementStatus.COMPLETED || settlement.isProcessing()) {
+                // 정산 처리 후(또는 지급 중) 취소: 다음 주차 정산 금액에서 차감
                 handlePostSettlementCancellation(settlement, cancelledAmount, payment);
             } else {
                 // 정산 처리 전 취소: SettlementDetail 삭제, Settlement 금액 차감
@@ -605,16 +545,14 @@ public class SettlementService {
         LocalDate nextWeekSunday = nextWeekMonday.plusDays(6);
         
         // 다음 주차 정산 기간 형식: "2024-01-08~2024-01-14"
-        String nextWeekPeriod = nextWeekMonday.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + 
-                               "~" + 
-                               nextWeekSunday.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        String nextWeekPeriod = Settlement.formatPeriod(nextWeekMonday, nextWeekSunday);
 
         log.info("다음 주차 정산 기간: {}", nextWeekPeriod);
 
         // 다음 주차 정산 조회 또는 생성
         Long creatorId = completedSettlement.getCreator().getId();
         java.util.Optional<Settlement> nextWeekSettlementOpt = settlementRepository
-                .findByCreatorIdAndSettlementPeriod(creatorId, nextWeekPeriod);
+                .findByCreatorIdAndPeriodStart(creatorId, nextWeekMonday);
 
         Settlement nextWeekSettlement;
         if (nextWeekSettlementOpt.isPresent()) {
@@ -636,7 +574,7 @@ public class SettlementService {
             // 차감 금액을 반영하여 다음 주차 정산 생성
             // totalSalesAmount가 음수가 될 수 있지만, 다음 주차에 다른 결제가 있으면 자동으로 상쇄됨
             Long initialAmount = -cancelledAmount;
-            nextWeekSettlement = Settlement.create(creator, nextWeekPeriod, initialAmount);
+            nextWeekSettlement = Settlement.create(creator, nextWeekMonday, nextWeekSunday, initialAmount);
             nextWeekSettlement = settlementRepository.save(nextWeekSettlement);
             log.info("다음 주차 정산 생성 (차감 금액 반영) - Settlement ID: {}, 총 매출: {}, 실 지급 금액: {}",
                     nextWeekSettlement.getId(), nextWeekSettlement.getTotalSalesAmount(), nextWeekSettlement.getPayoutAmount());
@@ -0,0 +1,78 @@
+package com.example.backend.settlement.service;
+
+import com.example.backend.settlement.dto.response.SettlementStatisticsResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 관리자 대시보드용 정산 통계 스냅샷
+ * 짧은 TTL 동안 집계 결과를 재사용하고, 정산 상태가 바뀌면(SettlementStatusChangedEvent) 즉시 무효화한다.
+ * 스냅샷은 노드별로 들고 있으므로 무효화 시 Redis 채널로 다른 노드에도 알린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementStatisticsCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "settlement:statistics:invalidate";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${settlement.statistics.cache-ttl-seconds:10}")
+    private long ttlSeconds;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    // 무효화 세대 번호: 집계 도중 무효화가 일어나면 그 결과는 저장하지 않는다.
+    private final AtomicLong generation = new AtomicLong();
+
+    public SettlementStatisticsResponseDTO get(Supplier<SettlementStatisticsResponseDTO> loader) {
+        long now = System.currentTimeMillis();
+        Snapshot current = snapshot.get();
+        if (current != null && current.expiresAt() > now) {
+            return current.value();
+        }
+
+        long loadGeneration = generation.get();
+        SettlementStatisticsResponseDTO value = loader.get();
+        if (generation.get() == loadGeneration) {
+            snapshot.set(new Snapshot(value, now + ttlSeconds * 1000));
+        }
+        return value;
+    }
+
+    /**
+     * 캐시 무효화 (이 노드 + 다른 노드)
+     */
+    public void invalidate() {
+        invalidateLocal();
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, "all");
+        } catch (Exception e) {
+            // 다른 노드는 TTL 만료 후 갱신됨
+            log.warn("정산 통계 캐시 무효화 메시지 발행 실패 - error={}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        invalidateLocal();
+    }
+
+    private void invalidateLocal() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    private record Snapshot(SettlementStatisticsResponseDTO value, long expiresAt) {
+    }
+}
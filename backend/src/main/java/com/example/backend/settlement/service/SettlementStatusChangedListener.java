@@ -0,0 +1,24 @@
+package com.example.backend.settlement.service;
+
+import com.example.backend.settlement.dto.event.SettlementStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SettlementStatusChangedListener {
+
+    private final SettlementStatisticsCache settlementStatisticsCache;
+
+    // 커밋된 상태 변경만 반영 (트랜잭션 밖에서 발행된 경우에도 실행)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(SettlementStatusChangedEvent event) {
+        settlementStatisticsCache.invalidate();
+
+        log.debug("정산 통계 캐시 무효화 - settlementId={}, status={}", event.getSettlementId(), event.getStatus());
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.backend.subscription.batch;
 
+import com.example.backend.channel.repository.ChannelRepository;
+import com.example.backend.entitlement.dto.event.EntitlementChangedEvent;
 import com.example.backend.subscription.entity.Subscription;
 import com.example.backend.subscription.entity.SubscriptionStatus;
 import jakarta.persistence.EntityManagerFactory;
@@ -16,12 +18,15 @@ import org.springframework.batch.item.database.JpaItemWriter;
 import org.springframework.batch.item.database.JpaPagingItemReader;
 import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
 import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Configuration
@@ -32,6 +37,8 @@ public class ExpiredSubscriptionBatchJob {
     private final PlatformTransactionManager transactionManager;
     private final EntityManagerFactory entityManagerFactory;
     private final ExpireSubscriptionProcessor expireSubscriptionProcessor;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ChannelRepository channelRepository;
 
     @Bean
     public Job expiredSubscriptionsJob() {
@@ -69,10 +76,27 @@ public class ExpiredSubscriptionBatchJob {
                 .build();
     }
 
+    // 만료 상태 저장과 같은 chunk 트랜잭션에서 채널별 구독자 수를 감소시키고,
+    // chunk 커밋 후 만료된 회원들의 접근 권한 캐시를 한 번에 무효화
     @Bean
     public ItemWriter<Subscription> expiredSubscriptionWriter() {
-        return new JpaItemWriterBuilder<Subscription>()
+        JpaItemWriter<Subscription> jpaItemWriter = new JpaItemWriterBuilder<Subscription>()
                 .entityManagerFactory(entityManagerFactory)
                 .build();
+
+        return chunk -> {
+            jpaItemWriter.write(chunk);
+
+            Map<Long, Long> expiredCountByChannel = chunk.getItems().stream()
+                    .collect(Collectors.groupingBy(Subscription::getChannelId, Collectors.counting()));
+            expiredCountByChannel.forEach((channelId, count) ->
+                    channelRepository.decreaseSubscriberCount(channelId, count.intValue()));
+
+            List<Long> memberIds = chunk.getItems().stream()
+                    .map(Subscription::getMemberId)
+                    .distinct()
+                    .toList();
+            applicationEventPublisher.publishEvent(EntitlementChangedEvent.create(memberIds));
+        };
     }
 }
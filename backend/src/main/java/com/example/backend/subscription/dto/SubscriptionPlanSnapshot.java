@@ -0,0 +1,26 @@
+package com.example.backend.subscription.dto;
+
+import com.example.backend.subscription.entity.PlanType;
+import com.example.backend.subscription.entity.SubscriptionPlan;
+
+/**
+ * 구독 플랜 캐시 값
+ */
+public record SubscriptionPlanSnapshot(
+        Long id,
+        Long channelId,
+        PlanType planType,
+        int price,
+        boolean active
+) {
+
+    public static SubscriptionPlanSnapshot from(SubscriptionPlan plan) {
+        return new SubscriptionPlanSnapshot(
+                plan.getId(),
+                plan.getChannelId(),
+                plan.getPlanType(),
+                plan.getPrice(),
+                plan.isActive()
+        );
+    }
+}
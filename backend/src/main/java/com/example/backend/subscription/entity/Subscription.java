@@ -11,7 +11,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "subscriptions")
+@Table(name = "subscriptions",
+        indexes = @Index(name = "idx_subscription_channel_status_member", columnList = "channel_id, status, member_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Subscription {
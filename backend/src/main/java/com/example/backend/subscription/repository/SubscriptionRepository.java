@@ -2,6 +2,7 @@ package com.example.backend.subscription.repository;
 
 import com.example.backend.subscription.entity.Subscription;
 import com.example.backend.subscription.entity.SubscriptionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,6 +14,13 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
     boolean existsByMemberIdAndChannelIdAndStatus(Long memberId, Long channelId, SubscriptionStatus status);
     List<Subscription> findByMemberIdOrderByStartedAtDesc(Long memberId);
     List<Subscription> findByChannelIdAndStatus(Long channelId, SubscriptionStatus status);
+    // 회원의 구독 채널 ID 목록 (접근 권한 캐시 적재용)
+    @Query("select distinct s.channelId from Subscription s where s.memberId = :memberId and s.status = :status")
+    List<Long> findChannelIdsByMemberIdAndStatus(
+            @Param("memberId") Long memberId,
+            @Param("status") SubscriptionStatus status
+    );
+
     List<Subscription> findByStatusAndExpiredAtBefore(SubscriptionStatus status, LocalDateTime expiredAt);
 
     @Query("SELECT s FROM Subscription s WHERE s.status = :status AND s.expiredAt <= :expiredAt")
@@ -20,4 +28,20 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
             @Param("status") SubscriptionStatus status,
             @Param("expiredAt") LocalDateTime expiredAt
     );
+
+    // 채널의 구독자 회원 ID를 회원 ID 순으로 lastMemberId 이후부터 조회 (알림 fan-out용 keyset 페이지)
+    @Query("""
+        select distinct s.memberId
+        from Subscription s
+        where s.channelId = :channelId
+        and s.status = :status
+        and s.memberId > :lastMemberId
+        order by s.memberId
+    """)
+    List<Long> findActiveMemberIdsByChannelIdAfter(
+            @Param("channelId") Long channelId,
+            @Param("status") SubscriptionStatus status,
+            @Param("lastMemberId") Long lastMemberId,
+            Pageable pageable
+    );
 }
@@ -0,0 +1,34 @@
+package com.example.backend.subscription.service;
+
+import com.example.backend.global.cache.CacheRegion;
+import com.example.backend.global.cache.CacheRegionManager;
+import com.example.backend.subscription.dto.SubscriptionPlanSnapshot;
+import com.example.backend.subscription.repository.SubscriptionPlanRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * 구독 플랜 조회 캐시
+ * 가격 변경, 활성/비활성 전환 시 evict로 무효화한다.
+ */
+@Service
+public class SubscriptionPlanCacheService {
+
+    private final SubscriptionPlanRepository subscriptionPlanRepository;
+    private final CacheRegion<SubscriptionPlanSnapshot> plans;
+
+    public SubscriptionPlanCacheService(SubscriptionPlanRepository subscriptionPlanRepository,
+                                        CacheRegionManager cacheRegionManager) {
+        this.subscriptionPlanRepository = subscriptionPlanRepository;
+        this.plans = cacheRegionManager.register("subscription-plan", SubscriptionPlanSnapshot.class);
+    }
+
+    public Optional<SubscriptionPlanSnapshot> findById(Long planId) {
+        return plans.get(planId, id -> subscriptionPlanRepository.findById(id).map(SubscriptionPlanSnapshot::from));
+    }
+
+    public void evict(Long planId) {
+        plans.evict(planId);
+    }
+}
@@ -26,6 +26,7 @@ public class SubscriptionPlanService {
     private final ChannelValidator channelValidator;
     private final MemberRepository memberRepository;
     private final CreatorRepository creatorRepository;
+    private final SubscriptionPlanCacheService subscriptionPlanCacheService;
 
     @Transactional
     public Long createPlan(Long memberId, Long channelId, PlanType planType, int price) {
@@ -105,5 +106,6 @@ public class SubscriptionPlanService {
                 plan.deactivate();
             }
         }
+        subscriptionPlanCacheService.evict(planId);
     }
 }
@@ -1,19 +1,20 @@
 package com.example.backend.subscription.service;
 
 import com.example.backend.channel.repository.ChannelRepository;
+import com.example.backend.entitlement.dto.event.EntitlementChangedEvent;
 import com.example.backend.global.exception.BusinessException;
 import com.example.backend.global.exception.ErrorCode;
 import com.example.backend.order.entity.Order;
 import com.example.backend.order.service.OrderService;
 import com.example.backend.payment.service.PaymentService;
+import com.example.backend.subscription.dto.SubscriptionPlanSnapshot;
 import com.example.backend.subscription.dto.response.SubscriptionResponse;
 import com.example.backend.subscription.entity.PlanType;
 import com.example.backend.subscription.entity.Subscription;
-import com.example.backend.subscription.entity.SubscriptionPlan;
 import com.example.backend.subscription.entity.SubscriptionStatus;
-import com.example.backend.subscription.repository.SubscriptionPlanRepository;
 import com.example.backend.subscription.repository.SubscriptionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,27 +27,33 @@ import java.util.Optional;
 @Transactional
 public class SubscriptionService {
     private final SubscriptionRepository subscriptionRepository;
-    private final SubscriptionPlanRepository subscriptionPlanRepository;
+    private final SubscriptionPlanCacheService subscriptionPlanCacheService;
     private final ChannelRepository channelRepository;
     private final OrderService orderService;
     private final PaymentService paymentService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public Long subscribe(Long memberId, Long channelId, Long planId) {
         if(subscriptionRepository.existsByMemberIdAndChannelIdAndStatus(memberId, channelId, SubscriptionStatus.ACTIVE)) {
             throw new BusinessException(ErrorCode.DUPLICATE_ACTIVE_SUBSCRIPTION);
         }
 
-        SubscriptionPlan plan = subscriptionPlanRepository.findById(planId).orElseThrow(() -> new BusinessException(ErrorCode.SUBSCRIPTION_PLAN_NOT_FOUND));
+        SubscriptionPlanSnapshot plan = subscriptionPlanCacheService.findById(planId).orElseThrow(() -> new BusinessException(ErrorCode.SUBSCRIPTION_PLAN_NOT_FOUND));
 
-        if(!plan.isActive()) {
+        if(!plan.active()) {
             throw new BusinessException(ErrorCode.INACTIVE_SUBSCRIPTION_PLAN);
         }
 
         LocalDateTime startedAt = LocalDateTime.now();
-        LocalDateTime expiredAt = calculateExpiredAt(startedAt, plan.getPlanType());
+        LocalDateTime expiredAt = calculateExpiredAt(startedAt, plan.planType());
         Subscription subscription = Subscription.active(memberId, channelId, planId, startedAt, expiredAt);
 
-        return subscriptionRepository.save(subscription).getId();
+        Long subscriptionId = subscriptionRepository.save(subscription).getId();
+        channelRepository.increaseSubscriberCount(channelId);
+
+        // 구독 시작 → 접근 권한 캐시 갱신
+        applicationEventPublisher.publishEvent(EntitlementChangedEvent.create(memberId));
+        return subscriptionId;
     }
 
     @Transactional(readOnly = true)
@@ -81,7 +88,7 @@ public class SubscriptionService {
         }
 
         // 구독 플랜 정보 가져오기
-        SubscriptionPlan plan = subscriptionPlanRepository.findById(subscription.getPlanId())
+        SubscriptionPlanSnapshot plan = subscriptionPlanCacheService.findById(subscription.getPlanId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.SUBSCRIPTION_PLAN_NOT_FOUND));
         
         // 구독 시작 후 3일 이내인지 확인
@@ -90,12 +97,13 @@ public class SubscriptionService {
         long daysSinceStart = java.time.Duration.between(startedAt, now).toDays();
         
         // 구독 플랜 ID와 회원 ID로 3일 이내 Paid 상태인 주문 찾기
-        Optional<Order> orderOpt = orderService.findPaidOrderWithin3DaysByPlanId(plan.getId(), memberId, startedAt);
+        Optional<Order> orderOpt = orderService.findPaidOrderWithin3DaysByPlanId(plan.id(), memberId, startedAt);
         
         if (daysSinceStart <= 3) {
             // 3일 이내: 구독 취소, 결제 취소, 주문 취소
             subscription.cancel();
             subscriptionRepository.save(subscription);
+            channelRepository.decreaseSubscriberCount(subscription.getChannelId(), 1);
             
             if (orderOpt.isPresent()) {
                 Order order = orderOpt.get();
@@ -104,11 +112,12 @@ public class SubscriptionService {
             }
         } else {
             // 3일 이후
-            if (plan.getPlanType() == PlanType.MONTHLY) {
+            if (plan.planType() == PlanType.MONTHLY) {
                 // 월간 구독: 취소 불가
                 throw new BusinessException(ErrorCode.MONTHLY_SUBSCRIPTION_CANCEL_PERIOD_EXPIRED);
             } else {
                 // 연간 구독: 시작일로부터 1개월 후로 만료일 설정하고 결제 취소
+                // (ACTIVE 상태가 유지되므로 구독자 수는 만료 배치에서 감소)
                 subscription.cancelWithExtendedExpiry();
                 subscriptionRepository.save(subscription);
                 
@@ -119,6 +128,9 @@ public class SubscriptionService {
                 }
             }
         }
+
+        // 구독 취소 → 접근 권한 캐시 갱신
+        applicationEventPublisher.publishEvent(EntitlementChangedEvent.create(memberId));
     }
 
     @Transactional(readOnly = true)
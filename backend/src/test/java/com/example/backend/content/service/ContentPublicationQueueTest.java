@@ -0,0 +1,106 @@
+package com.example.backend.content.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("예약 발행 지연 큐 테스트")
+class ContentPublicationQueueTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @InjectMocks
+    private ContentPublicationQueue contentPublicationQueue;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        setField("tickMillis", 1000L);
+        setField("horizonSeconds", 60L);
+        setField("batchSize", 500);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("만기된 예약은 선점에 성공한 한 번만 반환되고, 다음 호출에서는 다시 선점하지 않는다")
+    void claimsOnce() {
+        // given
+        contentPublicationQueue.enqueue(1L, LocalDateTime.now().minusSeconds(1));
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of("1"));
+
+        // when
+        List<Long> first = contentPublicationQueue.pollDue();
+        List<Long> second = contentPublicationQueue.pollDue();
+
+        // then
+        assertThat(first).containsExactly(1L);
+        assertThat(second).isEmpty();
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 선점한 예약은 반환하지 않는다")
+    void claimedByOtherNode() {
+        // given
+        contentPublicationQueue.enqueue(1L, LocalDateTime.now().minusSeconds(1));
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of());
+
+        // when & then
+        assertThat(contentPublicationQueue.pollDue()).isEmpty();
+        assertThat(contentPublicationQueue.pollDue()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("선점 중 Redis 오류가 나면 반환하지 않고 잠시 후 다시 시도하도록 남겨 둔다")
+    void keepsItemWhenClaimFails() {
+        // given
+        contentPublicationQueue.enqueue(1L, LocalDateTime.now().minusSeconds(1));
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new IllegalStateException("redis down"));
+
+        // when & then
+        assertThat(contentPublicationQueue.pollDue()).isEmpty();
+        // 재시도는 5초 뒤이므로 바로 다시 호출하면 선점을 시도하지 않음
+        assertThat(contentPublicationQueue.pollDue()).isEmpty();
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("아직 만기되지 않은 예약은 선점을 시도하지 않는다")
+    void notDueYet() {
+        // given
+        contentPublicationQueue.enqueue(1L, LocalDateTime.now().plusSeconds(30));
+
+        // when & then
+        assertThat(contentPublicationQueue.pollDue()).isEmpty();
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = ContentPublicationQueue.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(contentPublicationQueue, value);
+    }
+}
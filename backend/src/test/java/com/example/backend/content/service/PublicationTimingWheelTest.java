@@ -0,0 +1,69 @@
+package com.example.backend.content.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("예약 발행 타이밍 휠 테스트")
+class PublicationTimingWheelTest {
+
+    private static final long TICK = 1000;
+
+    @Test
+    @DisplayName("tick 중간에 만기되는 항목은 같은 tick 안의 다음 호출에서 꺼내진다")
+    void expiresMidTick() {
+        PublicationTimingWheel wheel = new PublicationTimingWheel(TICK, 64, 0);
+        wheel.add(1L, 1500);
+
+        assertThat(wheel.advance(1200)).isEmpty();
+        assertThat(wheel.advance(1600)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 먼 항목은 같은 슬롯을 지나도 만기 전에는 꺼내지지 않는다")
+    void wrapsAround() {
+        PublicationTimingWheel wheel = new PublicationTimingWheel(TICK, 4, 0);
+        wheel.add(1L, 5500);
+
+        // 5500ms는 1번 슬롯 (1000ms와 같은 슬롯)
+        assertThat(wheel.advance(1600)).isEmpty();
+        assertThat(wheel.advance(4900)).isEmpty();
+        assertThat(wheel.advance(5600)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("오래 호출되지 않았다면 밀린 슬롯의 만기 항목을 한 번에 꺼낸다")
+    void catchesUpAfterPause() {
+        PublicationTimingWheel wheel = new PublicationTimingWheel(TICK, 4, 0);
+        wheel.add(1L, 1000);
+        wheel.add(2L, 2500);
+        wheel.add(3L, 20000);
+
+        assertThat(wheel.advance(10000)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각으로 넣은 항목은 다음 호출에서 바로 꺼내진다")
+    void overdueItem() {
+        PublicationTimingWheel wheel = new PublicationTimingWheel(TICK, 64, 10000);
+        wheel.add(1L, 3000);
+
+        assertThat(wheel.advance(10100)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("발행 시각이 바뀐 항목은 새 시각에 한 번만 꺼내진다")
+    void rescheduled() {
+        PublicationTimingWheel wheel = new PublicationTimingWheel(TICK, 64, 0);
+        wheel.add(1L, 1500);
+        wheel.add(1L, 3500);
+
+        assertThat(wheel.advance(2000)).isEmpty();
+        assertThat(wheel.advance(3600)).containsExactly(1L);
+        assertThat(wheel.advance(10000)).isEmpty();
+    }
+}
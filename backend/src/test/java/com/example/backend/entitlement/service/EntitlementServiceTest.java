@@ -0,0 +1,92 @@
+package com.example.backend.entitlement.service;
+
+import com.example.backend.channel.entity.Channel;
+import com.example.backend.channel.entity.ChannelCategory;
+import com.example.backend.content.entity.AccessType;
+import com.example.backend.content.entity.Content;
+import com.example.backend.creator.dto.CreatorSnapshot;
+import com.example.backend.creator.entity.CreatorStatus;
+import com.example.backend.creator.service.CreatorCacheService;
+import com.example.backend.order.repository.OrderRepository;
+import com.example.backend.subscription.repository.SubscriptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("콘텐츠 접근 권한 테스트")
+class EntitlementServiceTest {
+
+    private static final Long CREATOR_ID = 3L;
+    private static final Long CREATOR_MEMBER_ID = 7L;
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private CreatorCacheService creatorCacheService;
+
+    @InjectMocks
+    private EntitlementService entitlementService;
+
+    private Content content;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        setField("ttlSeconds", 300L);
+        setField("maxSize", 100);
+
+        Channel channel = Channel.create(CREATOR_ID, "테스트 채널", "테스트 설명", ChannelCategory.EDUCATION);
+        Field channelId = Channel.class.getDeclaredField("id");
+        channelId.setAccessible(true);
+        channelId.set(channel, 10L);
+        content = mock(Content.class);
+        lenient().when(content.getId()).thenReturn(100L);
+        when(content.getAccessType()).thenReturn(AccessType.SUBSCRIBER_ONLY);
+        when(content.getChannel()).thenReturn(channel);
+
+        when(creatorCacheService.findById(CREATOR_ID)).thenReturn(Optional.of(
+                new CreatorSnapshot(CREATOR_ID, CREATOR_MEMBER_ID, "크리에이터", CreatorStatus.ACTIVE)));
+        lenient().when(subscriptionRepository.findChannelIdsByMemberIdAndStatus(anyLong(), any())).thenReturn(List.of());
+        lenient().when(orderRepository.findContentIdsByMemberIdAndOrderTypeAndStatus(anyLong(), any(), any()))
+                .thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("크리에이터 본인(회원 ID 기준)은 구독 없이도 자신의 유료 콘텐츠에 접근할 수 있다")
+    void ownerCanAccess() {
+        assertThat(entitlementService.canAccess(CREATOR_MEMBER_ID, content)).isTrue();
+    }
+
+    @Test
+    @DisplayName("회원 ID가 크리에이터 ID와 같을 뿐인 다른 회원은 접근할 수 없다")
+    void memberIdEqualToCreatorIdIsNotOwner() {
+        assertThat(entitlementService.canAccess(CREATOR_ID, content)).isFalse();
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = EntitlementService.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(entitlementService, value);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.backend.payment.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로컬 토스 페이먼츠 서버 (부하 테스트 / CI용)
+ * 실제 HTTP 서버로 동작하므로 TossPaymentClient의 커넥션 재사용, 타임아웃, 호출 차단기까지 그대로 시험할 수 있다.
+ * - POST /v1/payments/confirm: 승인 (같은 paymentKey 재승인 시 ALREADY_PROCESSED_PAYMENT)
+ * - GET /v1/payments/{paymentKey}: 조회 (없으면 404 NOT_FOUND_PAYMENT)
+ * 지연(latencyMs)과 승인 거절 비율(rejectRate), 서버 오류 비율(errorRate)을 설정할 수 있다.
+ */
+@Slf4j
+public class FakeTossServer {
+
+    private static final String PAYMENTS_PATH = "/v1/payments/";
+
+    private final int port;
+    private final long latencyMs;
+    private final double rejectRate;
+    private final double errorRate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Map<String, Object>> payments = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+    private ExecutorService executorService;
+
+    /**
+     * @param port 0이면 빈 포트 사용 (getBaseUrl로 확인)
+     */
+    public FakeTossServer(int port, long latencyMs, double rejectRate, double errorRate) {
+        this.port = port;
+        this.latencyMs = latencyMs;
+        this.rejectRate = rejectRate;
+        this.errorRate = errorRate;
+    }
+
+    public void start() throws IOException {
+        executorService = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.setExecutor(executorService);
+        server.createContext("/v1/payments", this::handle);
+        server.start();
+        log.info("로컬 토스 페이먼츠 서버 시작 - {}", getBaseUrl());
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executorService.shutdown();
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            if (authorization == null || !authorization.startsWith("Basic ")) {
+                sendError(exchange, 401, "UNAUTHORIZED_KEY", "인증되지 않은 시크릿 키 혹은 클라이언트 키 입니다.");
+                return;
+            }
+
+            if (latencyMs > 0) {
+                Thread.sleep(latencyMs);
+            }
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                sendError(exchange, 500, "FAILED_INTERNAL_SYSTEM_PROCESSING", "로컬 토스 서버 오류 (error-rate: " + errorRate + ")");
+                return;
+            }
+
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            if ("POST".equals(method) && path.equals(PAYMENTS_PATH + "confirm")) {
+                confirm(exchange);
+            } else if ("GET".equals(method) && path.startsWith(PAYMENTS_PATH)) {
+                lookup(exchange, path.substring(PAYMENTS_PATH.length()));
+            } else {
+                sendError(exchange, 404, "NOT_FOUND", "존재하지 않는 API 입니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void confirm(HttpExchange exchange) throws IOException {
+        Map<?, ?> request;
+        try (InputStream body = exchange.getRequestBody()) {
+            request = objectMapper.readValue(body, Map.class);
+        }
+        String paymentKey = String.valueOf(request.get("paymentKey"));
+
+        if (payments.containsKey(paymentKey)) {
+            sendError(exchange, 400, "ALREADY_PROCESSED_PAYMENT", "이미 처리된 결제 입니다.");
+            return;
+        }
+        if (rejectRate > 0 && ThreadLocalRandom.current().nextDouble() < rejectRate) {
+            sendError(exchange, 400, "REJECT_CARD_PAYMENT", "한도초과 혹은 잔액부족으로 결제에 실패했습니다.");
+            return;
+        }
+
+        String now = OffsetDateTime.now().truncatedTo(ChronoUnit.SECONDS).toString();
+        Map<String, Object> payment = new LinkedHashMap<>();
+        payment.put("paymentKey", paymentKey);
+        payment.put("orderId", request.get("orderId"));
+        payment.put("orderName", "로컬 결제");
+        payment.put("status", "DONE");
+        payment.put("totalAmount", request.get("amount"));
+        payment.put("method", "카드");
+        payment.put("requestedAt", now);
+        payment.put("approvedAt", now);
+
+        if (payments.putIfAbsent(paymentKey, payment) != null) {
+            sendError(exchange, 400, "ALREADY_PROCESSED_PAYMENT", "이미 처리된 결제 입니다.");
+            return;
+        }
+        send(exchange, 200, payment);
+    }
+
+    private void lookup(HttpExchange exchange, String paymentKey) throws IOException {
+        Map<String, Object> payment = payments.get(paymentKey);
+        if (payment == null) {
+            sendError(exchange, 404, "NOT_FOUND_PAYMENT", "존재하지 않는 결제 정보 입니다.");
+            return;
+        }
+        send(exchange, 200, payment);
+    }
+
+    private void sendError(HttpExchange exchange, int status, String code, String message) throws IOException {
+        send(exchange, status, Map.of("code", code, "message", message));
+    }
+
+    private void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.backend.payment.client;
+
+import com.example.backend.global.exception.BusinessException;
+import com.example.backend.global.exception.ErrorCode;
+import com.example.backend.global.resilience.CircuitBreaker;
+import com.example.backend.payment.config.PaymentConfig;
+import com.example.backend.payment.dto.TossPaymentConfirmRequestDTO;
+import com.example.backend.payment.dto.TossPaymentConfirmResponseDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("토스 페이먼츠 클라이언트 테스트 (로컬 토스 서버)")
+class TossPaymentClientTest {
+
+    private FakeTossServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("승인 후 조회하면 DONE 상태이고, 같은 paymentKey 재승인은 4xx로 거절된다")
+    void confirmAndLookup() throws Exception {
+        TossPaymentClient client = startClient(0.0, circuitBreaker());
+
+        TossPaymentConfirmResponseDTO confirmed = client.confirmPayment(request("pk-1", "ORDER-1", 10000L));
+        assertThat(confirmed.getStatus()).isEqualTo("DONE");
+        assertThat(confirmed.getTotalAmount()).isEqualTo(10000L);
+
+        assertThat(client.getPayment("pk-1").getStatus()).isEqualTo("DONE");
+
+        assertThatThrownBy(() -> client.confirmPayment(request("pk-1", "ORDER-1", 10000L)))
+                .hasCauseInstanceOf(HttpClientErrorException.class);
+    }
+
+    @Test
+    @DisplayName("토스 서버 오류가 이어지면 차단기가 열려 요청을 보내지 않고 거절한다")
+    void circuitOpensOnServerErrors() throws Exception {
+        CircuitBreaker circuitBreaker = circuitBreaker();
+        TossPaymentClient client = startClient(1.0, circuitBreaker);
+
+        for (int i = 0; i < 4; i++) {
+            String paymentKey = "pk-" + i;
+            assertThatThrownBy(() -> client.confirmPayment(request(paymentKey, "ORDER-" + paymentKey, 1000L)))
+                    .isNotInstanceOf(BusinessException.class);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> client.confirmPayment(request("pk-x", "ORDER-x", 1000L)))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE));
+    }
+
+    private TossPaymentClient startClient(double errorRate, CircuitBreaker circuitBreaker) throws Exception {
+        server = new FakeTossServer(0, 0, 0.0, errorRate);
+        server.start();
+        return new TossPaymentClient(
+                new PaymentConfig().tossRestTemplate(1000, 1000),
+                circuitBreaker,
+                "test_sk",
+                server.getBaseUrl(),
+                4,
+                100
+        );
+    }
+
+    private CircuitBreaker circuitBreaker() {
+        return new CircuitBreaker("toss-test", 4, 4, 0.5, Duration.ofMinutes(1));
+    }
+
+    private TossPaymentConfirmRequestDTO request(String paymentKey, String orderId, Long amount) {
+        TossPaymentConfirmRequestDTO request = new TossPaymentConfirmRequestDTO();
+        request.setPaymentKey(paymentKey);
+        request.setOrderId(orderId);
+        request.setAmount(amount);
+        return request;
+    }
+}
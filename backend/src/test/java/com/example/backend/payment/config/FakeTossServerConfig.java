@@ -0,0 +1,28 @@
+package com.example.backend.payment.config;
+
+import com.example.backend.payment.client.FakeTossServer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 로컬 토스 페이먼츠 서버 설정
+ * toss.payments.fake.enabled=true이면 애플리케이션과 함께 로컬 토스 서버를 띄운다.
+ * toss.payments.base-url을 http://localhost:{toss.payments.fake.port}로 지정해 사용한다.
+ * 운영 jar에 포함되지 않도록 테스트 소스에 두며, 부하 테스트는 테스트 클래스패스로 실행한다. (./gradlew bootTestRun)
+ */
+@Configuration
+@ConditionalOnProperty(name = "toss.payments.fake.enabled", havingValue = "true")
+public class FakeTossServerConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public FakeTossServer fakeTossServer(
+            @Value("${toss.payments.fake.port:18089}") int port,
+            @Value("${toss.payments.fake.latency-ms:0}") long latencyMs,
+            @Value("${toss.payments.fake.reject-rate:0.0}") double rejectRate,
+            @Value("${toss.payments.fake.error-rate:0.0}") double errorRate
+    ) {
+        return new FakeTossServer(port, latencyMs, rejectRate, errorRate);
+    }
+}
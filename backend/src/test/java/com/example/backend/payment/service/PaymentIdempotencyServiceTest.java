@@ -0,0 +1,137 @@
+package com.example.backend.payment.service;
+
+import com.example.backend.payment.dto.PaymentResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("결제 요청 멱등성 테스트")
+class PaymentIdempotencyServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private PaymentIdempotencyService paymentIdempotencyService;
+
+    // Redis 대신 사용하는 저장소
+    private final Map<String, String> store = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        paymentIdempotencyService = new PaymentIdempotencyService(stringRedisTemplate, new ObjectMapper());
+        setField("lockTtlSeconds", 60L);
+        setField("resultTtlSeconds", 86400L);
+        setField("waitTimeoutMs", 5000L);
+        setField("pollIntervalMs", 10L);
+
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> store.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        lenient().when(valueOperations.get(anyString()))
+                .thenAnswer(invocation -> store.get(invocation.<String>getArgument(0)));
+        lenient().doAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        lenient().when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    String key = invocation.<List<String>>getArgument(1).get(0);
+                    return store.remove(key, invocation.<String>getArgument(2)) ? 1L : 0L;
+                });
+    }
+
+    @Test
+    @DisplayName("같은 결제 승인 요청이 동시에 들어오면 승인은 한 번만 실행되고 두 요청 모두 같은 응답을 받는다")
+    void concurrentDuplicateConfirm() throws Exception {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(2);
+        CountDownLatch start = new CountDownLatch(1);
+        Callable<PaymentResponseDTO> request = () -> {
+            ready.countDown();
+            start.await();
+            return paymentIdempotencyService.confirm("ORDER-1", "pk-1", () -> {
+                executions.incrementAndGet();
+                sleep(200);
+                return new PaymentResponseDTO("ORDER-1", "PAID");
+            });
+        };
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<PaymentResponseDTO> first = executor.submit(request);
+            Future<PaymentResponseDTO> second = executor.submit(request);
+            ready.await();
+            start.countDown();
+
+            // then
+            assertThat(List.of(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS)))
+                    .allSatisfy(response -> {
+                        assertThat(response.getOrderCode()).isEqualTo("ORDER-1");
+                        assertThat(response.getStatus()).isEqualTo("PAID");
+                    });
+            assertThat(executions.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("먼저 온 요청이 실패하면 처리 중 표시를 지워 같은 요청을 다시 처리할 수 있다")
+    void retryAfterFailure() {
+        // given
+        AtomicInteger executions = new AtomicInteger();
+
+        // when
+        assertThatThrownBy(() -> paymentIdempotencyService.confirm("ORDER-1", "pk-1", () -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("승인 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        PaymentResponseDTO response = paymentIdempotencyService.confirm("ORDER-1", "pk-1", () -> {
+            executions.incrementAndGet();
+            return new PaymentResponseDTO("ORDER-1", "PAID");
+        });
+
+        // then
+        assertThat(response.getStatus()).isEqualTo("PAID");
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    private void setField(String name, Object value) throws Exception {
+        Field field = PaymentIdempotencyService.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(paymentIdempotencyService, value);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.backend.payment.service;
+
+import com.example.backend.coupon.service.CouponUseService;
+import com.example.backend.order.entity.Order;
+import com.example.backend.order.service.OrderService;
+import com.example.backend.payment.entity.Payment;
+import com.example.backend.payment.entity.PaymentOutbox;
+import com.example.backend.payment.entity.PaymentOutboxEventType;
+import com.example.backend.payment.entity.PaymentStatus;
+import com.example.backend.payment.repository.PaymentOutboxRepository;
+import com.example.backend.payment.repository.PaymentRepository;
+import com.example.backend.settlement.service.SettlementService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("결제 후속 처리 아웃박스 테스트")
+class PaymentOutboxServiceTest {
+
+    private static final Long OUTBOX_ID = 100L;
+    private static final Long PAYMENT_ID = 1L;
+
+    @Mock
+    private PaymentOutboxRepository paymentOutboxRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private CouponUseService couponUseService;
+
+    @Mock
+    private SettlementService settlementService;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @InjectMocks
+    private PaymentOutboxService paymentOutboxService;
+
+    private Payment payment;
+
+    @BeforeEach
+    void setUp() {
+        payment = mock(Payment.class);
+        lenient().when(payment.getId()).thenReturn(PAYMENT_ID);
+        lenient().when(payment.getOrder()).thenReturn(mock(Order.class));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PaymentOutboxEventType.class, names = {"ORDER_PAID", "COUPON_USE", "SETTLEMENT_PAID"})
+    @DisplayName("결제 완료 후속 처리보다 취소가 먼저 반영됐으면 후속 처리를 건너뛰고 처리 완료로 표시한다")
+    void skipsPaidSideEffectsForCancelledPayment(PaymentOutboxEventType eventType) {
+        // given
+        PaymentOutbox outbox = givenOutbox(eventType, PaymentStatus.CANCELLED);
+
+        // when
+        paymentOutboxService.handle(OUTBOX_ID);
+
+        // then
+        assertThat(outbox.isPending()).isFalse();
+        verifyNoInteractions(orderService, couponUseService, settlementService);
+    }
+
+    @Test
+    @DisplayName("결제 취소 후속 처리는 정산 취소를 반영한다")
+    void handlesSettlementCancelled() {
+        // given
+        PaymentOutbox outbox = givenOutbox(PaymentOutboxEventType.SETTLEMENT_CANCELLED, PaymentStatus.CANCELLED);
+
+        // when
+        paymentOutboxService.handle(OUTBOX_ID);
+
+        // then
+        assertThat(outbox.isPending()).isFalse();
+        verify(settlementService).handleCancelledPayment(payment);
+        verifyNoInteractions(orderService, couponUseService);
+    }
+
+    @Test
+    @DisplayName("이미 처리된 아웃박스는 다시 처리하지 않는다")
+    void skipsProcessedOutbox() {
+        // given
+        PaymentOutbox outbox = PaymentOutbox.create(PAYMENT_ID, PaymentOutboxEventType.SETTLEMENT_PAID, LocalDateTime.now());
+        outbox.markProcessed();
+        when(paymentOutboxRepository.findByIdWithLock(OUTBOX_ID)).thenReturn(Optional.of(outbox));
+
+        // when
+        paymentOutboxService.handle(OUTBOX_ID);
+
+        // then
+        verifyNoInteractions(paymentRepository, settlementService);
+    }
+
+    private PaymentOutbox givenOutbox(PaymentOutboxEventType eventType, PaymentStatus paymentStatus) {
+        PaymentOutbox outbox = PaymentOutbox.create(PAYMENT_ID, eventType, LocalDateTime.now());
+        when(paymentOutboxRepository.findByIdWithLock(OUTBOX_ID)).thenReturn(Optional.of(outbox));
+        when(paymentRepository.findByIdWithLock(PAYMENT_ID)).thenReturn(Optional.of(payment));
+        lenient().when(payment.getStatus()).thenReturn(paymentStatus);
+        return outbox;
+    }
+}
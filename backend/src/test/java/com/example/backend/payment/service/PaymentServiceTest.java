@@ -0,0 +1,133 @@
+package com.example.backend.payment.service;
+
+import com.example.backend.payment.client.TossPaymentClient;
+import com.example.backend.payment.dto.TossPaymentConfirmResponseDTO;
+import com.example.backend.payment.entity.Payment;
+import com.example.backend.payment.entity.PaymentStatus;
+import com.example.backend.payment.repository.PaymentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("미확정 결제 복구 테스트")
+class PaymentServiceTest {
+
+    @Mock
+    private TossPaymentClient tossPaymentClient;
+
+    @Mock
+    private PaymentAttemptService paymentAttemptService;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentOutboxService paymentOutboxService;
+
+    @InjectMocks
+    private PaymentService paymentService;
+
+    @Test
+    @DisplayName("토스에서 DONE이면 결제를 확정한다")
+    void completesWhenDone() {
+        // given
+        givenStalePayment(1L, "pk-1");
+        when(tossPaymentClient.getPayment("pk-1")).thenReturn(tossPayment("DONE"));
+
+        // when
+        int recovered = paymentService.recoverPendingPayments();
+
+        // then
+        assertThat(recovered).isEqualTo(1);
+        verify(paymentAttemptService).complete(1L);
+        verify(paymentAttemptService, never()).fail(any());
+    }
+
+    @Test
+    @DisplayName("토스에 결제가 없으면(404 NOT_FOUND_PAYMENT) 실패 처리한다")
+    void failsWhenNotFound() {
+        // given
+        givenStalePayment(1L, "pk-1");
+        when(tossPaymentClient.getPayment("pk-1"))
+                .thenThrow(pgError(HttpStatus.NOT_FOUND, "{\"code\":\"NOT_FOUND_PAYMENT\"}"));
+
+        // when
+        int recovered = paymentService.recoverPendingPayments();
+
+        // then
+        assertThat(recovered).isEqualTo(1);
+        verify(paymentAttemptService).fail(1L);
+    }
+
+    @Test
+    @DisplayName("인증 오류(401)나 요청 제한(429)이면 결제 상태를 알 수 없으므로 PENDING으로 둔다")
+    void keepsPendingOnUnknownError() {
+        // given
+        givenStalePayment(1L, "pk-1");
+        when(tossPaymentClient.getPayment("pk-1"))
+                .thenThrow(pgError(HttpStatus.UNAUTHORIZED, "{\"code\":\"UNAUTHORIZED_KEY\"}"))
+                .thenThrow(pgError(HttpStatus.TOO_MANY_REQUESTS, "{\"code\":\"TOO_MANY_REQUESTS\"}"));
+
+        // when
+        int first = paymentService.recoverPendingPayments();
+        int second = paymentService.recoverPendingPayments();
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        verifyNoInteractions(paymentAttemptService);
+    }
+
+    @Test
+    @DisplayName("토스에서도 아직 진행 중이면 다음 복구 때 다시 조회한다")
+    void keepsPendingWhileInProgress() {
+        // given
+        givenStalePayment(1L, "pk-1");
+        when(tossPaymentClient.getPayment("pk-1")).thenReturn(tossPayment("IN_PROGRESS"));
+
+        // when
+        int recovered = paymentService.recoverPendingPayments();
+
+        // then
+        assertThat(recovered).isZero();
+        verifyNoInteractions(paymentAttemptService);
+    }
+
+    private void givenStalePayment(Long paymentId, String paymentKey) {
+        Payment payment = mock(Payment.class);
+        lenient().when(payment.getId()).thenReturn(paymentId);
+        lenient().when(payment.getPaymentKey()).thenReturn(paymentKey);
+        when(paymentRepository.findStalePayments(eq(PaymentStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(payment));
+    }
+
+    private TossPaymentConfirmResponseDTO tossPayment(String status) {
+        TossPaymentConfirmResponseDTO response = new TossPaymentConfirmResponseDTO();
+        response.setStatus(status);
+        return response;
+    }
+
+    // TossPaymentClient는 HTTP 4xx 오류를 원인으로 감싼 RuntimeException을 던진다.
+    private RuntimeException pgError(HttpStatus status, String body) {
+        HttpClientErrorException cause = HttpClientErrorException.create(
+                status, status.getReasonPhrase(), new HttpHeaders(), body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        return new RuntimeException("결제 조회에 실패했습니다: " + body, cause);
+    }
+}